@@ -0,0 +1,54 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks, accepting the standard JMH command-line options. Unless they are overridden
+ * on the command-line, allocation rates are measured with the GC profiler, and results are written
+ * as JSON to <code>target/jmh-result.json</code>, so that they can be compared across runs.
+ */
+public final class BenchmarkRunner {
+
+  public static void main(final String[] args) throws Exception {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp()) {
+      commandLineOptions.showHelp();
+      return;
+    }
+    if (commandLineOptions.shouldList()) {
+      new Runner(commandLineOptions).list();
+      return;
+    }
+
+    final ChainedOptionsBuilder optionsBuilder =
+        new OptionsBuilder().parent(commandLineOptions);
+    if (commandLineOptions.getProfilers().isEmpty()) {
+      optionsBuilder.addProfiler(GCProfiler.class);
+    }
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      optionsBuilder.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      optionsBuilder.result("target/jmh-result.json");
+    }
+
+    new Runner(optionsBuilder.build()).run();
+  }
+
+  private BenchmarkRunner() {
+    // Prevent instantiation
+  }
+}
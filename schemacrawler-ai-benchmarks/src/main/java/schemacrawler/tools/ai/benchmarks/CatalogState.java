@@ -0,0 +1,45 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared benchmark state, with a synthetic catalog that is created once per trial. The sizes can be
+ * overridden on the command-line, for example with <code>-p tableCount=1000</code>.
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+
+  @Param({"1000", "10000", "100000"})
+  public int tableCount;
+
+  @Param({"3"})
+  public int foreignKeyFanOut;
+
+  public SyntheticCatalog syntheticCatalog;
+
+  @Setup(Level.Trial)
+  public void createCatalog() throws Exception {
+    syntheticCatalog = SyntheticCatalog.create(tableCount, foreignKeyFanOut);
+  }
+
+  @TearDown(Level.Trial)
+  public void dropCatalog() throws Exception {
+    if (syntheticCatalog != null) {
+      syntheticCatalog.close();
+      syntheticCatalog = null;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.benchmarks;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.tools.ai.model.AdditionalTableDetails;
+import schemacrawler.tools.ai.model.CatalogDocument;
+import schemacrawler.tools.ai.model.CompactCatalogBuilder;
+import schemacrawler.tools.ai.model.CompactERModelBuilder;
+import schemacrawler.tools.ai.model.EntityDocument;
+
+/** Measures building of the compact catalog and ER model documents. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DocumentBuilderBenchmark {
+
+  @Benchmark
+  public CatalogDocument compactCatalog(final CatalogState state) {
+    final SyntheticCatalog syntheticCatalog = state.syntheticCatalog;
+    return CompactCatalogBuilder.builder(
+            syntheticCatalog.getCatalog(), syntheticCatalog.getERModel())
+        .build();
+  }
+
+  @Benchmark
+  public CatalogDocument compactCatalogSequential(final CatalogState state) {
+    final SyntheticCatalog syntheticCatalog = state.syntheticCatalog;
+    return CompactCatalogBuilder.builder(
+            syntheticCatalog.getCatalog(), syntheticCatalog.getERModel())
+        .withParallelThreshold(Integer.MAX_VALUE)
+        .build();
+  }
+
+  @Benchmark
+  public CatalogDocument compactCatalogWithDetails(final CatalogState state) {
+    final SyntheticCatalog syntheticCatalog = state.syntheticCatalog;
+    return CompactCatalogBuilder.builder(
+            syntheticCatalog.getCatalog(), syntheticCatalog.getERModel())
+        .withAdditionalTableDetails(EnumSet.allOf(AdditionalTableDetails.class))
+        .build();
+  }
+
+  @Benchmark
+  public Collection<EntityDocument> compactERModel(final CatalogState state) {
+    return CompactERModelBuilder.builder(state.syntheticCatalog.getERModel()).build();
+  }
+}
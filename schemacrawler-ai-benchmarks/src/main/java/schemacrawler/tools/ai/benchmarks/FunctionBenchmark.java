@@ -0,0 +1,107 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.tools.ai.tools.FunctionCallback;
+import schemacrawler.tools.ai.tools.FunctionDefinition;
+import schemacrawler.tools.ai.tools.FunctionDefinitionRegistry;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
+import schemacrawler.tools.ai.tools.FunctionParameters;
+import schemacrawler.tools.ai.tools.FunctionReturn;
+
+/**
+ * Measures function executors on their own, and end-to-end function calls through the function
+ * callback, including parsing of arguments and serialization of results. Functions are called with
+ * their default arguments.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FunctionBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class FunctionState {
+
+    @Param({
+      "about_database",
+      "describe_entities",
+      "describe_relationships",
+      "describe_routines",
+      "describe_tables",
+      "list",
+      "list_across_tables"
+    })
+    public String functionName;
+
+    @Param({"{}"})
+    public String arguments;
+
+    FunctionDefinition<?> functionDefinition;
+    FunctionCallback<?> functionCallback;
+
+    @Setup(Level.Trial)
+    public void lookupFunction(final CatalogState state) {
+      functionDefinition =
+          FunctionDefinitionRegistry.getFunctionDefinitionRegistry()
+              .lookupFunctionDefinition(functionName)
+              .orElseThrow(
+                  () ->
+                      new IllegalArgumentException(
+                          "Unknown function <%s>".formatted(functionName)));
+      functionCallback =
+          new FunctionCallback<>(
+              functionDefinition,
+              state.syntheticCatalog.getCatalog(),
+              state.syntheticCatalog.getERModel());
+    }
+  }
+
+  private static <P extends FunctionParameters> FunctionReturn call(
+      final FunctionDefinition<P> functionDefinition, final SyntheticCatalog syntheticCatalog)
+      throws Exception {
+    final FunctionExecutor<P> executor = functionDefinition.newExecutor();
+    executor.configure(functionDefinition.newParameters());
+    executor.initialize();
+    executor.setCatalog(syntheticCatalog.getCatalog());
+    executor.setERModel(syntheticCatalog.getERModel());
+    if (executor.usesConnection()) {
+      executor.setConnectionSource(syntheticCatalog.getConnectionSource());
+    }
+    return executor.call();
+  }
+
+  @Benchmark
+  public String callback(final CatalogState state, final FunctionState function) {
+    return function
+        .functionCallback
+        .execute(function.arguments, state.syntheticCatalog.getConnectionSource())
+        .get();
+  }
+
+  @Benchmark
+  public FunctionReturn executor(final CatalogState state, final FunctionState function)
+      throws Exception {
+    return call(function.functionDefinition, state.syntheticCatalog);
+  }
+}
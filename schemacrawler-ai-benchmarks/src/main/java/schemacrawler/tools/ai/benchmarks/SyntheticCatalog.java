@@ -0,0 +1,161 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.ermodel.model.ERModel;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Creates an in-memory HSQLDB database with a configurable number of tables and foreign key
+ * fan-out, and crawls it into a catalog and ER model. Tables are spread over schemas of at most
+ * 1,000 tables each, and every table references up to the requested number of randomly chosen
+ * earlier tables, so the foreign key graph is acyclic and the same for every run.
+ */
+public final class SyntheticCatalog implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(SyntheticCatalog.class.getCanonicalName());
+
+  private static final int TABLES_PER_SCHEMA = 1_000;
+  private static final long SEED = 17L;
+  private static final AtomicInteger databaseCounter = new AtomicInteger();
+
+  public static SyntheticCatalog create(final int tableCount, final int foreignKeyFanOut)
+      throws SQLException {
+    if (tableCount <= 0) {
+      throw new IllegalArgumentException("Table count must be positive");
+    }
+    if (foreignKeyFanOut < 0) {
+      throw new IllegalArgumentException("Foreign key fan-out cannot be negative");
+    }
+
+    final String url =
+        "jdbc:hsqldb:mem:benchmark%d;shutdown=true".formatted(databaseCounter.incrementAndGet());
+    final Connection connection = DriverManager.getConnection(url, "SA", "");
+    try {
+      createSchema(connection, tableCount, foreignKeyFanOut);
+      return new SyntheticCatalog(connection);
+    } catch (final SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+  }
+
+  private static void createSchema(
+      final Connection connection, final int tableCount, final int foreignKeyFanOut)
+      throws SQLException {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Creating synthetic database with <%d> tables and foreign key fan-out of <%d>",
+            tableCount, foreignKeyFanOut));
+
+    final Random random = new Random(SEED);
+    try (final Statement statement = connection.createStatement()) {
+      for (int i = 0; i < tableCount; i++) {
+        if (i % TABLES_PER_SCHEMA == 0) {
+          statement.execute("CREATE SCHEMA %s".formatted(schemaName(i)));
+        }
+
+        final StringBuilder ddl = new StringBuilder();
+        ddl.append("CREATE TABLE %s (".formatted(tableName(i)))
+            .append("ID INTEGER NOT NULL PRIMARY KEY, ")
+            .append("NAME VARCHAR(100) NOT NULL, ")
+            .append("DESCRIPTION VARCHAR(1000), ")
+            .append("AMOUNT DECIMAL(12, 2), ")
+            .append("CREATED_AT TIMESTAMP");
+        final int references = Math.min(i, foreignKeyFanOut);
+        for (int j = 0; j < references; j++) {
+          ddl.append(", REF_%d_ID INTEGER".formatted(j + 1));
+        }
+        for (int j = 0; j < references; j++) {
+          // Only reference earlier tables, so the graph has no cycles
+          final int referencedTable = random.nextInt(i);
+          ddl.append(
+              ", CONSTRAINT FK_%d_%d FOREIGN KEY (REF_%d_ID) REFERENCES %s (ID)"
+                  .formatted(i, j + 1, j + 1, tableName(referencedTable)));
+        }
+        ddl.append(")");
+        statement.execute(ddl.toString());
+        statement.execute("CREATE INDEX IDX_%d_NAME ON %s (NAME)".formatted(i, tableName(i)));
+      }
+    }
+  }
+
+  private static String schemaName(final int tableNumber) {
+    return "BENCH_%03d".formatted(tableNumber / TABLES_PER_SCHEMA);
+  }
+
+  private static String tableName(final int tableNumber) {
+    return "%s.T%06d".formatted(schemaName(tableNumber), tableNumber);
+  }
+
+  private final Connection connection;
+  private final DatabaseConnectionSource connectionSource;
+  private final Catalog catalog;
+  private final ERModel erModel;
+
+  private SyntheticCatalog(final Connection connection) {
+    this.connection = requireNonNull(connection, "No connection provided");
+    connectionSource = DatabaseConnectionSources.fromConnection(connection);
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule(".*\\.BENCH_\\d+"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    catalog = SchemaCrawlerUtility.getCatalog(connectionSource, schemaCrawlerOptions);
+    erModel = SchemaCrawlerUtility.buildERModel(catalog);
+  }
+
+  @Override
+  public void close() throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    } finally {
+      connection.close();
+    }
+  }
+
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  public DatabaseConnectionSource getConnectionSource() {
+    return connectionSource;
+  }
+
+  public ERModel getERModel() {
+    return erModel;
+  }
+}
@@ -28,7 +28,10 @@ module us.fatehi.schemacrawler.ai_core {
       schemacrawler.tools.ai.functions.ListAcrossTablesFunctionDefinition,
       schemacrawler.tools.ai.functions.DiagramFunctionDefinition,
       schemacrawler.tools.ai.functions.AboutDatabaseFunctionDefinition,
-      schemacrawler.tools.ai.functions.TableSampleFunctionDefinition;
+      schemacrawler.tools.ai.functions.TableSampleFunctionDefinition,
+      schemacrawler.tools.ai.functions.SearchSchemaFunctionDefinition,
+      schemacrawler.tools.ai.functions.FindJoinPathFunctionDefinition,
+      schemacrawler.tools.ai.functions.ImpactAnalysisFunctionDefinition;
 
   // Export only the public API packages
   exports schemacrawler.tools.ai.tools;
@@ -15,8 +15,6 @@ import java.util.List;
 import schemacrawler.loader.catalog.summary.CatalogStats.SchemaStats;
 import schemacrawler.loader.catalog.summary.CatalogStatsUtility;
 import schemacrawler.schema.Catalog;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.ai.tools.JsonFunctionReturn;
 import schemacrawler.tools.ai.tools.NoParameters;
 import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
@@ -35,20 +33,12 @@ public final class AboutDatabaseFunctionExecutor
 
   @Override
   public JsonFunctionReturn call() throws Exception {
-    // No need to refilter, but leave this boilerplate
-    // refilterCatalog();
-
     final JsonNode serverInfo = createServerInfoArray();
     return new JsonFunctionReturn(serverInfo)
         .withSummary(
             "Returned %n%s".formatted(getCatalog().getDatabaseInfo().getDatabaseProductName()));
   }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
-  }
-
   private JsonNode createServerInfoArray() {
 
     final ObjectNode databaseInfo = mapper.createObjectNode();
@@ -16,8 +16,6 @@ import schemacrawler.ermodel.model.ERModel;
 import schemacrawler.ermodel.model.EntityType;
 import schemacrawler.ermodel.model.RelationshipCardinality;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.ai.functions.DescribeEntitiesFunctionParameters.EntityKind;
 import schemacrawler.tools.ai.model.CompactERModelBuilder;
 import schemacrawler.tools.ai.model.Document;
@@ -35,8 +33,6 @@ public final class DescribeEntitiesFunctionExecutor
 
   @Override
   public JsonFunctionReturn call() throws Exception {
-    refilterCatalog();
-
     final EntityKind entityKind = commandOptions.entityKind();
     final InclusionRule inclusionRule = makeInclusionRule(commandOptions.entityName());
     final Collection<Document> documents = new ArrayList<>();
@@ -71,11 +67,6 @@ public final class DescribeEntitiesFunctionExecutor
         .withSummary("Returned %d entities".formatted(documents.size()));
   }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
-  }
-
   private ArrayNode createDocumentsArray(final Collection<Document> documents) {
     final ArrayNode list = mapper.createArrayNode();
     if (documents == null || documents.isEmpty()) {
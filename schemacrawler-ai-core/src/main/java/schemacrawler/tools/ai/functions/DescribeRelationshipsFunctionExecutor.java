@@ -14,8 +14,6 @@ import java.util.Collection;
 import schemacrawler.ermodel.model.ERModel;
 import schemacrawler.ermodel.model.RelationshipCardinality;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.ai.model.CompactERModelBuilder;
 import schemacrawler.tools.ai.model.RelationshipDocument;
 import schemacrawler.tools.ai.tools.JsonFunctionReturn;
@@ -32,8 +30,6 @@ public final class DescribeRelationshipsFunctionExecutor
 
   @Override
   public JsonFunctionReturn call() throws Exception {
-    refilterCatalog();
-
     final RelationshipCardinality cardinality = commandOptions.cardinality().cardinality();
     final InclusionRule inclusionRule = makeInclusionRule(commandOptions.relationshipName());
     final ERModel erModel = getERModel();
@@ -49,11 +45,6 @@ public final class DescribeRelationshipsFunctionExecutor
         .withSummary("Returned %d relationships".formatted(documents.size()));
   }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
-  }
-
   private ArrayNode createRelationshipsArray(
       final Collection<RelationshipDocument> relationshipDocuments) {
     final ArrayNode list = mapper.createArrayNode();
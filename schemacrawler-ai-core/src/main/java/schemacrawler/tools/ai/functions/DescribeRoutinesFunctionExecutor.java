@@ -13,20 +13,14 @@ import static schemacrawler.tools.ai.functions.DescribeRoutinesFunctionParameter
 import java.util.ArrayList;
 import java.util.Collection;
 import schemacrawler.ermodel.model.ERModel;
-import schemacrawler.inclusionrule.ExcludeAll;
-import schemacrawler.inclusionrule.IncludeAll;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schema.Catalog;
-import schemacrawler.schemacrawler.GrepOptionsBuilder;
-import schemacrawler.schemacrawler.LimitOptionsBuilder;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.ai.functions.DescribeRoutinesFunctionParameters.RoutineDescriptionScope;
 import schemacrawler.tools.ai.model.AdditionalRoutineDetails;
 import schemacrawler.tools.ai.model.CatalogDocument;
 import schemacrawler.tools.ai.model.CompactCatalogBuilder;
 import schemacrawler.tools.ai.tools.JsonFunctionReturn;
 import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import schemacrawler.tools.ai.tools.base.CatalogView;
 import us.fatehi.utility.property.PropertyName;
 
 public final class DescribeRoutinesFunctionExecutor
@@ -38,35 +32,25 @@ public final class DescribeRoutinesFunctionExecutor
 
   @Override
   public JsonFunctionReturn call() throws Exception {
-    refilterCatalog();
+    final CatalogView catalogView = createCatalogView();
 
     final Collection<AdditionalRoutineDetails> routineDetails = getRoutineDetails();
     final ERModel erModel = getERModel();
-    final Catalog catalog = getCatalog();
     final CatalogDocument catalogDocument =
-        CompactCatalogBuilder.builder(catalog, erModel)
+        CompactCatalogBuilder.builder(catalogView.catalog(), erModel)
+            .withTables(catalogView.tables())
+            .withRoutines(catalogView.routines())
             .withAdditionalRoutineDetails(routineDetails)
             .build();
 
     return new JsonFunctionReturn(catalogDocument)
-        .withSummary("Returned %d routines".formatted(catalog.getRoutines().size()));
+        .withSummary("Returned %d routines".formatted(catalogView.routines().size()));
   }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    final LimitOptionsBuilder limitOptionsBuilder =
-        LimitOptionsBuilder.builder()
-            .includeSynonyms(new ExcludeAll())
-            .includeSequences(new ExcludeAll())
-            .includeRoutines(new IncludeAll())
-            .includeTables(new ExcludeAll());
+  private CatalogView createCatalogView() {
     final InclusionRule grepRoutinesParametersPattern =
         makeInclusionRule(commandOptions.routineName());
-    final GrepOptionsBuilder grepOptionsBuilder =
-        GrepOptionsBuilder.builder().includeGreppedRoutineParameters(grepRoutinesParametersPattern);
-    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-        .withLimitOptions(limitOptionsBuilder.toOptions())
-        .withGrepOptions(grepOptionsBuilder.toOptions());
+    return catalogViewBuilder().includeGreppedRoutines(grepRoutinesParametersPattern).build();
   }
 
   private Collection<AdditionalRoutineDetails> getRoutineDetails() {
@@ -38,13 +38,27 @@ public record DescribeRoutinesFunctionParameters(
             Parameters, return types, and remarks or comments are always returned.
             """)
         @JsonProperty(required = false)
-        Collection<RoutineDescriptionScope> descriptionScope)
+        Collection<RoutineDescriptionScope> descriptionScope,
+    @JsonPropertyDescription(
+            """
+            Approximate maximum number of tokens to return.
+            If the results are larger, they are cut short, and the response
+            has a "truncated" marker with a hint on how to get the rest.
+            If not specified, all results are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer maxTokens)
     implements FunctionParameters {
 
   public DescribeRoutinesFunctionParameters() {
     this(null, null);
   }
 
+  public DescribeRoutinesFunctionParameters(
+      final String routineName, final Collection<RoutineDescriptionScope> descriptionScope) {
+    this(routineName, descriptionScope, null);
+  }
+
   public enum RoutineDescriptionScope {
     DEFAULT(null),
     REFERENCED_OBJECTS(AdditionalRoutineDetails.REFERENCED_OBJECTS),
@@ -71,6 +85,11 @@ public record DescribeRoutinesFunctionParameters(
     }
   }
 
+  @Override
+  public int tokenBudget() {
+    return maxTokens == null ? 0 : Math.max(0, maxTokens);
+  }
+
   @Override
   public String toString() {
     return ParameterUtility.parametersToString(this);
@@ -10,23 +10,26 @@ package schemacrawler.tools.ai.functions;
 
 import static schemacrawler.tools.ai.functions.DescribeTablesFunctionParameters.TableDescriptionScope.DEFAULT;
 
+import static java.util.Objects.requireNonNullElse;
+
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import schemacrawler.ermodel.model.ERModel;
-import schemacrawler.inclusionrule.ExcludeAll;
-import schemacrawler.inclusionrule.IncludeAll;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schema.Catalog;
-import schemacrawler.schemacrawler.GrepOptionsBuilder;
-import schemacrawler.schemacrawler.LimitOptionsBuilder;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schema.Table;
 import schemacrawler.tools.ai.functions.DescribeTablesFunctionParameters.TableDescriptionScope;
 import schemacrawler.tools.ai.model.AdditionalTableDetails;
 import schemacrawler.tools.ai.model.CatalogDocument;
 import schemacrawler.tools.ai.model.CompactCatalogBuilder;
+import schemacrawler.tools.ai.model.OutputEncoding;
 import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.TableFragmentStore;
 import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import schemacrawler.tools.ai.tools.base.CatalogView;
+import schemacrawler.tools.ai.tools.base.Pagination;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
 import us.fatehi.utility.property.PropertyName;
 
 public final class DescribeTablesFunctionExecutor
@@ -38,36 +41,64 @@ public final class DescribeTablesFunctionExecutor
 
   @Override
   public JsonFunctionReturn call() throws Exception {
-    refilterCatalog();
+    final CatalogView catalogView = createCatalogView();
+
+    final Pagination pagination =
+        Pagination.from(
+            commandOptions.limit(),
+            commandOptions.offset(),
+            commandOptions.cursor(),
+            getCatalogVersion(),
+            commandOptions.tableName(),
+            commandOptions.descriptionScope(),
+            commandOptions.outputEncoding());
+    final List<Table> tables = pagination.page(catalogView.tables());
 
     final Collection<AdditionalTableDetails> tableDetails = getTableDetails();
     final ERModel erModel = getERModel();
-    final Catalog catalog = getCatalog();
-    final CatalogDocument catalogDocument =
-        CompactCatalogBuilder.builder(catalog, erModel)
-            .withAdditionalTableDetails(tableDetails)
-            .build();
+    final CompactCatalogBuilder catalogBuilder =
+        CompactCatalogBuilder.builder(catalogView.catalog(), erModel)
+            .withRoutines(catalogView.routines())
+            .withAdditionalTableDetails(tableDetails);
 
-    return new JsonFunctionReturn(catalogDocument)
-        .withSummary("Returned %d tables".formatted(catalog.getTables().size()));
-  }
+    final OutputEncoding outputEncoding =
+        requireNonNullElse(commandOptions.outputEncoding(), OutputEncoding.JSON);
+    final TableFragmentStore tableFragments = getTableFragments();
+    final ObjectNode catalogNode;
+    if (tableFragments != null) {
+      // Put the tables together from serialized table documents, which are kept for the catalog
+      final CatalogDocument routinesDocument = catalogBuilder.withTables(List.of()).build();
+      catalogNode =
+          tableFragments.toCatalogNode(routinesDocument, tables, tableDetails, outputEncoding);
+      if (!pagination.isPaged()) {
+        return new JsonFunctionReturn(catalogNode)
+            .withSummary("Returned %d tables".formatted(tables.size()));
+      }
+    } else {
+      final CatalogDocument catalogDocument = catalogBuilder.withTables(tables).build();
+      if (!pagination.isPaged() && outputEncoding == OutputEncoding.JSON) {
+        return new JsonFunctionReturn(catalogDocument)
+            .withSummary("Returned %d tables".formatted(tables.size()));
+      }
+      catalogNode = catalogDocument.toObjectNode();
+      for (final JsonNode tableNode : catalogNode.path("tables")) {
+        outputEncoding.encodeLists((ObjectNode) tableNode);
+      }
+      if (!pagination.isPaged()) {
+        return new JsonFunctionReturn(catalogNode)
+            .withSummary("Returned %d tables".formatted(tables.size()));
+      }
+    }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    final LimitOptionsBuilder limitOptionsBuilder =
-        LimitOptionsBuilder.builder()
-            .includeSynonyms(new ExcludeAll())
-            .includeSequences(new ExcludeAll())
-            .includeRoutines(new ExcludeAll())
-            .includeTables(new IncludeAll());
+    pagination.addPageDetails(catalogNode, catalogView.tables().size());
+    return new JsonFunctionReturn(catalogNode)
+        .withSummary(
+            "Returned %d of %d tables".formatted(tables.size(), catalogView.tables().size()));
+  }
 
+  private CatalogView createCatalogView() {
     final InclusionRule grepTablesPattern = makeInclusionRule(commandOptions.tableName());
-    final GrepOptionsBuilder grepOptionsBuilder =
-        GrepOptionsBuilder.builder().includeGreppedTables(grepTablesPattern);
-
-    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-        .withLimitOptions(limitOptionsBuilder.toOptions())
-        .withGrepOptions(grepOptionsBuilder.toOptions());
+    return catalogViewBuilder().includeTables(grepTablesPattern).build();
   }
 
   private Collection<AdditionalTableDetails> getTableDetails() {
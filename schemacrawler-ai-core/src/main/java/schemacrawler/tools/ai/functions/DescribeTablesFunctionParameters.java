@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import java.util.Collection;
 import java.util.Collections;
 import schemacrawler.tools.ai.model.AdditionalTableDetails;
+import schemacrawler.tools.ai.model.OutputEncoding;
 import schemacrawler.tools.ai.tools.FunctionParameters;
 import schemacrawler.tools.ai.tools.base.ParameterUtility;
 import tools.jackson.databind.PropertyNamingStrategies;
@@ -43,13 +44,62 @@ public record DescribeTablesFunctionParameters(
             The results could be large.
             """)
         @JsonProperty(required = false)
-        Collection<TableDescriptionScope> descriptionScope)
+        Collection<TableDescriptionScope> descriptionScope,
+    @JsonPropertyDescription(
+            """
+            Maximum number of results to return in one page.
+            If not specified, all results are returned.
+            When results are paged, the total number of results is returned
+            as "total_count", and a "next_cursor" is returned if there are
+            more results.
+            """)
+        @JsonProperty(required = false)
+        Integer limit,
+    @JsonPropertyDescription(
+            """
+            Number of results to skip before the first result in the page.
+            Ignored if a cursor is provided.
+            """)
+        @JsonProperty(required = false)
+        Integer offset,
+    @JsonPropertyDescription(
+            """
+            Cursor returned as "next_cursor" by an earlier call with the same
+            parameters, to get the next page of results.
+            """)
+        @JsonProperty(required = false)
+        String cursor,
+    @JsonPropertyDescription(
+            """
+            Approximate maximum number of tokens to return.
+            If the results are larger, they are cut short, and the response
+            has a "truncated" marker with a hint on how to get the rest.
+            If not specified, all results are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer maxTokens,
+    @JsonPropertyDescription(
+            """
+            How to encode lists of columns, indexes, foreign keys and other
+            table details. JSON returns each item as an object with named fields.
+            TABULAR returns each list as an object with "fields", which is a header
+            of field names, and "rows" of values in the same order as the fields,
+            which is more compact for large results.
+            If not specified, JSON is used.
+            """)
+        @JsonProperty(defaultValue = "JSON", required = false)
+        OutputEncoding outputEncoding)
     implements FunctionParameters {
 
   public DescribeTablesFunctionParameters() {
     this(null, null);
   }
 
+  public DescribeTablesFunctionParameters(
+      final String tableName, final Collection<TableDescriptionScope> descriptionScope) {
+    this(tableName, descriptionScope, null, null, null, null, null);
+  }
+
   public enum TableDescriptionScope {
     DEFAULT(null),
     REFERENCED_TABLES(AdditionalTableDetails.REFERENCED_TABLES),
@@ -79,6 +129,11 @@ public record DescribeTablesFunctionParameters(
     }
   }
 
+  @Override
+  public int tokenBudget() {
+    return maxTokens == null ? 0 : Math.max(0, maxTokens);
+  }
+
   @Override
   public String toString() {
     return ParameterUtility.parametersToString(this);
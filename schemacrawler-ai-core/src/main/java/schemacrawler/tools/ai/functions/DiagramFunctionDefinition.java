@@ -17,6 +17,8 @@ public final class DiagramFunctionDefinition
   public String getDescription() {
     return """
     Generates a database diagram in the specified format.
+    For large schemas, the tables can be split into clusters of related tables,
+    and a diagram generated for one cluster at a time.
     """
         .stripIndent()
         .replace("\n", " ")
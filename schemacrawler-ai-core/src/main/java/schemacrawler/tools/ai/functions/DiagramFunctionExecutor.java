@@ -8,59 +8,144 @@
 
 package schemacrawler.tools.ai.functions;
 
-import java.nio.file.Path;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schemacrawler.FilterOptionsBuilder;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.GrepOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.tools.ai.functions.DiagramFunctionParameters.DiagramType;
+import schemacrawler.tools.ai.tools.DiagramStore;
+import schemacrawler.tools.ai.tools.DiagramStore.DiagramKey;
+import schemacrawler.tools.ai.tools.ForeignKeyGraph;
 import schemacrawler.tools.ai.tools.FunctionReturn;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.NoResultsFunctionReturn;
+import schemacrawler.tools.ai.tools.TextFunctionReturn;
 import schemacrawler.tools.ai.tools.base.AbstractExecutableFunctionExecutor;
 import schemacrawler.tools.ai.tools.base.ExecutionParameters;
+import schemacrawler.tools.ai.tools.base.FullNameInclusionRule;
+import schemacrawler.tools.ai.tools.base.OutputSink;
 import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.ConfigUtility;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
 import us.fatehi.utility.property.PropertyName;
 
 public final class DiagramFunctionExecutor
     extends AbstractExecutableFunctionExecutor<DiagramFunctionParameters> {
 
+  private DiagramStore diagrams;
+  private List<Table> selectedTables;
+
   protected DiagramFunctionExecutor(final PropertyName functionName) {
     super(functionName);
   }
 
   @Override
-  public FunctionReturn call() {
+  public FunctionReturn call() throws Exception {
+    // Tables are selected on the foreign key graph, which is built once for each catalog snapshot
+    final ForeignKeyGraph foreignKeyGraph = getCatalogIndex().foreignKeyGraph();
+    final int maxClusterSize = commandOptions.maxClusterSize();
+    if (maxClusterSize > 0) {
+      final List<List<Table>> clusters = foreignKeyGraph.partition(maxClusterSize);
+      final int cluster = commandOptions.cluster();
+      if (cluster == 0) {
+        return clusterIndex(clusters, maxClusterSize);
+      }
+      if (cluster > clusters.size()) {
+        throw new ExecutionRuntimeException(
+            "Cluster <%d> not found - there are <%d> clusters of up to <%d> tables"
+                .formatted(cluster, clusters.size(), maxClusterSize));
+      }
+      selectedTables = clusters.get(cluster - 1);
+    } else {
+      final InclusionRule tableInclusionRule = makeInclusionRule(commandOptions.tableName());
+      final List<Table> matchedTables = new ArrayList<>();
+      for (final Table table : getCatalog().getTables()) {
+        if (tableInclusionRule.test(table.getFullName())) {
+          matchedTables.add(table);
+        }
+      }
+      final int depth = commandOptions.depth();
+      selectedTables =
+          foreignKeyGraph.related(
+              matchedTables,
+              commandOptions.includeChildTables() ? depth : 0,
+              commandOptions.includeReferencedTables() ? depth : 0);
+    }
+    if (selectedTables.isEmpty()) {
+      return new NoResultsFunctionReturn();
+    }
+
     final DiagramType diagramType = commandOptions.diagramType();
     final Config additionalConfig = createAdditionalConfig(diagramType);
     final ExecutionParameters executionParameters =
         new ExecutionParameters(
             diagramType.getCommand(), additionalConfig, diagramType.getOutputFormatValue());
-    final Path outputFilePath = execute(executionParameters);
-    return returnText(outputFilePath, diagramType.getMetadata());
-  }
+    if (diagrams == null || !diagrams.isForCatalog(getCatalog())) {
+      final OutputSink outputSink = execute(executionParameters);
+      return returnText(outputSink, diagramType.getMetadata());
+    }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    final FilterOptionsBuilder filterOptionsBuilder = FilterOptionsBuilder.builder();
-    if (commandOptions.includeChildTables()) {
-      filterOptionsBuilder.childTableFilterDepth(1);
+    // Requests that select the same tables share a rendered diagram
+    final List<String> tableNames = new ArrayList<>();
+    for (final Table table : selectedTables) {
+      tableNames.add(table.getFullName());
     }
-    if (commandOptions.includeReferencedTables()) {
-      filterOptionsBuilder.parentTableFilterDepth(1);
+    Collections.sort(tableNames);
+    final DiagramKey key = new DiagramKey(diagramType.name(), tableNames);
+    final String diagram = diagrams.diagram(key, () -> render(executionParameters));
+    if (diagram.isEmpty()) {
+      return new NoResultsFunctionReturn();
     }
+    return new TextFunctionReturn(diagram, diagramType.getMetadata());
+  }
+
+  @Override
+  public void setDiagrams(final DiagramStore diagrams) {
+    this.diagrams = diagrams;
+  }
 
-    final InclusionRule grepTablesInclusionRule = makeInclusionRule(commandOptions.tableName());
+  @Override
+  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
+    // Related tables were already added from the foreign key graph
+    final InclusionRule grepTablesInclusionRule = new FullNameInclusionRule(selectedTables);
     final GrepOptionsBuilder grepOptionsBuilder =
         GrepOptionsBuilder.builder().includeGreppedTables(grepTablesInclusionRule);
 
     final SchemaCrawlerOptions schemaCrawlerOptions =
         SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-            .withFilterOptions(filterOptionsBuilder.build())
             .withGrepOptions(grepOptionsBuilder.toOptions());
     return schemaCrawlerOptions;
   }
 
+  private JsonFunctionReturn clusterIndex(
+      final List<List<Table>> clusters, final int maxClusterSize) {
+    final ObjectNode resultsNode = mapper.createObjectNode();
+    resultsNode.put("max_cluster_size", maxClusterSize);
+    final ArrayNode clustersNode = resultsNode.putArray("clusters");
+    for (int i = 0; i < clusters.size(); i++) {
+      final List<Table> clusterTables = clusters.get(i);
+      final ObjectNode clusterNode = clustersNode.addObject();
+      clusterNode.put("cluster", i + 1);
+      clusterNode.put("table_count", clusterTables.size());
+      final ArrayNode tablesNode = clusterNode.putArray("tables");
+      for (final Table table : clusterTables) {
+        tablesNode.add(table.getFullName());
+      }
+    }
+    return new JsonFunctionReturn(resultsNode)
+        .withSummary(
+            "Split tables into %d clusters - call again with a cluster number for a diagram"
+                .formatted(clusters.size()));
+  }
+
   private Config createAdditionalConfig(final DiagramType diagramType) {
     final Config additionalConfig = ConfigUtility.newConfig();
     if (diagramType == null || diagramType == DiagramType.GRAPHVIZ) {
@@ -72,4 +157,16 @@ public final class DiagramFunctionExecutor
 
     return additionalConfig;
   }
+
+  private String render(final ExecutionParameters executionParameters) throws Exception {
+    final OutputSink outputSink = execute(executionParameters);
+    if (outputSink == null) {
+      return "";
+    }
+    try {
+      return outputSink.contents();
+    } finally {
+      outputSink.discard();
+    }
+  }
 }
@@ -48,13 +48,50 @@ public record DiagramFunctionParameters(
             Mermaid or DBML from dbdiagram.io.
             """)
         @JsonProperty(required = true)
-        DiagramType diagramType)
+        DiagramType diagramType,
+    @JsonPropertyDescription(
+            """
+            Number of levels of child tables and referenced tables to include,
+            when they are included, up to 10.
+            If not specified, one level is included.
+            """)
+        @JsonProperty(required = false)
+        Integer depth,
+    @JsonPropertyDescription(
+            """
+            For large schemas, splits all of the tables into clusters of tables
+            that are related by foreign keys, with at most this many tables
+            in each cluster. The table name is not used.
+            If a cluster is not specified, returns an index of the clusters
+            and their tables as JSON data, instead of a diagram.
+            """)
+        @JsonProperty(required = false)
+        Integer maxClusterSize,
+    @JsonPropertyDescription(
+            """
+            Number of the cluster to diagram, from the index of clusters,
+            starting at 1. Use the same maximum cluster size that was used
+            to get the index.
+            """)
+        @JsonProperty(required = false)
+        Integer cluster)
     implements FunctionParameters {
 
+  public static final int MAX_DEPTH = 10;
+
   public DiagramFunctionParameters() {
     this(null, false, false, null);
   }
 
+  public DiagramFunctionParameters(
+      final String tableName,
+      final boolean includeChildTables,
+      final boolean includeReferencedTables,
+      final DiagramType diagramType) {
+    this(
+        tableName, includeChildTables, includeReferencedTables, diagramType, null, null, null);
+  }
+
   public enum DiagramType {
     PLANTUML(
         "template",
@@ -120,6 +157,17 @@ public record DiagramFunctionParameters(
     if (diagramType == null) {
       diagramType = DiagramType.PLANTUML;
     }
+    if (depth == null || depth <= 0) {
+      depth = 1;
+    } else if (depth > MAX_DEPTH) {
+      depth = MAX_DEPTH;
+    }
+    if (maxClusterSize == null || maxClusterSize < 0) {
+      maxClusterSize = 0;
+    }
+    if (cluster == null || cluster < 0) {
+      cluster = 0;
+    }
   }
 
   @Override
@@ -0,0 +1,52 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import schemacrawler.tools.ai.tools.base.AbstractFunctionDefinition;
+
+public final class FindJoinPathFunctionDefinition
+    extends AbstractFunctionDefinition<FindJoinPathFunctionParameters> {
+
+  @Override
+  public String getDescription() {
+    return """
+    Finds how to join two or more tables, following foreign keys through
+    any tables in between, with the fewest joins.
+    For two tables, returns the shortest join paths, and for more tables,
+    returns one set of joins that connects all of them.
+    Each join has the tables, the foreign key, the column pairs to join on,
+    and the cardinality of the relationship.
+    Use it to write SQL queries across tables that are not directly related.
+    Returns JSON data.
+    """
+        .stripIndent()
+        .replace("\n", " ")
+        .trim();
+  }
+
+  @Override
+  public Class<FindJoinPathFunctionParameters> getParametersClass() {
+    return FindJoinPathFunctionParameters.class;
+  }
+
+  @Override
+  public String getTitle() {
+    return "Find join path between tables";
+  }
+
+  @Override
+  public FindJoinPathFunctionExecutor newExecutor() {
+    return new FindJoinPathFunctionExecutor(getFunctionName());
+  }
+
+  @Override
+  public FindJoinPathFunctionParameters newParameters() {
+    return new FindJoinPathFunctionParameters();
+  }
+}
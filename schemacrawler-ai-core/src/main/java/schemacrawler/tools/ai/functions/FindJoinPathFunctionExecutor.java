@@ -0,0 +1,93 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.ai.tools.CatalogIndex;
+import schemacrawler.tools.ai.tools.ForeignKeyGraph;
+import schemacrawler.tools.ai.tools.ForeignKeyGraph.Join;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import us.fatehi.utility.property.PropertyName;
+
+public final class FindJoinPathFunctionExecutor
+    extends AbstractJsonFunctionExecutor<FindJoinPathFunctionParameters> {
+
+  protected FindJoinPathFunctionExecutor(final PropertyName functionName) {
+    super(functionName);
+  }
+
+  @Override
+  public JsonFunctionReturn call() throws Exception {
+    if (commandOptions.tableNames().size() < 2) {
+      throw new ExecutionRuntimeException("Provide at least two tables to join");
+    }
+
+    // The foreign key graph is built once for each catalog snapshot
+    final CatalogIndex catalogIndex = getCatalogIndex();
+    final List<Table> tables = new ArrayList<>();
+    for (final String tableName : commandOptions.tableNames()) {
+      tables.add(catalogIndex.tables().lookup(tableName));
+    }
+    final ForeignKeyGraph foreignKeyGraph = catalogIndex.foreignKeyGraph();
+
+    final List<List<Join>> paths;
+    if (tables.size() == 2) {
+      paths =
+          foreignKeyGraph.shortestPaths(tables.get(0), tables.get(1), commandOptions.maxPaths());
+    } else {
+      final Optional<List<Join>> joins = foreignKeyGraph.connect(tables);
+      paths = joins.map(List::of).orElse(List.of());
+    }
+
+    final ObjectNode resultsNode = mapper.createObjectNode();
+    final ArrayNode tablesNode = resultsNode.putArray("tables");
+    for (final Table table : tables) {
+      tablesNode.add(table.getFullName());
+    }
+    final ArrayNode pathsNode = resultsNode.putArray("paths");
+    for (final List<Join> path : paths) {
+      final ObjectNode pathNode = pathsNode.addObject();
+      pathNode.put("length", path.size());
+      final ArrayNode joinsNode = pathNode.putArray("joins");
+      for (final Join join : path) {
+        final ObjectNode joinNode = joinsNode.addObject();
+        joinNode.put("from_table", join.fromTable().getFullName());
+        joinNode.put("to_table", join.toTable().getFullName());
+        joinNode.put("foreign_key", join.foreignKey().getName());
+        joinNode.put("cardinality", String.valueOf(join.cardinality()));
+        final ArrayNode conditionsNode = joinNode.putArray("join_on");
+        for (final ColumnReference columnReference : join.foreignKey()) {
+          conditionsNode.add(
+              "%s = %s"
+                  .formatted(
+                      columnReference.getForeignKeyColumn().getFullName(),
+                      columnReference.getPrimaryKeyColumn().getFullName()));
+        }
+      }
+    }
+
+    final String summary;
+    if (paths.isEmpty()) {
+      summary = "No foreign keys connect the tables";
+    } else {
+      summary = "Returned %d join paths".formatted(paths.size());
+    }
+    return new JsonFunctionReturn(resultsNode).withSummary(summary);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import static us.fatehi.utility.Utility.isBlank;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import java.util.ArrayList;
+import java.util.List;
+import schemacrawler.tools.ai.tools.FunctionParameters;
+import schemacrawler.tools.ai.tools.base.ParameterUtility;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record FindJoinPathFunctionParameters(
+    @JsonPropertyDescription(
+            """
+            Names of the tables (or views) to join, two or more.
+            Use either simple names or fully-qualified names, like
+            "SCHEMA.TABLE" - a fully-qualified name is needed when
+            the same table name is used in more than one schema.
+            """)
+        @JsonProperty(required = true)
+        List<String> tableNames,
+    @JsonPropertyDescription(
+            """
+            Maximum number of different shortest join paths to return
+            when joining two tables, up to 10.
+            If not specified, 3 join paths are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer maxPaths)
+    implements FunctionParameters {
+
+  public static final int DEFAULT_MAX_PATHS = 3;
+  public static final int MAX_MAX_PATHS = 10;
+
+  public FindJoinPathFunctionParameters() {
+    this(null);
+  }
+
+  public FindJoinPathFunctionParameters(final List<String> tableNames) {
+    this(tableNames, null);
+  }
+
+  public FindJoinPathFunctionParameters {
+    final List<String> names = new ArrayList<>();
+    if (tableNames != null) {
+      for (final String tableName : tableNames) {
+        if (!isBlank(tableName)) {
+          names.add(tableName.trim());
+        }
+      }
+    }
+    tableNames = List.copyOf(names);
+    if (maxPaths == null || maxPaths <= 0) {
+      maxPaths = DEFAULT_MAX_PATHS;
+    } else if (maxPaths > MAX_MAX_PATHS) {
+      maxPaths = MAX_MAX_PATHS;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return ParameterUtility.parametersToString(this);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import schemacrawler.tools.ai.tools.base.AbstractFunctionDefinition;
+
+public final class ImpactAnalysisFunctionDefinition
+    extends AbstractFunctionDefinition<ImpactAnalysisFunctionParameters> {
+
+  @Override
+  public String getDescription() {
+    return """
+    Finds everything that could break if a table, view, stored procedure,
+    function or column is changed or dropped - child tables through foreign keys,
+    views and routines that use it, and triggers - following dependencies
+    all the way, in one call.
+    Returns the affected objects nearest first, with how far away each one is,
+    and the object that it depends on directly.
+    Returns JSON data.
+    """
+        .stripIndent()
+        .replace("\n", " ")
+        .trim();
+  }
+
+  @Override
+  public Class<ImpactAnalysisFunctionParameters> getParametersClass() {
+    return ImpactAnalysisFunctionParameters.class;
+  }
+
+  @Override
+  public String getTitle() {
+    return "Impact analysis";
+  }
+
+  @Override
+  public ImpactAnalysisFunctionExecutor newExecutor() {
+    return new ImpactAnalysisFunctionExecutor(getFunctionName());
+  }
+
+  @Override
+  public ImpactAnalysisFunctionParameters newParameters() {
+    return new ImpactAnalysisFunctionParameters();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.ai.tools.CatalogIndex;
+import schemacrawler.tools.ai.tools.DependencyGraph.Impact;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import us.fatehi.utility.property.PropertyName;
+
+public final class ImpactAnalysisFunctionExecutor
+    extends AbstractJsonFunctionExecutor<ImpactAnalysisFunctionParameters> {
+
+  protected ImpactAnalysisFunctionExecutor(final PropertyName functionName) {
+    super(functionName);
+  }
+
+  @Override
+  public JsonFunctionReturn call() throws Exception {
+    final NamedObject changedObject = lookupObject(commandOptions.objectName());
+
+    // The dependency graph is built once for each catalog snapshot
+    final List<Impact> impacts =
+        getCatalogIndex().dependencyGraph().impactOf(changedObject, commandOptions.maxDistance());
+
+    final ObjectNode resultsNode = mapper.createObjectNode();
+    resultsNode.put("object", changedObject.getFullName());
+    final ArrayNode impactsNode = resultsNode.putArray("impacted_objects");
+    for (final Impact impact : impacts) {
+      final ObjectNode impactNode = impactsNode.addObject();
+      impactNode.put("full_name", impact.fullName());
+      impactNode.put("type", impact.type());
+      impactNode.put("distance", impact.distance());
+      impactNode.put("depends_on", impact.dependsOn());
+      impactNode.put("dependency", impact.dependencyType().name());
+      if (impact.foreignKey() != null) {
+        impactNode.put("foreign_key", impact.foreignKey());
+      }
+    }
+    return new JsonFunctionReturn(resultsNode)
+        .withSummary(
+            "Found %d objects affected by changes to %s"
+                .formatted(impacts.size(), changedObject.getFullName()));
+  }
+
+  /** Finds a table, view or routine by name, or otherwise a column by table and column name. */
+  private NamedObject lookupObject(final String objectName) {
+    final CatalogIndex catalogIndex = getCatalogIndex();
+    final List<NamedObject> matches = new ArrayList<>();
+    matches.addAll(catalogIndex.tables().lookupAll(objectName));
+    matches.addAll(catalogIndex.routines().lookupAll(objectName));
+    if (matches.isEmpty()) {
+      final int dot = objectName.lastIndexOf('.');
+      if (dot > 0) {
+        final String columnName = objectName.substring(dot + 1);
+        for (final Table table : catalogIndex.tables().lookupAll(objectName.substring(0, dot))) {
+          for (final Column column : table.getColumns()) {
+            if (column.getName().equalsIgnoreCase(columnName)) {
+              matches.add(column);
+            }
+          }
+        }
+      }
+    }
+
+    if (matches.isEmpty()) {
+      throw new ExecutionRuntimeException("<%s> not found".formatted(objectName));
+    }
+    if (matches.size() > 1) {
+      throw new ExecutionRuntimeException(
+          "<%s> has too many matches - provide a fully-qualified name".formatted(objectName));
+    }
+    return matches.get(0);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import static us.fatehi.utility.Utility.isBlank;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import schemacrawler.tools.ai.tools.FunctionParameters;
+import schemacrawler.tools.ai.tools.base.ParameterUtility;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ImpactAnalysisFunctionParameters(
+    @JsonPropertyDescription(
+            """
+            Name of the table, view, stored procedure, function or column
+            that is going to be changed.
+            Use either a simple name or a fully-qualified name, like
+            "SCHEMA.TABLE" - a fully-qualified name is needed when
+            the same name is used in more than one schema.
+            Name a column with its table, like "TABLE.COLUMN".
+            """)
+        @JsonProperty(required = true)
+        String objectName,
+    @JsonPropertyDescription(
+            """
+            Maximum number of dependencies to follow from the changed object.
+            Use 1 for only the objects that depend on it directly.
+            If not specified, all objects that depend on it are returned,
+            however indirectly.
+            """)
+        @JsonProperty(required = false)
+        Integer maxDistance,
+    @JsonPropertyDescription(
+            """
+            Approximate maximum number of tokens to return.
+            If the results are larger, they are cut short, and the response
+            has a "truncated" marker with a hint on how to get the rest.
+            If not specified, all results are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer maxTokens)
+    implements FunctionParameters {
+
+  public ImpactAnalysisFunctionParameters() {
+    this(null);
+  }
+
+  public ImpactAnalysisFunctionParameters(final String objectName) {
+    this(objectName, null, null);
+  }
+
+  public ImpactAnalysisFunctionParameters {
+    if (isBlank(objectName)) {
+      objectName = "";
+    } else {
+      objectName = objectName.trim();
+    }
+    if (maxDistance == null || maxDistance < 0) {
+      maxDistance = 0;
+    }
+  }
+
+  @Override
+  public int tokenBudget() {
+    return maxTokens == null ? 0 : Math.max(0, maxTokens);
+  }
+
+  @Override
+  public String toString() {
+    return ParameterUtility.parametersToString(this);
+  }
+}
@@ -8,35 +8,107 @@
 
 package schemacrawler.tools.ai.functions;
 
-import java.nio.file.Path;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.GrepOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.ai.tools.FunctionReturn;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.LintStore;
+import schemacrawler.tools.ai.tools.NoResultsFunctionReturn;
 import schemacrawler.tools.ai.tools.base.AbstractExecutableFunctionExecutor;
 import schemacrawler.tools.ai.tools.base.ExecutionParameters;
+import schemacrawler.tools.ai.tools.base.FullNameInclusionRule;
+import schemacrawler.tools.ai.tools.base.OutputSink;
 import schemacrawler.tools.command.lint.options.LintReportOutputFormat;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
 import us.fatehi.utility.property.PropertyName;
 
 public final class LintFunctionExecutor
     extends AbstractExecutableFunctionExecutor<LintFunctionParameters> {
 
+  private LintStore lints;
+  private List<Table> lintedTables;
+
   protected LintFunctionExecutor(final PropertyName functionName) {
     super(functionName);
   }
 
   @Override
-  public FunctionReturn call() {
-    final String outputFormat = LintReportOutputFormat.json.name();
-    final ExecutionParameters executionParameters = new ExecutionParameters("lint", outputFormat);
-    final Path outputFilePath = execute(executionParameters);
-    return returnJson(outputFilePath);
+  public FunctionReturn call() throws Exception {
+    if (lints == null || !lints.isForCatalog(getCatalog())) {
+      return returnJson(execute(lintParameters()));
+    }
+    if (!lints.isLinted()) {
+      final CompletableFuture<Void> linting = lintInBackground();
+      if (!commandOptions.tableName().isEmpty()) {
+        // Lint just these tables, while the catalog is linted in the background
+        return returnJson(execute(lintParameters()));
+      }
+      // Catalog lints compare all tables, so wait for the background run - interruptibly, so that
+      // a call that times out stops waiting
+      try {
+        linting.get();
+      } catch (final ExecutionException e) {
+        return returnJson(execute(lintParameters()));
+      }
+    }
+
+    final boolean isAllTables = commandOptions.tableName().isEmpty();
+    final InclusionRule tableInclusionRule = makeInclusionRule(commandOptions.tableName());
+    final ObjectNode resultsNode = mapper.createObjectNode();
+    final ArrayNode lintsNode = resultsNode.putArray("lints");
+    if (isAllTables) {
+      lintsNode.addAll(lints.catalogLints());
+    }
+    boolean hasTables = false;
+    for (final Table table : getCatalog().getTables()) {
+      if (tableInclusionRule.test(table.getFullName())) {
+        hasTables = true;
+        lintsNode.addAll(lints.lints(table));
+      }
+    }
+    if (!hasTables) {
+      return new NoResultsFunctionReturn();
+    }
+    return new JsonFunctionReturn(resultsNode);
+  }
+
+  /**
+   * Starts linting the catalog in the background, if it was not started already, so that later
+   * calls are served from the lint store.
+   *
+   * @return Completes when the catalog has been linted
+   */
+  public CompletableFuture<Void> lintInBackground() {
+    requireNonNull(lints, "No lint store provided");
+    return lints.lint(this::lintTables);
+  }
+
+  @Override
+  public void setLints(final LintStore lints) {
+    this.lints = lints;
   }
 
   @Override
   protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    final InclusionRule grepTablesInclusionRule = makeInclusionRule(commandOptions.tableName());
+    final InclusionRule grepTablesInclusionRule;
+    if (lintedTables != null) {
+      grepTablesInclusionRule = new FullNameInclusionRule(lintedTables);
+    } else {
+      grepTablesInclusionRule = makeInclusionRule(commandOptions.tableName());
+    }
     final GrepOptionsBuilder grepOptionsBuilder =
         GrepOptionsBuilder.builder().includeGreppedTables(grepTablesInclusionRule);
     final SchemaCrawlerOptions schemaCrawlerOptions =
@@ -44,4 +116,47 @@ public final class LintFunctionExecutor
             .withGrepOptions(grepOptionsBuilder.toOptions());
     return schemaCrawlerOptions;
   }
+
+  private ExecutionParameters lintParameters() {
+    final String outputFormat = LintReportOutputFormat.json.name();
+    return new ExecutionParameters("lint", outputFormat);
+  }
+
+  /**
+   * Lints tables for the lint store. The lint runs after this call has returned, so it runs on its
+   * own executor, with a copy of the catalog made by the copier for the snapshot.
+   */
+  private List<JsonNode> lintTables(final List<Table> tables) throws Exception {
+    final LintFunctionExecutor executor = new LintFunctionExecutor(getCommandName());
+    executor.configure(commandOptions);
+    executor.setCatalog(getCatalog());
+    executor.setCatalogCopier(getCatalogCopier());
+    executor.setConnectionSource(getConnectionSource());
+    executor.lintedTables = List.copyOf(tables);
+    final JsonNode lintsNode = toLintsNode(executor.execute(lintParameters()));
+    if (lintsNode == null) {
+      return List.of();
+    }
+    final List<JsonNode> tableLints = new ArrayList<>();
+    for (final JsonNode lint : lintsNode.path("lints")) {
+      tableLints.add(lint);
+    }
+    return tableLints;
+  }
+
+  private JsonNode toLintsNode(final OutputSink outputSink) throws Exception {
+    if (outputSink == null) {
+      return null;
+    }
+    try {
+      if (outputSink.isEmpty()) {
+        return null;
+      }
+      try (final Reader reader = outputSink.reader()) {
+        return mapper.readTree(reader);
+      }
+    } finally {
+      outputSink.discard();
+    }
+  }
 }
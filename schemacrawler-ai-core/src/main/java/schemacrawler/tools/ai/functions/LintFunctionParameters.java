@@ -28,19 +28,37 @@ public record LintFunctionParameters(
             could be large, and execution time may be longer.
             """)
         @JsonProperty(defaultValue = "", required = false)
-        String tableName)
+        String tableName,
+    @JsonPropertyDescription(
+            """
+            Approximate maximum number of tokens to return.
+            If the results are larger, they are cut short, and the response
+            has a "truncated" marker with a hint on how to get the rest.
+            If not specified, all results are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer maxTokens)
     implements FunctionParameters {
 
   public LintFunctionParameters() {
     this(null);
   }
 
+  public LintFunctionParameters(final String tableName) {
+    this(tableName, null);
+  }
+
   public LintFunctionParameters {
     if (isBlank(tableName)) {
       tableName = "";
     }
   }
 
+  @Override
+  public int tokenBudget() {
+    return maxTokens == null ? 0 : Math.max(0, maxTokens);
+  }
+
   @Override
   public String toString() {
     return ParameterUtility.parametersToString(this);
@@ -8,13 +8,14 @@
 
 package schemacrawler.tools.ai.functions;
 
+import static java.util.Objects.requireNonNullElse;
 import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import schemacrawler.ermodel.model.ERModel;
-import schemacrawler.inclusionrule.ExcludeAll;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.DependantObject;
@@ -22,15 +23,14 @@ import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.Trigger;
-import schemacrawler.schemacrawler.GrepOptionsBuilder;
-import schemacrawler.schemacrawler.LimitOptionsBuilder;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.ai.functions.ListAcrossTablesFunctionParameters.DependantObjectType;
 import schemacrawler.tools.ai.model.CompactCatalogBuilder;
 import schemacrawler.tools.ai.model.Document;
+import schemacrawler.tools.ai.model.OutputEncoding;
 import schemacrawler.tools.ai.tools.JsonFunctionReturn;
 import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import schemacrawler.tools.ai.tools.base.CatalogView;
+import schemacrawler.tools.ai.tools.base.Pagination;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 import us.fatehi.utility.property.PropertyName;
@@ -44,77 +44,73 @@ public final class ListAcrossTablesFunctionExecutor
 
   @Override
   public JsonFunctionReturn call() throws Exception {
-    refilterCatalog();
+    final CatalogView catalogView = createCatalogView();
 
-    final Collection<DependantObject<Table>> dependantObjects = new ArrayList<>();
+    final InclusionRule dependantObjectInclusionRule =
+        makeInclusionRule(commandOptions.dependantObjectName());
+    final InclusionRule tableInclusionRule = makeInclusionRule(commandOptions.tableName());
     final DependantObjectType dependantObjectType = commandOptions.dependantObjectType();
 
-    for (final Table table : getCatalog().getTables()) {
-      switch (dependantObjectType) {
-        case COLUMNS:
-          dependantObjects.addAll(table.getColumns());
-          break;
-        case INDEXES:
-          dependantObjects.addAll(table.getIndexes());
-          break;
-        case FOREIGN_KEYS:
-          dependantObjects.addAll(table.getForeignKeys());
-          break;
-        case TRIGGERS:
-          dependantObjects.addAll(table.getTriggers());
-          break;
-        default:
-          break;
+    // Match dependant objects first, so that JSON is only built for the requested page
+    final List<DependantObject<Table>> dependantObjects = new ArrayList<>();
+    for (final Table table : catalogView.tables()) {
+      final Collection<? extends DependantObject<Table>> tableDependantObjects =
+          switch (dependantObjectType) {
+            case COLUMNS -> table.getColumns();
+            case INDEXES -> table.getIndexes();
+            case FOREIGN_KEYS -> table.getForeignKeys();
+            case TRIGGERS -> table.getTriggers();
+            default -> List.of();
+          };
+      for (final DependantObject<Table> dependantObject : tableDependantObjects) {
+        if (dependantObject != null
+            && dependantObjectInclusionRule.test(dependantObject.getFullName())
+            && tableInclusionRule.test(dependantObject.getParent().getFullName())) {
+          dependantObjects.add(dependantObject);
+        }
       }
     }
 
-    final String listName = dependantObjectType.name().replace('_', '-').toLowerCase();
-    final ArrayNode list = createDependantObjectsArray(dependantObjects);
+    final Pagination pagination =
+        Pagination.from(
+            commandOptions.limit(),
+            commandOptions.offset(),
+            commandOptions.cursor(),
+            getCatalogVersion(),
+            commandOptions.dependantObjectType(),
+            commandOptions.dependantObjectName(),
+            commandOptions.tableName(),
+            commandOptions.outputEncoding());
+    final List<DependantObject<Table>> page = pagination.page(dependantObjects);
 
-    return new JsonFunctionReturn(listName, list)
-        .withSummary("Returned %d objects".formatted(dependantObjects.size()));
+    final String listName = dependantObjectType.name().replace('_', '-').toLowerCase();
+    final ArrayNode list = createDependantObjectsArray(page);
+    final OutputEncoding outputEncoding =
+        requireNonNullElse(commandOptions.outputEncoding(), OutputEncoding.JSON);
+
+    final ObjectNode listNode = mapper.createObjectNode();
+    listNode.set(listName, outputEncoding.encodeList(list));
+    if (!pagination.isPaged()) {
+      return new JsonFunctionReturn(listNode)
+          .withSummary("Returned %d objects".formatted(list.size()));
+    }
+    pagination.addPageDetails(listNode, dependantObjects.size());
+    return new JsonFunctionReturn(listNode)
+        .withSummary("Returned %d of %d objects".formatted(list.size(), dependantObjects.size()));
   }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-
+  private CatalogView createCatalogView() {
     final InclusionRule grepTablesPattern = makeInclusionRule(commandOptions.tableName());
-
-    final LimitOptionsBuilder limitOptionsBuilder =
-        LimitOptionsBuilder.builder()
-            .includeSynonyms(new ExcludeAll())
-            .includeSequences(new ExcludeAll())
-            .includeRoutines(new ExcludeAll());
-    final GrepOptionsBuilder grepOptionsBuilder =
-        GrepOptionsBuilder.builder().includeGreppedTables(grepTablesPattern);
-    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-        .withLimitOptions(limitOptionsBuilder.toOptions())
-        .withGrepOptions(grepOptionsBuilder.toOptions());
+    return catalogViewBuilder().includeTables(grepTablesPattern).build();
   }
 
   private ArrayNode createDependantObjectsArray(
       final Collection<DependantObject<Table>> dependantObjects) {
-
-    final InclusionRule dependantObjectinclusionRule =
-        makeInclusionRule(commandOptions.dependantObjectName());
-    final InclusionRule tableInclusionRule = makeInclusionRule(commandOptions.tableName());
-
     final ArrayNode list = mapper.createArrayNode();
-    if (dependantObjects == null || dependantObjects.isEmpty()) {
-      return list;
-    }
-
     for (final DependantObject<Table> dependantObject : dependantObjects) {
-      if (dependantObject == null
-          || !dependantObjectinclusionRule.test(dependantObject.getFullName())
-          || !tableInclusionRule.test(dependantObject.getParent().getFullName())) {
-        continue;
-      }
-
       final ObjectNode objectNode = createDependentObjectNode(dependantObject);
       list.add(objectNode);
     }
-
     return list;
   }
 
@@ -13,6 +13,7 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import schemacrawler.tools.ai.model.OutputEncoding;
 import schemacrawler.tools.ai.tools.FunctionParameters;
 import schemacrawler.tools.ai.tools.base.ParameterUtility;
 import tools.jackson.databind.PropertyNamingStrategies;
@@ -50,13 +51,65 @@ public record ListAcrossTablesFunctionParameters(
             could be large.
             """)
         @JsonProperty(defaultValue = "", required = false)
-        String tableName)
+        String tableName,
+    @JsonPropertyDescription(
+            """
+            Maximum number of results to return in one page.
+            If not specified, all results are returned.
+            When results are paged, the total number of results is returned
+            as "total_count", and a "next_cursor" is returned if there are
+            more results.
+            """)
+        @JsonProperty(required = false)
+        Integer limit,
+    @JsonPropertyDescription(
+            """
+            Number of results to skip before the first result in the page.
+            Ignored if a cursor is provided.
+            """)
+        @JsonProperty(required = false)
+        Integer offset,
+    @JsonPropertyDescription(
+            """
+            Cursor returned as "next_cursor" by an earlier call with the same
+            parameters, to get the next page of results.
+            """)
+        @JsonProperty(required = false)
+        String cursor,
+    @JsonPropertyDescription(
+            """
+            Approximate maximum number of tokens to return.
+            If the results are larger, they are cut short, and the response
+            has a "truncated" marker with a hint on how to get the rest.
+            If not specified, all results are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer maxTokens,
+    @JsonPropertyDescription(
+            """
+            How to encode lists of columns, indexes, foreign keys and other
+            table details. JSON returns each item as an object with named fields.
+            TABULAR returns each list as an object with "fields", which is a header
+            of field names, and "rows" of values in the same order as the fields,
+            which is more compact for large results.
+            If not specified, JSON is used.
+            """)
+        @JsonProperty(defaultValue = "JSON", required = false)
+        OutputEncoding outputEncoding)
     implements FunctionParameters {
 
   public ListAcrossTablesFunctionParameters() {
     this(null, null, null);
   }
 
+  public ListAcrossTablesFunctionParameters(
+      final DependantObjectType dependantObjectType,
+      final String dependantObjectName,
+      final String tableName) {
+    this(
+        dependantObjectType, dependantObjectName, tableName, null, null, null, null, null);
+  }
+
   public ListAcrossTablesFunctionParameters {
     if (dependantObjectType == null) {
       dependantObjectType = NONE;
@@ -84,6 +137,11 @@ public record ListAcrossTablesFunctionParameters(
     }
   }
 
+  @Override
+  public int tokenBudget() {
+    return maxTokens == null ? 0 : Math.max(0, maxTokens);
+  }
+
   @Override
   public String toString() {
     return ParameterUtility.parametersToString(this);
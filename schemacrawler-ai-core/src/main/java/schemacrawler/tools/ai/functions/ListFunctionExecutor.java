@@ -16,17 +16,18 @@ import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schema.Catalog;
 import schemacrawler.schema.NamedObject;
-import schemacrawler.schemacrawler.LimitOptionsBuilder;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.ai.model.BaseObjectDocument;
 import schemacrawler.tools.ai.model.DatabaseObjectType;
 import schemacrawler.tools.ai.tools.JsonFunctionReturn;
 import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import schemacrawler.tools.ai.tools.base.CatalogView;
+import schemacrawler.tools.ai.tools.base.CatalogViewBuilder;
+import schemacrawler.tools.ai.tools.base.Pagination;
 import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
 import us.fatehi.utility.property.PropertyName;
 
 public final class ListFunctionExecutor
@@ -38,58 +39,73 @@ public final class ListFunctionExecutor
 
   @Override
   public JsonFunctionReturn call() throws Exception {
-    refilterCatalog();
+    final CatalogView catalogView = createCatalogView();
 
-    final Catalog catalog = getCatalog();
-    final Collection<NamedObject> databaseObjects = new ArrayList<>();
+    final List<NamedObject> databaseObjects = new ArrayList<>();
     final DatabaseObjectType databaseObjectType = commandOptions.databaseObjectType();
     if (databaseObjectType == DatabaseObjectType.SCHEMAS || databaseObjectType == ALL) {
-      databaseObjects.addAll(catalog.getSchemas());
+      databaseObjects.addAll(catalogView.schemas());
     } // fall through - no else
     if (databaseObjectType == DatabaseObjectType.TABLES || databaseObjectType == ALL) {
-      databaseObjects.addAll(catalog.getTables());
+      databaseObjects.addAll(catalogView.tables());
     } // fall through - no else
     if (databaseObjectType == ROUTINES || databaseObjectType == ALL) {
-      databaseObjects.addAll(catalog.getRoutines());
+      databaseObjects.addAll(catalogView.routines());
     } // fall through - no else
     if (databaseObjectType == SEQUENCES || databaseObjectType == ALL) {
-      databaseObjects.addAll(catalog.getSequences());
+      databaseObjects.addAll(catalogView.sequences());
     } // fall through - no else
     if (databaseObjectType == SYNONYMS || databaseObjectType == ALL) {
-      databaseObjects.addAll(catalog.getSynonyms());
+      databaseObjects.addAll(catalogView.synonyms());
     } // fall through - no else
 
-    final ArrayNode list = createTypedObjectsArray(databaseObjects);
+    final Pagination pagination =
+        Pagination.from(
+            commandOptions.limit(),
+            commandOptions.offset(),
+            commandOptions.cursor(),
+            getCatalogVersion(),
+            commandOptions.databaseObjectType(),
+            commandOptions.databaseObjectName());
+    final List<NamedObject> page = pagination.page(databaseObjects);
+    final ArrayNode list = createTypedObjectsArray(page);
 
-    return new JsonFunctionReturn("list", list)
+    if (!pagination.isPaged()) {
+      return new JsonFunctionReturn("list", list)
+          .withSummary(
+              "Returned %d %s objects".formatted(databaseObjects.size(), databaseObjectType));
+    }
+    final ObjectNode listNode = mapper.createObjectNode();
+    listNode.set("list", list);
+    pagination.addPageDetails(listNode, databaseObjects.size());
+    return new JsonFunctionReturn(listNode)
         .withSummary(
-            "Returned %d %s objects".formatted(databaseObjects.size(), databaseObjectType));
+            "Returned %d of %d %s objects"
+                .formatted(page.size(), databaseObjects.size(), databaseObjectType));
   }
 
-  @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
+  private CatalogView createCatalogView() {
     final InclusionRule databaseObjectPattern =
         makeInclusionRule(commandOptions.databaseObjectName());
     final DatabaseObjectType databaseObjectType = commandOptions.databaseObjectType();
-    final LimitOptionsBuilder limitOptionsBuilder = LimitOptionsBuilder.builder();
+    final CatalogViewBuilder catalogViewBuilder = catalogViewBuilder();
     if (databaseObjectType == DatabaseObjectType.SCHEMAS || databaseObjectType == ALL) {
-      limitOptionsBuilder.includeSchemas(databaseObjectPattern);
+      catalogViewBuilder.includeSchemas(databaseObjectPattern);
     } // fall through - no else
     if (databaseObjectType == DatabaseObjectType.TABLES || databaseObjectType == ALL) {
-      limitOptionsBuilder.includeTables(databaseObjectPattern);
+      catalogViewBuilder.includeTables(databaseObjectPattern);
     } // fall through - no else
     if (databaseObjectType == ROUTINES || databaseObjectType == ALL) {
-      limitOptionsBuilder.includeRoutines(databaseObjectPattern);
+      catalogViewBuilder.includeRoutines(databaseObjectPattern);
     } // fall through - no else
     if (databaseObjectType == SEQUENCES || databaseObjectType == ALL) {
-      limitOptionsBuilder.includeSequences(databaseObjectPattern);
+      catalogViewBuilder.includeSequences(databaseObjectPattern);
     } // fall through - no else
     if (databaseObjectType == SYNONYMS || databaseObjectType == ALL) {
-      limitOptionsBuilder.includeSynonyms(databaseObjectPattern);
+      catalogViewBuilder.includeSynonyms(databaseObjectPattern);
     } // fall through - no else
 
-    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-        .withLimitOptions(limitOptionsBuilder.toOptions());
+    return catalogViewBuilder.build();
   }
 
   private ArrayNode createTypedObjectsArray(final Collection<NamedObject> databaseObjects) {
@@ -39,13 +39,51 @@ public record ListFunctionParameters(
             Use an empty string if all database objects are requested.
             """)
         @JsonProperty(defaultValue = "", required = false)
-        String databaseObjectName)
+        String databaseObjectName,
+    @JsonPropertyDescription(
+            """
+            Maximum number of results to return in one page.
+            If not specified, all results are returned.
+            When results are paged, the total number of results is returned
+            as "total_count", and a "next_cursor" is returned if there are
+            more results.
+            """)
+        @JsonProperty(required = false)
+        Integer limit,
+    @JsonPropertyDescription(
+            """
+            Number of results to skip before the first result in the page.
+            Ignored if a cursor is provided.
+            """)
+        @JsonProperty(required = false)
+        Integer offset,
+    @JsonPropertyDescription(
+            """
+            Cursor returned as "next_cursor" by an earlier call with the same
+            parameters, to get the next page of results.
+            """)
+        @JsonProperty(required = false)
+        String cursor,
+    @JsonPropertyDescription(
+            """
+            Approximate maximum number of tokens to return.
+            If the results are larger, they are cut short, and the response
+            has a "truncated" marker with a hint on how to get the rest.
+            If not specified, all results are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer maxTokens)
     implements FunctionParameters {
 
   public ListFunctionParameters() {
     this(null, null);
   }
 
+  public ListFunctionParameters(
+      final DatabaseObjectType databaseObjectType, final String databaseObjectName) {
+    this(databaseObjectType, databaseObjectName, null, null, null, null);
+  }
+
   public ListFunctionParameters {
     if (databaseObjectType == null) {
       databaseObjectType = ALL;
@@ -55,6 +93,11 @@ public record ListFunctionParameters(
     }
   }
 
+  @Override
+  public int tokenBudget() {
+    return maxTokens == null ? 0 : Math.max(0, maxTokens);
+  }
+
   @Override
   public String toString() {
     return ParameterUtility.parametersToString(this);
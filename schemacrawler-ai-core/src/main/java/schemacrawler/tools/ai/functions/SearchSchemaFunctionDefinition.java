@@ -0,0 +1,50 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import schemacrawler.tools.ai.tools.base.AbstractFunctionDefinition;
+
+public final class SearchSchemaFunctionDefinition
+    extends AbstractFunctionDefinition<SearchSchemaFunctionParameters> {
+
+  @Override
+  public String getDescription() {
+    return """
+    Searches the database schema for tables, views, columns, stored procedures,
+    functions and sequences by words in their names and remarks, without needing
+    exact names or regular expressions. Handles snake_case and camelCase names
+    and small typos, and returns the best matches first, with their object type.
+    Use it to find where data is kept before describing tables.
+    Returns JSON data.
+    """
+        .stripIndent()
+        .replace("\n", " ")
+        .trim();
+  }
+
+  @Override
+  public Class<SearchSchemaFunctionParameters> getParametersClass() {
+    return SearchSchemaFunctionParameters.class;
+  }
+
+  @Override
+  public String getTitle() {
+    return "Search database schema";
+  }
+
+  @Override
+  public SearchSchemaFunctionExecutor newExecutor() {
+    return new SearchSchemaFunctionExecutor(getFunctionName());
+  }
+
+  @Override
+  public SearchSchemaFunctionParameters newParameters() {
+    return new SearchSchemaFunctionParameters();
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.List;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.SchemaSearchIndex.SearchMatch;
+import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import us.fatehi.utility.property.PropertyName;
+
+public final class SearchSchemaFunctionExecutor
+    extends AbstractJsonFunctionExecutor<SearchSchemaFunctionParameters> {
+
+  protected SearchSchemaFunctionExecutor(final PropertyName functionName) {
+    super(functionName);
+  }
+
+  @Override
+  public JsonFunctionReturn call() throws Exception {
+    // The search index is built once for each catalog snapshot
+    final List<SearchMatch> matches =
+        getCatalogIndex()
+            .searchIndex()
+            .search(commandOptions.query(), commandOptions.objectType(), commandOptions.limit());
+
+    final ObjectNode resultsNode = mapper.createObjectNode();
+    resultsNode.put("query", commandOptions.query());
+    final ArrayNode matchesNode = resultsNode.putArray("matches");
+    for (final SearchMatch match : matches) {
+      final ObjectNode matchNode = matchesNode.addObject();
+      matchNode.put("full_name", match.fullName());
+      matchNode.put("name", match.name());
+      matchNode.put("type", match.type());
+      if (match.table() != null) {
+        matchNode.put("table", match.table());
+      }
+      matchNode.put("score", match.score());
+    }
+    return new JsonFunctionReturn(resultsNode)
+        .withSummary(
+            "Returned %d matches for \"%s\"".formatted(matches.size(), commandOptions.query()));
+  }
+}
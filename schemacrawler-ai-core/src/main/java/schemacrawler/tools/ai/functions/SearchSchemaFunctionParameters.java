@@ -0,0 +1,81 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.functions;
+
+import static schemacrawler.tools.ai.model.SearchObjectType.ALL;
+import static us.fatehi.utility.Utility.isBlank;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import schemacrawler.tools.ai.model.SearchObjectType;
+import schemacrawler.tools.ai.tools.FunctionParameters;
+import schemacrawler.tools.ai.tools.base.ParameterUtility;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record SearchSchemaFunctionParameters(
+    @JsonPropertyDescription(
+            """
+            Words to search for in the names and remarks (or comments) of
+            tables, views, columns, routines and sequences, such as
+            "customer email" or "order date".
+            Parts of names, like "first" for FIRST_NAME or FirstName, are matched,
+            and small typos are allowed.
+            """)
+        @JsonProperty(required = true)
+        String query,
+    @JsonPropertyDescription(
+            """
+            Type of database object to search for, like tables (including views),
+            columns, routines (that is, stored procedures and functions),
+            or sequences.
+            If not specified, all types of database objects are searched.
+            """)
+        @JsonProperty(defaultValue = "ALL", required = false)
+        SearchObjectType objectType,
+    @JsonPropertyDescription(
+            """
+            Maximum number of matches to return, best matches first, up to 100.
+            If not specified, 10 matches are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer limit)
+    implements FunctionParameters {
+
+  public static final int DEFAULT_LIMIT = 10;
+  public static final int MAX_LIMIT = 100;
+
+  public SearchSchemaFunctionParameters() {
+    this(null);
+  }
+
+  public SearchSchemaFunctionParameters(final String query) {
+    this(query, null, null);
+  }
+
+  public SearchSchemaFunctionParameters {
+    if (isBlank(query)) {
+      query = "";
+    }
+    if (objectType == null) {
+      objectType = ALL;
+    }
+    if (limit == null || limit <= 0) {
+      limit = DEFAULT_LIMIT;
+    } else if (limit > MAX_LIMIT) {
+      limit = MAX_LIMIT;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return ParameterUtility.parametersToString(this);
+  }
+}
@@ -8,18 +8,25 @@
 
 package schemacrawler.tools.ai.functions;
 
-import java.nio.file.Path;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.time.Duration;
+import java.util.List;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.schemacrawler.GrepOptionsBuilder;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schema.Table;
 import schemacrawler.tools.ai.tools.FunctionReturn;
-import schemacrawler.tools.ai.tools.base.AbstractExecutableFunctionExecutor;
-import schemacrawler.tools.ai.tools.base.ExecutionParameters;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.NoResultsFunctionReturn;
+import schemacrawler.tools.ai.tools.base.AbstractJsonFunctionExecutor;
+import schemacrawler.tools.ai.tools.base.CatalogView;
+import schemacrawler.tools.ai.tools.base.TableSampler;
+import schemacrawler.tools.ai.tools.base.TableSampler.SampleOptions;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.util.RawValue;
 import us.fatehi.utility.property.PropertyName;
 
 public final class TableSampleFunctionExecutor
-    extends AbstractExecutableFunctionExecutor<TableSampleFunctionParameters> {
+    extends AbstractJsonFunctionExecutor<TableSampleFunctionParameters> {
 
   protected TableSampleFunctionExecutor(final PropertyName functionName) {
     super(functionName);
@@ -27,19 +34,41 @@ public final class TableSampleFunctionExecutor
 
   @Override
   public FunctionReturn call() {
-    final ExecutionParameters executionParameters = new ExecutionParameters("tablesample", "json");
-    final Path outputFilePath = execute(executionParameters);
-    return returnJson(outputFilePath);
+    final InclusionRule grepTablesInclusionRule = makeInclusionRule(commandOptions.tableName());
+    final CatalogView catalogView =
+        catalogViewBuilder().includeTables(grepTablesInclusionRule).build();
+    final List<Table> tables = catalogView.tables();
+    if (tables.isEmpty()) {
+      return new NoResultsFunctionReturn();
+    }
+
+    final SampleOptions defaultOptions = SampleOptions.DEFAULT;
+    final SampleOptions sampleOptions =
+        new SampleOptions(
+            commandOptions.rowCount(),
+            commandOptions.columns(),
+            Duration.ofSeconds(commandOptions.timeoutSeconds()),
+            defaultOptions.timeBudget(),
+            defaultOptions.concurrency());
+    final String databaseProductName =
+        catalogView.catalog().getDatabaseInfo().getDatabaseProductName();
+    final TableSampler tableSampler =
+        new TableSampler(getConnectionSource(), databaseProductName, sampleOptions);
+    final List<String> samples = tableSampler.sample(tables);
+
+    // Samples are already serialized, and are added to the results as they are
+    final ObjectNode resultsNode = mapper.createObjectNode();
+    resultsNode.put("db", databaseProductName);
+    resultsNode.put("operation", "tablesample");
+    for (int i = 0; i < samples.size(); i++) {
+      resultsNode.putRawValue(String.valueOf(i), new RawValue(samples.get(i)));
+    }
+    return new JsonFunctionReturn(resultsNode)
+        .withSummary("Sampled %d tables".formatted(tables.size()));
   }
 
   @Override
-  protected SchemaCrawlerOptions createSchemaCrawlerOptions() {
-    final InclusionRule grepTablesInclusionRule = makeInclusionRule(commandOptions.tableName());
-    final GrepOptionsBuilder grepOptionsBuilder =
-        GrepOptionsBuilder.builder().includeGreppedTables(grepTablesInclusionRule);
-    final SchemaCrawlerOptions schemaCrawlerOptions =
-        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-            .withGrepOptions(grepOptionsBuilder.toOptions());
-    return schemaCrawlerOptions;
+  public boolean usesConnection() {
+    return true;
   }
 }
@@ -12,6 +12,7 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import java.util.List;
 import schemacrawler.tools.ai.tools.FunctionParameters;
 import schemacrawler.tools.ai.tools.base.ParameterUtility;
 import tools.jackson.databind.PropertyNamingStrategies;
@@ -28,17 +29,61 @@ public record TableSampleFunctionParameters(
             could be large, and execution time may be longer.
             """)
         @JsonProperty(defaultValue = "", required = false)
-        String tableName)
+        String tableName,
+    @JsonPropertyDescription(
+            """
+            Names of columns to return, ignoring case.
+            If not specified, all columns are returned, except for large objects,
+            binary data and arrays, which are never returned.
+            """)
+        @JsonProperty(required = false)
+        List<String> columns,
+    @JsonPropertyDescription(
+            """
+            Maximum number of rows to return for each table, up to 100.
+            If not specified, 10 rows are returned.
+            """)
+        @JsonProperty(required = false)
+        Integer rowCount,
+    @JsonPropertyDescription(
+            """
+            Maximum number of seconds to spend sampling each table, up to 60.
+            If not specified, 10 seconds are allowed for each table.
+            """)
+        @JsonProperty(required = false)
+        Integer timeoutSeconds)
     implements FunctionParameters {
 
+  public static final int DEFAULT_ROW_COUNT = 10;
+  public static final int MAX_ROW_COUNT = 100;
+  public static final int DEFAULT_TIMEOUT_SECONDS = 10;
+  public static final int MAX_TIMEOUT_SECONDS = 60;
+
   public TableSampleFunctionParameters() {
     this(null);
   }
 
+  public TableSampleFunctionParameters(final String tableName) {
+    this(tableName, null, null, null);
+  }
+
   public TableSampleFunctionParameters {
     if (isBlank(tableName)) {
       tableName = "";
     }
+    if (columns == null) {
+      columns = List.of();
+    }
+    if (rowCount == null || rowCount <= 0) {
+      rowCount = DEFAULT_ROW_COUNT;
+    } else if (rowCount > MAX_ROW_COUNT) {
+      rowCount = MAX_ROW_COUNT;
+    }
+    if (timeoutSeconds == null || timeoutSeconds <= 0) {
+      timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
+    } else if (timeoutSeconds > MAX_TIMEOUT_SECONDS) {
+      timeoutSeconds = MAX_TIMEOUT_SECONDS;
+    }
   }
 
   @Override
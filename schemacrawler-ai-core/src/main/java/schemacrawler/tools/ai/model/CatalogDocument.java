@@ -8,6 +8,7 @@
 
 package schemacrawler.tools.ai.model;
 
+import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -16,8 +17,10 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.annotation.JsonNaming;
+import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
@@ -27,6 +30,9 @@ public final class CatalogDocument implements Document {
 
   @Serial private static final long serialVersionUID = -1937966351313941597L;
 
+  private static final List<String> PROPERTY_ORDER =
+      List.of(CatalogDocument.class.getAnnotation(JsonPropertyOrder.class).value());
+
   private final String databaseProductName;
   private final List<TableDocument> tables;
   private final List<RoutineDocument> routines;
@@ -74,6 +80,31 @@ public final class CatalogDocument implements Document {
     return mapper.valueToTree(this);
   }
 
+  /**
+   * Creates the JSON for the catalog document, with the given table JSON in place of the table
+   * documents. Properties are in the same order as when the document is serialized.
+   *
+   * @param tablesNode Table JSON, which can be made from serialized table documents
+   * @return JSON for the catalog document
+   */
+  public ObjectNode toObjectNode(final ArrayNode tablesNode) {
+    requireNonNull(tablesNode, "No tables provided");
+    final ObjectNode documentNode = toObjectNode();
+    documentNode.remove("tables");
+    if (!tablesNode.isEmpty()) {
+      documentNode.set("tables", tablesNode);
+    }
+
+    final ObjectNode catalogNode = mapper.createObjectNode();
+    for (final String property : PROPERTY_ORDER) {
+      final JsonNode propertyNode = documentNode.get(property);
+      if (propertyNode != null) {
+        catalogNode.set(property, propertyNode);
+      }
+    }
+    return catalogNode;
+  }
+
   @Override
   public String toString() {
     return toObjectNode().toString();
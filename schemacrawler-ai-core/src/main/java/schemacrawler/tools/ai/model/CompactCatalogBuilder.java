@@ -12,6 +12,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.List;
+import java.util.function.Function;
 import schemacrawler.ermodel.model.ERModel;
 import schemacrawler.ermodel.model.Entity;
 import schemacrawler.ermodel.model.EntityType;
@@ -29,6 +31,12 @@ import us.fatehi.utility.Builder;
 
 public final class CompactCatalogBuilder implements Builder<CatalogDocument> {
 
+  /**
+   * Number of tables and routines above which documents are built in parallel. Below this, the
+   * cost of splitting up the work is more than the time saved.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 2_000;
+
   public static CompactCatalogBuilder builder(final Catalog catalog, final ERModel erModel) {
     return new CompactCatalogBuilder(catalog, erModel);
   }
@@ -37,12 +45,18 @@ public final class CompactCatalogBuilder implements Builder<CatalogDocument> {
   private final ERModel erModel;
   private final EnumMap<AdditionalTableDetails, Boolean> additionalTableDetails;
   private final EnumMap<AdditionalRoutineDetails, Boolean> additionalRoutineDetails;
+  private Collection<Table> tables;
+  private Collection<Routine> routines;
+  private int parallelThreshold;
 
   private CompactCatalogBuilder(final Catalog catalog, final ERModel erModel) {
     this.catalog = requireNonNull(catalog, "No catalog provided");
     this.erModel = requireNonNull(erModel, "No ER model provided");
     additionalTableDetails = new EnumMap<>(AdditionalTableDetails.class);
     additionalRoutineDetails = new EnumMap<>(AdditionalRoutineDetails.class);
+    tables = catalog.getTables();
+    routines = catalog.getRoutines();
+    parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
   }
 
   @Override
@@ -51,12 +65,15 @@ public final class CompactCatalogBuilder implements Builder<CatalogDocument> {
 
     final CatalogDocument catalogDocument =
         new CatalogDocument(catalog.getDatabaseInfo().getDatabaseProductName());
-    for (final Table table : catalog.getTables()) {
-      final TableDocument tableDocument = buildTableDocument(table);
+    final boolean isParallel = tables.size() + routines.size() > parallelThreshold;
+    // Documents are added in the same order as the tables and routines, even when built in
+    // parallel, so the output does not change from one call to the next
+    for (final TableDocument tableDocument :
+        buildDocuments(tables, this::buildTableDocument, isParallel)) {
       catalogDocument.addTable(tableDocument);
     }
-    for (final Routine routine : catalog.getRoutines()) {
-      final RoutineDocument routineDocument = buildRoutineDocument(routine);
+    for (final RoutineDocument routineDocument :
+        buildDocuments(routines, this::buildRoutineDocument, isParallel)) {
       catalogDocument.addRoutine(routineDocument);
     }
     return catalogDocument;
@@ -145,4 +162,43 @@ public final class CompactCatalogBuilder implements Builder<CatalogDocument> {
     }
     return this;
   }
+
+  /**
+   * Builds documents in parallel when there are more tables and routines than the threshold. Use
+   * {@link Integer#MAX_VALUE} to always build on the calling thread.
+   */
+  public CompactCatalogBuilder withParallelThreshold(final int parallelThreshold) {
+    if (parallelThreshold < 0) {
+      throw new IllegalArgumentException("Parallel threshold cannot be negative");
+    }
+    this.parallelThreshold = parallelThreshold;
+    return this;
+  }
+
+  /**
+   * Builds the catalog document from the given routines, instead of all the routines in the
+   * catalog.
+   */
+  public CompactCatalogBuilder withRoutines(final Collection<Routine> routines) {
+    this.routines = requireNonNull(routines, "No routines provided");
+    return this;
+  }
+
+  /**
+   * Builds the catalog document from the given tables, instead of all the tables in the catalog.
+   */
+  public CompactCatalogBuilder withTables(final Collection<Table> tables) {
+    this.tables = requireNonNull(tables, "No tables provided");
+    return this;
+  }
+
+  private <T, D> List<D> buildDocuments(
+      final Collection<T> objects, final Function<T, D> buildDocument, final boolean isParallel) {
+    if (isParallel) {
+      // Parallel streams from an ordered list split the work across the common fork-join pool,
+      // and collect the results back in list order
+      return List.copyOf(objects).parallelStream().map(buildDocument).toList();
+    }
+    return objects.stream().map(buildDocument).toList();
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.model;
+
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * How lists of objects, such as columns, indexes and foreign keys, are encoded. Tabular encoding
+ * writes a list as a header row of field names, followed by a row of values for each object, so
+ * that field names are not repeated for every object.
+ */
+public enum OutputEncoding {
+  JSON,
+  TABULAR;
+
+  public static final String FIELDS = "fields";
+  public static final String ROWS = "rows";
+
+  /**
+   * Checks if a node is a list in tabular encoding.
+   *
+   * @param node JSON node to check
+   * @return True if the node has a header of field names and rows of values
+   */
+  public static boolean isTable(final JsonNode node) {
+    return node != null
+        && node.isObject()
+        && node.size() == 2
+        && node.path(FIELDS).isArray()
+        && node.path(ROWS).isArray();
+  }
+
+  private static boolean isListOfObjects(final JsonNode node) {
+    if (!node.isArray() || node.isEmpty()) {
+      return false;
+    }
+    for (final JsonNode item : node) {
+      if (!item.isObject()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Encodes a list of objects. Fields are in the order in which they are first found, and missing
+   * values are null.
+   *
+   * @param list List of JSON objects
+   * @return List in this encoding
+   */
+  public JsonNode encodeList(final ArrayNode list) {
+    if (this == JSON || !isListOfObjects(list)) {
+      return list;
+    }
+
+    final Set<String> fieldNames = new LinkedHashSet<>();
+    for (final JsonNode item : list) {
+      fieldNames.addAll(item.propertyNames());
+    }
+
+    final ObjectNode table = mapper.createObjectNode();
+    final ArrayNode fields = table.putArray(FIELDS);
+    fieldNames.forEach(fields::add);
+    final ArrayNode rows = table.putArray(ROWS);
+    for (final JsonNode item : list) {
+      final ArrayNode row = rows.addArray();
+      for (final String fieldName : fieldNames) {
+        final JsonNode value = item.get(fieldName);
+        if (value == null) {
+          row.addNull();
+        } else {
+          row.add(value);
+        }
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Encodes every list of objects that is a property of the given object, such as the columns
+   * and indexes of a table.
+   *
+   * @param objectNode JSON object, which is changed in place
+   * @return The same JSON object
+   */
+  public ObjectNode encodeLists(final ObjectNode objectNode) {
+    if (this == JSON || objectNode == null) {
+      return objectNode;
+    }
+    for (final String propertyName : List.copyOf(objectNode.propertyNames())) {
+      if (objectNode.get(propertyName) instanceof final ArrayNode list) {
+        objectNode.set(propertyName, encodeList(list));
+      }
+    }
+    return objectNode;
+  }
+}
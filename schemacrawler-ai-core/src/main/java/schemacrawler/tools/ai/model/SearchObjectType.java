@@ -0,0 +1,17 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.model;
+
+public enum SearchObjectType {
+  ALL,
+  TABLES,
+  COLUMNS,
+  ROUTINES,
+  SEQUENCES;
+}
@@ -0,0 +1,113 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import schemacrawler.schema.Catalog;
+
+/**
+ * Makes private copies of a catalog for SchemaCrawler commands, which need a reduced catalog to
+ * work on. The catalog is serialized the first time a copy is asked for, and each copy is
+ * deserialized from those bytes, so the shared catalog is never reduced in place. The serialized
+ * catalog is kept until the copier is released, which is done once the catalog has been linted,
+ * since after that copies are only needed for diagrams that are not in the diagram store. Once
+ * released, each copy serializes the catalog again, without keeping it.
+ */
+public final class CatalogCopier {
+
+  private static byte[] serialize(final Catalog catalog) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(catalog);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not copy catalog", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private final Catalog catalog;
+  private volatile byte[] serializedCatalog;
+  private volatile boolean isReleased;
+
+  public CatalogCopier(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  /**
+   * Makes a private copy of the catalog.
+   *
+   * @return Copy of the catalog
+   */
+  public Catalog copy() {
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(serializedCatalog()))) {
+      return (Catalog) in.readObject();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not copy catalog", e);
+    } catch (final ClassNotFoundException e) {
+      throw new IllegalStateException("Could not copy catalog", e);
+    }
+  }
+
+  /**
+   * Whether the copier makes copies of the given catalog.
+   *
+   * @param catalog Catalog to check
+   * @return True if the copier was created for the same catalog
+   */
+  public boolean isForCatalog(final Catalog catalog) {
+    return this.catalog == catalog;
+  }
+
+  /**
+   * Whether the catalog has been serialized yet.
+   *
+   * @return True if copies are made from serialized bytes that are already kept
+   */
+  public boolean isSerialized() {
+    return serializedCatalog != null;
+  }
+
+  /**
+   * Lets go of the serialized catalog, so that it does not stay in memory for the life of the
+   * catalog snapshot. Copies made after this serialize the catalog each time.
+   */
+  public void release() {
+    synchronized (this) {
+      isReleased = true;
+      serializedCatalog = null;
+    }
+  }
+
+  private byte[] serializedCatalog() {
+    byte[] bytes = serializedCatalog;
+    if (bytes == null && isReleased) {
+      return serialize(catalog);
+    }
+    if (bytes == null) {
+      synchronized (this) {
+        bytes = serializedCatalog;
+        if (bytes == null) {
+          bytes = serialize(catalog);
+          if (!isReleased) {
+            serializedCatalog = bytes;
+          }
+        }
+      }
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.trimToEmpty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.ermodel.model.ERModel;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Case-insensitive lookup of tables and routines by simple name or full name, full-text search
+ * over the catalog, the foreign key graph for join paths, and the dependency graph for impact
+ * analysis. Each index is built the first time it is needed, and then kept for the life of
+ * the catalog snapshot, so that looking up a single object does not scan the whole catalog.
+ */
+public final class CatalogIndex {
+
+  /**
+   * Maps lower-cased simple names and full names to the objects that have them.
+   *
+   * @param <DO> Type of database object
+   */
+  public static final class NameIndex<DO extends DatabaseObject> {
+
+    private final Map<String, List<DO>> index;
+    private final Set<String> ambiguousNames;
+
+    NameIndex(final Collection<DO> databaseObjects) {
+      requireNonNull(databaseObjects, "No database objects provided");
+      final Map<String, List<DO>> index = new HashMap<>(databaseObjects.size() * 4);
+      for (final DO databaseObject : databaseObjects) {
+        final String name = key(databaseObject.getName());
+        final String fullName = key(databaseObject.getFullName());
+        index.computeIfAbsent(name, key -> new ArrayList<>(1)).add(databaseObject);
+        if (!fullName.equals(name)) {
+          index.computeIfAbsent(fullName, key -> new ArrayList<>(1)).add(databaseObject);
+        }
+      }
+
+      final Set<String> ambiguousNames = new TreeSet<>();
+      for (final Map.Entry<String, List<DO>> entry : index.entrySet()) {
+        entry.setValue(List.copyOf(entry.getValue()));
+        if (entry.getValue().size() > 1) {
+          ambiguousNames.add(entry.getKey());
+        }
+      }
+      this.index = index;
+      this.ambiguousNames = Collections.unmodifiableSet(ambiguousNames);
+    }
+
+    /**
+     * Lower-cased names that match more than one object, and so need to be fully-qualified.
+     *
+     * @return Ambiguous names
+     */
+    public Set<String> ambiguousNames() {
+      return ambiguousNames;
+    }
+
+    /**
+     * Finds the single object with a name, ignoring case.
+     *
+     * @param databaseObjectName Simple name or full name
+     * @return Matching database object
+     * @throws ExecutionRuntimeException If there is no match, or more than one match
+     */
+    public DO lookup(final String databaseObjectName) {
+      final List<DO> databaseObjects = lookupAll(databaseObjectName);
+      if (databaseObjects.isEmpty()) {
+        throw new ExecutionRuntimeException("<%s> not found".formatted(databaseObjectName));
+      }
+      if (databaseObjects.size() > 1) {
+        throw new ExecutionRuntimeException(
+            "<%s> has too many matches - provide a fully-qualified name"
+                .formatted(databaseObjectName));
+      }
+      return databaseObjects.get(0);
+    }
+
+    /**
+     * Finds all objects with a name, ignoring case.
+     *
+     * @param databaseObjectName Simple name or full name
+     * @return Matching database objects, which may be empty
+     */
+    public List<DO> lookupAll(final String databaseObjectName) {
+      return index.getOrDefault(key(trimToEmpty(databaseObjectName)), List.of());
+    }
+
+    public int size() {
+      return index.size();
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogIndex.class.getCanonicalName());
+
+  private static String key(final String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  private final Catalog catalog;
+  private final ERModel erModel;
+  private volatile DependencyGraph dependencyGraph;
+  private volatile ForeignKeyGraph foreignKeyGraph;
+  private volatile NameIndex<Routine> routines;
+  private volatile SchemaSearchIndex searchIndex;
+  private volatile NameIndex<Table> tables;
+
+  public CatalogIndex(final Catalog catalog) {
+    this(catalog, null);
+  }
+
+  /**
+   * Indexes for a catalog, using relationship cardinalities from the ER model where there is one.
+   *
+   * @param catalog Catalog to index
+   * @param erModel ER model built from the catalog, or null to infer cardinalities
+   */
+  public CatalogIndex(final Catalog catalog, final ERModel erModel) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.erModel = erModel;
+  }
+
+  /**
+   * Dependencies between objects in the catalog, for impact analysis.
+   *
+   * @return Dependency graph
+   */
+  public DependencyGraph dependencyGraph() {
+    DependencyGraph graph = dependencyGraph;
+    if (graph == null) {
+      synchronized (this) {
+        graph = dependencyGraph;
+        if (graph == null) {
+          graph = new DependencyGraph(catalog);
+          LOGGER.log(
+              Level.FINE,
+              new StringFormat(
+                  "Indexed <%d> dependencies between <%d> objects",
+                  graph.dependencyCount(), graph.objectCount()));
+          dependencyGraph = graph;
+        }
+      }
+    }
+    return graph;
+  }
+
+  /**
+   * Foreign keys between tables in the catalog, for finding join paths.
+   *
+   * @return Foreign key graph
+   */
+  public ForeignKeyGraph foreignKeyGraph() {
+    ForeignKeyGraph graph = foreignKeyGraph;
+    if (graph == null) {
+      synchronized (this) {
+        graph = foreignKeyGraph;
+        if (graph == null) {
+          graph = new ForeignKeyGraph(catalog, erModel);
+          LOGGER.log(
+              Level.FINE,
+              new StringFormat(
+                  "Indexed <%d> foreign keys between <%d> tables",
+                  graph.foreignKeyCount(), graph.tableCount()));
+          foreignKeyGraph = graph;
+        }
+      }
+    }
+    return graph;
+  }
+
+  /**
+   * Whether the index is for the given catalog.
+   *
+   * @param catalog Catalog to check
+   * @return True if the index was created for the same catalog
+   */
+  public boolean isForCatalog(final Catalog catalog) {
+    return this.catalog == catalog;
+  }
+
+  public NameIndex<Routine> routines() {
+    NameIndex<Routine> index = routines;
+    if (index == null) {
+      synchronized (this) {
+        index = routines;
+        if (index == null) {
+          index = build("routine", catalog::getRoutines);
+          routines = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Full-text search over names and remarks in the catalog.
+   *
+   * @return Search index
+   */
+  public SchemaSearchIndex searchIndex() {
+    SchemaSearchIndex index = searchIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = searchIndex;
+        if (index == null) {
+          index = new SchemaSearchIndex(catalog);
+          LOGGER.log(
+              Level.FINE, new StringFormat("Indexed <%d> objects for search", index.size()));
+          searchIndex = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  public NameIndex<Table> tables() {
+    NameIndex<Table> index = tables;
+    if (index == null) {
+      synchronized (this) {
+        index = tables;
+        if (index == null) {
+          index = build("table", catalog::getTables);
+          tables = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  private <DO extends DatabaseObject> NameIndex<DO> build(
+      final String objectType, final Supplier<Collection<DO>> databaseObjects) {
+    final NameIndex<DO> index = new NameIndex<>(databaseObjects.get());
+    if (!index.ambiguousNames().isEmpty()) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "<%d> %s names match more than one %s, and need to be fully-qualified",
+              index.ambiguousNames().size(), objectType, objectType));
+    }
+    LOGGER.log(
+        Level.FINE, new StringFormat("Indexed <%d> %s names", index.size(), objectType));
+    return index;
+  }
+}
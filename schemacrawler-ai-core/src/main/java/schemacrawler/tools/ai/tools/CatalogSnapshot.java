@@ -0,0 +1,76 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import java.time.Instant;
+import schemacrawler.ermodel.model.ERModel;
+import schemacrawler.schema.Catalog;
+
+/**
+ * A catalog and the ER model built from it, published together. A function call reads the snapshot
+ * once when it starts, and works on that snapshot until it finishes, even if a newer one is
+ * published in the meantime.
+ *
+ * @param catalog Database catalog.
+ * @param erModel ER model built from the catalog.
+ * @param version Increases every time a new snapshot is published.
+ * @param loadedAt When the catalog was loaded.
+ * @param index Name lookup, search and foreign key graph for the catalog.
+ * @param tableFragments Serialized table documents for the catalog.
+ * @param diagrams Rendered diagrams for the catalog.
+ * @param lints Lints for each table in the catalog.
+ * @param catalogCopier Makes private copies of the catalog for SchemaCrawler commands.
+ */
+public record CatalogSnapshot(
+    Catalog catalog,
+    ERModel erModel,
+    long version,
+    Instant loadedAt,
+    CatalogIndex index,
+    TableFragmentStore tableFragments,
+    DiagramStore diagrams,
+    LintStore lints,
+    CatalogCopier catalogCopier) {
+
+  public CatalogSnapshot {
+    if (loadedAt == null) {
+      loadedAt = Instant.now();
+    }
+    if (index == null && catalog != null) {
+      index = new CatalogIndex(catalog, erModel);
+    }
+    if (tableFragments == null && catalog != null && erModel != null) {
+      tableFragments = new TableFragmentStore(catalog, erModel);
+    }
+    if (diagrams == null && catalog != null) {
+      diagrams = new DiagramStore(catalog);
+    }
+    if (lints == null && index != null) {
+      lints = new LintStore(catalog, index);
+    }
+    if (catalogCopier == null && catalog != null) {
+      catalogCopier = new CatalogCopier(catalog);
+    }
+  }
+
+  public CatalogSnapshot(final Catalog catalog, final ERModel erModel) {
+    this(catalog, erModel, 1, null, null, null, null, null, null);
+  }
+
+  /**
+   * Creates the snapshot that follows this one. Lints are carried over for tables that have not
+   * changed.
+   */
+  public CatalogSnapshot next(final Catalog catalog, final ERModel erModel) {
+    final CatalogIndex nextIndex = new CatalogIndex(catalog, erModel);
+    final LintStore nextLints = lints == null ? null : lints.next(catalog, nextIndex);
+    return new CatalogSnapshot(
+        catalog, erModel, version + 1, null, nextIndex, null, null, nextLints, null);
+  }
+}
@@ -0,0 +1,309 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.Trigger;
+
+/**
+ * Objects in a catalog that depend on other objects - child tables through foreign keys, views and
+ * routines that use tables, and triggers on tables - as a directed graph in compressed sparse row
+ * form. Everything that depends on an object, directly or not, is found with a breadth-first
+ * search the first time it is needed, and then kept for the life of the catalog snapshot.
+ */
+public final class DependencyGraph {
+
+  /** How an object depends on the object before it. */
+  public enum DependencyType {
+    FOREIGN_KEY,
+    TRIGGER,
+    USAGE;
+  }
+
+  /**
+   * An object that is affected by a change to another object.
+   *
+   * @param type Type of object, such as "table", "view", "trigger" or "function"
+   * @param fullName Fully-qualified name of the object
+   * @param distance Number of dependencies from the changed object
+   * @param dependsOn Fully-qualified name of the object that this object depends on directly
+   * @param dependencyType How this object depends on that object
+   * @param foreignKey Name of the foreign key, for foreign key dependencies
+   */
+  public record Impact(
+      String type,
+      String fullName,
+      int distance,
+      String dependsOn,
+      DependencyType dependencyType,
+      String foreignKey) {}
+
+  /** Dependents of an object, in breadth-first order, so nearest first. */
+  private record Reachability(int[] nodes, int[] distances, int[] edges) {}
+
+  private static final Reachability NONE = new Reachability(new int[0], new int[0], new int[0]);
+
+  private final NamedObject[] objects;
+  private final String[] types;
+  private final Map<NamedObject, Integer> nodeIds;
+  // Compressed sparse rows - the dependents of node i are at offsets[i] to offsets[i + 1]
+  private final int[] offsets;
+  private final int[] edgeSources;
+  private final int[] edgeTargets;
+  private final DependencyType[] edgeTypes;
+  private final ForeignKey[] edgeForeignKeys;
+  private final AtomicReferenceArray<Reachability> reachability;
+
+  public DependencyGraph(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+
+    final List<NamedObject> objects = new ArrayList<>();
+    final List<String> types = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      objects.add(table);
+      types.add(table.getTableType().toString().toLowerCase(Locale.ROOT));
+      for (final Trigger trigger : table.getTriggers()) {
+        objects.add(trigger);
+        types.add("trigger");
+      }
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      objects.add(routine);
+      types.add(routine.getType().toString().toLowerCase(Locale.ROOT));
+    }
+    this.objects = objects.toArray(new NamedObject[0]);
+    this.types = types.toArray(new String[0]);
+    nodeIds = new HashMap<>(this.objects.length * 2);
+    for (int i = 0; i < this.objects.length; i++) {
+      nodeIds.putIfAbsent(this.objects[i], i);
+    }
+
+    // Only the first, and most specific, dependency between two objects is kept
+    final Edges edges = new Edges();
+    for (final Table table : catalog.getTables()) {
+      for (final Trigger trigger : table.getTriggers()) {
+        edges.add(table, trigger, DependencyType.TRIGGER, null);
+      }
+    }
+    for (final Table table : catalog.getTables()) {
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        for (final ColumnReference columnReference : foreignKey) {
+          final Table referencedTable = columnReference.getPrimaryKeyColumn().getParent();
+          edges.add(referencedTable, table, DependencyType.FOREIGN_KEY, foreignKey);
+          break;
+        }
+      }
+    }
+    for (final Table table : catalog.getTables()) {
+      for (final DatabaseObject usedByObject : table.getUsedByObjects()) {
+        edges.add(table, usedByObject, DependencyType.USAGE, null);
+      }
+      for (final Table referencedObject : table.getReferencedObjects()) {
+        edges.add(referencedObject, table, DependencyType.USAGE, null);
+      }
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      for (final DatabaseObject referencedObject : routine.getReferencedObjects()) {
+        edges.add(referencedObject, routine, DependencyType.USAGE, null);
+      }
+    }
+
+    // Sort edges by source, keeping the order in which they were added
+    final int edgeCount = edges.sources.size();
+    offsets = new int[this.objects.length + 1];
+    for (int edge = 0; edge < edgeCount; edge++) {
+      offsets[edges.sources.get(edge) + 1]++;
+    }
+    for (int i = 0; i < this.objects.length; i++) {
+      offsets[i + 1] = offsets[i + 1] + offsets[i];
+    }
+    edgeSources = new int[edgeCount];
+    edgeTargets = new int[edgeCount];
+    edgeTypes = new DependencyType[edgeCount];
+    edgeForeignKeys = new ForeignKey[edgeCount];
+    final int[] next = Arrays.copyOf(offsets, this.objects.length);
+    for (int edge = 0; edge < edgeCount; edge++) {
+      final int position = next[edges.sources.get(edge)]++;
+      edgeSources[position] = edges.sources.get(edge);
+      edgeTargets[position] = edges.targets.get(edge);
+      edgeTypes[position] = edges.types.get(edge);
+      edgeForeignKeys[position] = edges.foreignKeys.get(edge);
+    }
+    reachability = new AtomicReferenceArray<>(this.objects.length);
+  }
+
+  /**
+   * Number of dependencies in the graph.
+   *
+   * @return Number of dependencies
+   */
+  public int dependencyCount() {
+    return edgeTargets.length;
+  }
+
+  /**
+   * Finds every object that depends on an object, directly or not, nearest first. For a column,
+   * only child tables with foreign keys to that column are followed, along with every view,
+   * routine and trigger that depends on the table of the column.
+   *
+   * @param namedObject Table, view, routine or column
+   * @param maxDistance Maximum number of dependencies to follow, or zero for no limit
+   * @return Affected objects, nearest first
+   */
+  public List<Impact> impactOf(final NamedObject namedObject, final int maxDistance) {
+    requireNonNull(namedObject, "No database object provided");
+
+    final Reachability dependents;
+    if (namedObject instanceof final Column column) {
+      dependents = search(nodeId(column.getParent()), column);
+    } else {
+      final int node = nodeId(namedObject);
+      Reachability cached = reachability.get(node);
+      if (cached == null) {
+        cached = search(node, null);
+        reachability.compareAndSet(node, null, cached);
+      }
+      dependents = cached;
+    }
+
+    final List<Impact> impacts = new ArrayList<>(dependents.nodes().length);
+    for (int i = 0; i < dependents.nodes().length; i++) {
+      final int distance = dependents.distances()[i];
+      if (maxDistance > 0 && distance > maxDistance) {
+        break;
+      }
+      final int node = dependents.nodes()[i];
+      final int edge = dependents.edges()[i];
+      final ForeignKey foreignKey = edgeForeignKeys[edge];
+      impacts.add(
+          new Impact(
+              types[node],
+              objects[node].getFullName(),
+              distance,
+              objects[edgeSources[edge]].getFullName(),
+              edgeTypes[edge],
+              foreignKey == null ? null : foreignKey.getName()));
+    }
+    return impacts;
+  }
+
+  /**
+   * Number of tables, views, routines and triggers in the graph.
+   *
+   * @return Number of objects
+   */
+  public int objectCount() {
+    return objects.length;
+  }
+
+  private boolean isFollowed(final int edge, final Column column) {
+    if (column == null || edgeTypes[edge] != DependencyType.FOREIGN_KEY) {
+      return true;
+    }
+    for (final ColumnReference columnReference : edgeForeignKeys[edge]) {
+      if (columnReference.getPrimaryKeyColumn().equals(column)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int nodeId(final NamedObject namedObject) {
+    final Integer nodeId = nodeIds.get(namedObject);
+    if (nodeId == null) {
+      throw new IllegalArgumentException(
+          "<%s> is not in the catalog".formatted(namedObject.getFullName()));
+    }
+    return nodeId;
+  }
+
+  /**
+   * Breadth-first search for dependents of an object. For a column, foreign keys from the table
+   * are only followed if they reference the column.
+   */
+  private Reachability search(final int source, final Column column) {
+    if (offsets[source] == offsets[source + 1]) {
+      return NONE;
+    }
+
+    final int[] distances = new int[objects.length];
+    Arrays.fill(distances, -1);
+    distances[source] = 0;
+    final int[] queue = new int[objects.length];
+    final int[] queueEdges = new int[objects.length];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = source;
+    while (head < tail) {
+      final int current = queue[head++];
+      for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+        final int target = edgeTargets[edge];
+        if (distances[target] == -1 && (current != source || isFollowed(edge, column))) {
+          distances[target] = distances[current] + 1;
+          queueEdges[tail] = edge;
+          queue[tail++] = target;
+        }
+      }
+    }
+
+    // Leave out the object itself, which is first
+    final int[] nodes = Arrays.copyOfRange(queue, 1, tail);
+    final int[] nodeDistances = new int[nodes.length];
+    for (int i = 0; i < nodes.length; i++) {
+      nodeDistances[i] = distances[nodes[i]];
+    }
+    return new Reachability(nodes, nodeDistances, Arrays.copyOfRange(queueEdges, 1, tail));
+  }
+
+  /** Dependencies in the order in which they are found, leaving out duplicates. */
+  private final class Edges {
+
+    private final List<Integer> sources = new ArrayList<>();
+    private final List<Integer> targets = new ArrayList<>();
+    private final List<DependencyType> types = new ArrayList<>();
+    private final List<ForeignKey> foreignKeys = new ArrayList<>();
+    private final Set<Long> added = new HashSet<>();
+
+    void add(
+        final NamedObject source,
+        final NamedObject target,
+        final DependencyType type,
+        final ForeignKey foreignKey) {
+      final Integer sourceId = nodeIds.get(source);
+      final Integer targetId = nodeIds.get(target);
+      if (sourceId == null || targetId == null || sourceId.equals(targetId)) {
+        return;
+      }
+      if (added.add((long) sourceId << 32 | targetId)) {
+        sources.add(sourceId);
+        targets.add(targetId);
+        types.add(type);
+        foreignKeys.add(foreignKey);
+      }
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Rendered diagrams, kept for the life of a catalog snapshot. A diagram is rendered once for each
+ * diagram type and set of tables, and after that the same text is returned, without copying the
+ * catalog or running the diagram command again. Once the store is full, diagrams are rendered on
+ * every call, without being kept.
+ */
+public final class DiagramStore {
+
+  /**
+   * Identifies a rendered diagram within a catalog snapshot.
+   *
+   * @param diagramType Type of diagram, such as "mermaid"
+   * @param tableNames Sorted full names of the tables in the diagram
+   */
+  public record DiagramKey(String diagramType, List<String> tableNames) {
+
+    public DiagramKey {
+      requireNonNull(diagramType, "No diagram type provided");
+      tableNames = List.copyOf(requireNonNull(tableNames, "No table names provided"));
+    }
+  }
+
+  /** Most characters of rendered diagrams kept for one catalog snapshot. */
+  public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+  private static final Logger LOGGER = Logger.getLogger(DiagramStore.class.getCanonicalName());
+
+  private final Catalog catalog;
+  private final long maxSize;
+  private final ConcurrentMap<DiagramKey, String> diagrams;
+  private final AtomicLong size;
+  private final AtomicBoolean isFull;
+
+  public DiagramStore(final Catalog catalog) {
+    this(catalog, DEFAULT_MAX_SIZE);
+  }
+
+  public DiagramStore(final Catalog catalog, final long maxSize) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Maximum size cannot be negative");
+    }
+    this.maxSize = maxSize;
+    diagrams = new ConcurrentHashMap<>();
+    size = new AtomicLong();
+    isFull = new AtomicBoolean();
+  }
+
+  /**
+   * Number of rendered diagrams in the store.
+   *
+   * @return Number of diagrams
+   */
+  public int count() {
+    return diagrams.size();
+  }
+
+  /**
+   * Rendered diagram text, which is rendered the first time it is asked for.
+   *
+   * @param key Diagram type and tables
+   * @param renderer Renders the diagram
+   * @return Rendered diagram
+   * @throws Exception If the diagram could not be rendered
+   */
+  public String diagram(final DiagramKey key, final Callable<String> renderer) throws Exception {
+    requireNonNull(key, "No diagram key provided");
+    requireNonNull(renderer, "No diagram renderer provided");
+    final String diagram = diagrams.get(key);
+    if (diagram != null) {
+      return diagram;
+    }
+
+    final String rendered = requireNonNull(renderer.call(), "No diagram rendered");
+    if (isFull.get()) {
+      return rendered;
+    }
+    if (size.addAndGet(rendered.length()) > maxSize) {
+      size.addAndGet(-rendered.length());
+      if (isFull.compareAndSet(false, true)) {
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat(
+                "Diagram store is full with <%d> diagrams - no more will be kept",
+                diagrams.size()));
+      }
+      return rendered;
+    }
+    final String existing = diagrams.putIfAbsent(key, rendered);
+    if (existing != null) {
+      size.addAndGet(-rendered.length());
+      return existing;
+    }
+    return rendered;
+  }
+
+  /**
+   * Whether the store holds diagrams for the given catalog.
+   *
+   * @param catalog Catalog to check
+   * @return True if the store was created for the same catalog
+   */
+  public boolean isForCatalog(final Catalog catalog) {
+    return this.catalog == catalog;
+  }
+
+  /**
+   * Number of characters of rendered diagrams in the store.
+   *
+   * @return Size of the store
+   */
+  public long size() {
+    return size.get();
+  }
+}
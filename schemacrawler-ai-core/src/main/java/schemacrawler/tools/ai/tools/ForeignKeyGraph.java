@@ -0,0 +1,524 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import schemacrawler.ermodel.model.ERModel;
+import schemacrawler.ermodel.model.Relationship;
+import schemacrawler.ermodel.model.RelationshipCardinality;
+import schemacrawler.ermodel.utility.ERModelUtility;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Table;
+
+/**
+ * Foreign keys between tables in a catalog, as an undirected graph in compressed sparse row form.
+ * Tables are numbered, and the foreign keys of each table are kept next to each other in primitive
+ * arrays, so that breadth-first searches for join paths do not create objects for each step.
+ */
+public final class ForeignKeyGraph {
+
+  /**
+   * One step in a join path, from a table to the next table over a foreign key. The foreign key
+   * may go either way.
+   *
+   * @param fromTable Table to join from
+   * @param toTable Table to join to
+   * @param foreignKey Foreign key between the tables
+   * @param cardinality Cardinality of the relationship from the foreign key
+   */
+  public record Join(
+      Table fromTable,
+      Table toTable,
+      ForeignKey foreignKey,
+      RelationshipCardinality cardinality) {}
+
+  private static final int UNREACHED = -1;
+
+  private final Table[] tables;
+  private final Map<Table, Integer> tableIds;
+  private final ForeignKey[] foreignKeys;
+  private final int[] foreignKeyTables;
+  private final RelationshipCardinality[] cardinalities;
+  // Compressed sparse rows - the neighbours of table i are at offsets[i] to offsets[i + 1]
+  private final int[] offsets;
+  private final int[] adjacentTables;
+  private final int[] adjacentForeignKeys;
+
+  public ForeignKeyGraph(final Catalog catalog, final ERModel erModel) {
+    requireNonNull(catalog, "No catalog provided");
+
+    final Collection<Table> catalogTables = catalog.getTables();
+    tables = catalogTables.toArray(new Table[0]);
+    tableIds = new HashMap<>(tables.length * 2);
+    for (int i = 0; i < tables.length; i++) {
+      tableIds.put(tables[i], i);
+    }
+
+    // Number the foreign keys between tables in the catalog, leaving out self-references
+    final List<ForeignKey> edges = new ArrayList<>();
+    final List<int[]> edgeTables = new ArrayList<>();
+    for (final Table table : tables) {
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        final int[] ends = ends(foreignKey);
+        if (ends != null && ends[0] != ends[1]) {
+          edges.add(foreignKey);
+          edgeTables.add(ends);
+        }
+      }
+    }
+    foreignKeys = edges.toArray(new ForeignKey[0]);
+    foreignKeyTables = new int[foreignKeys.length];
+    cardinalities = new RelationshipCardinality[foreignKeys.length];
+    for (int edge = 0; edge < foreignKeys.length; edge++) {
+      foreignKeyTables[edge] = edgeTables.get(edge)[0];
+      cardinalities[edge] = cardinality(erModel, foreignKeys[edge]);
+    }
+
+    // Each foreign key can be followed both ways, so is listed for both of its tables
+    offsets = new int[tables.length + 1];
+    for (final int[] ends : edgeTables) {
+      offsets[ends[0] + 1]++;
+      offsets[ends[1] + 1]++;
+    }
+    for (int i = 0; i < tables.length; i++) {
+      offsets[i + 1] = offsets[i + 1] + offsets[i];
+    }
+    adjacentTables = new int[offsets[tables.length]];
+    adjacentForeignKeys = new int[offsets[tables.length]];
+    final int[] next = Arrays.copyOf(offsets, tables.length);
+    for (int edge = 0; edge < foreignKeys.length; edge++) {
+      final int[] ends = edgeTables.get(edge);
+      adjacentTables[next[ends[0]]] = ends[1];
+      adjacentForeignKeys[next[ends[0]]++] = edge;
+      adjacentTables[next[ends[1]]] = ends[0];
+      adjacentForeignKeys[next[ends[1]]++] = edge;
+    }
+  }
+
+  /**
+   * Finds the fewest joins that connect all of the tables, as a tree of joins. Tables are joined in
+   * order, each one to the nearest table that is already joined, so the result is short, but not
+   * always the shortest possible.
+   *
+   * @param tablesToConnect Tables to connect
+   * @return Joins that connect the tables, or empty if some tables cannot be connected
+   */
+  public Optional<List<Join>> connect(final List<Table> tablesToConnect) {
+    requireNonNull(tablesToConnect, "No tables provided");
+    if (tablesToConnect.isEmpty()) {
+      return Optional.of(List.of());
+    }
+
+    final boolean[] isConnected = new boolean[tables.length];
+    final int first = tableId(tablesToConnect.get(0));
+    isConnected[first] = true;
+    final List<Join> joins = new ArrayList<>();
+    final int[] previousForeignKey = new int[tables.length];
+    final int[] previousTable = new int[tables.length];
+    final int[] queue = new int[tables.length];
+    for (final Table table : tablesToConnect.subList(1, tablesToConnect.size())) {
+      final int target = tableId(table);
+      if (isConnected[target]) {
+        continue;
+      }
+
+      // Breadth-first search from every table that is already connected
+      Arrays.fill(previousTable, UNREACHED);
+      int head = 0;
+      int tail = 0;
+      for (int i = 0; i < tables.length; i++) {
+        if (isConnected[i]) {
+          queue[tail++] = i;
+          previousTable[i] = i;
+        }
+      }
+      while (head < tail && previousTable[target] == UNREACHED) {
+        final int current = queue[head++];
+        for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+          final int adjacent = adjacentTables[i];
+          if (previousTable[adjacent] == UNREACHED) {
+            previousTable[adjacent] = current;
+            previousForeignKey[adjacent] = adjacentForeignKeys[i];
+            queue[tail++] = adjacent;
+          }
+        }
+      }
+      if (previousTable[target] == UNREACHED) {
+        return Optional.empty();
+      }
+
+      final List<Join> path = new ArrayList<>();
+      for (int current = target; !isConnected[current]; current = previousTable[current]) {
+        isConnected[current] = true;
+        path.add(join(previousTable[current], current, previousForeignKey[current]));
+      }
+      Collections.reverse(path);
+      joins.addAll(path);
+    }
+    return Optional.of(joins);
+  }
+
+  /**
+   * Number of foreign keys in the graph.
+   *
+   * @return Number of foreign keys
+   */
+  public int foreignKeyCount() {
+    return foreignKeys.length;
+  }
+
+  /**
+   * Splits the tables into clusters of related tables, with no more than a maximum number of tables
+   * in each cluster. Tables that are connected by foreign keys are kept together where they fit in
+   * one cluster. Larger groups are split by growing each cluster breadth-first from the most
+   * connected table that is left, so that tables in a cluster are still related. Tables without
+   * foreign keys are put together in the last clusters.
+   *
+   * @param maxClusterSize Most tables in one cluster
+   * @return Clusters of tables, each in catalog order
+   */
+  public List<List<Table>> partition(final int maxClusterSize) {
+    if (maxClusterSize <= 0) {
+      throw new IllegalArgumentException("Cluster size must be positive");
+    }
+
+    final List<List<Table>> clusters = new ArrayList<>();
+    final List<Table> unrelatedTables = new ArrayList<>();
+    final boolean[] isVisited = new boolean[tables.length];
+    final boolean[] isAssigned = new boolean[tables.length];
+    final int[] queue = new int[tables.length];
+    for (int start = 0; start < tables.length; start++) {
+      if (isVisited[start]) {
+        continue;
+      }
+      isVisited[start] = true;
+      if (degree(start) == 0) {
+        unrelatedTables.add(tables[start]);
+        continue;
+      }
+
+      // Find all tables connected to this one
+      int tail = 0;
+      queue[tail++] = start;
+      for (int head = 0; head < tail; head++) {
+        final int current = queue[head];
+        for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+          final int adjacent = adjacentTables[i];
+          if (!isVisited[adjacent]) {
+            isVisited[adjacent] = true;
+            queue[tail++] = adjacent;
+          }
+        }
+      }
+      final int[] members = Arrays.copyOf(queue, tail);
+      if (members.length <= maxClusterSize) {
+        clusters.add(toTables(members));
+      } else {
+        split(members, maxClusterSize, isAssigned, clusters);
+      }
+    }
+
+    for (int i = 0; i < unrelatedTables.size(); i = i + maxClusterSize) {
+      clusters.add(
+          List.copyOf(
+              unrelatedTables.subList(i, Math.min(i + maxClusterSize, unrelatedTables.size()))));
+    }
+    return clusters;
+  }
+
+  /**
+   * Finds tables that are related to the given tables through foreign keys, following child tables
+   * and referenced (parent) tables separately, each up to a depth.
+   *
+   * @param selectedTables Tables to start from
+   * @param childTableDepth Levels of child tables to follow
+   * @param parentTableDepth Levels of referenced tables to follow
+   * @return Selected and related tables, in catalog order
+   */
+  public List<Table> related(
+      final Collection<Table> selectedTables,
+      final int childTableDepth,
+      final int parentTableDepth) {
+    requireNonNull(selectedTables, "No tables provided");
+    final boolean[] isIncluded = new boolean[tables.length];
+    final int[] seeds = new int[selectedTables.size()];
+    int seedCount = 0;
+    for (final Table table : selectedTables) {
+      final int tableId = tableId(table);
+      if (!isIncluded[tableId]) {
+        isIncluded[tableId] = true;
+        seeds[seedCount++] = tableId;
+      }
+    }
+    final int[] startTables = Arrays.copyOf(seeds, seedCount);
+    expand(startTables, childTableDepth, false, isIncluded);
+    expand(startTables, parentTableDepth, true, isIncluded);
+
+    final List<Table> relatedTables = new ArrayList<>();
+    for (int i = 0; i < tables.length; i++) {
+      if (isIncluded[i]) {
+        relatedTables.add(tables[i]);
+      }
+    }
+    return relatedTables;
+  }
+
+  /**
+   * Finds the join paths with the fewest joins from one table to another.
+   *
+   * @param fromTable Table to start from
+   * @param toTable Table to end with
+   * @param maxPaths Maximum number of paths to return
+   * @return Shortest join paths, which is empty if the tables are not connected
+   */
+  public List<List<Join>> shortestPaths(
+      final Table fromTable, final Table toTable, final int maxPaths) {
+    final int source = tableId(fromTable);
+    final int target = tableId(toTable);
+    if (maxPaths <= 0) {
+      return List.of();
+    }
+    if (source == target) {
+      return List.of(List.of());
+    }
+
+    final int[] fromSource = distances(source, target, Integer.MAX_VALUE);
+    final int length = fromSource[target];
+    if (length == UNREACHED) {
+      return List.of();
+    }
+    final int[] toTarget = distances(target, source, length);
+
+    // A step is on a shortest path if it is one further from the source and one nearer the target
+    final List<List<Join>> paths = new ArrayList<>();
+    final int[] pathForeignKeys = new int[length];
+    final int[] pathTables = new int[length + 1];
+    pathTables[0] = source;
+    final int[] nextOffsets = new int[length + 1];
+    nextOffsets[0] = offsets[source];
+    int depth = 0;
+    while (depth >= 0 && paths.size() < maxPaths) {
+      final int current = pathTables[depth];
+      if (depth == length) {
+        final List<Join> path = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          path.add(join(pathTables[i], pathTables[i + 1], pathForeignKeys[i]));
+        }
+        paths.add(path);
+        depth--;
+        continue;
+      }
+      boolean isAdvanced = false;
+      while (nextOffsets[depth] < offsets[current + 1]) {
+        final int i = nextOffsets[depth]++;
+        final int adjacent = adjacentTables[i];
+        if (fromSource[adjacent] == depth + 1 && toTarget[adjacent] == length - depth - 1) {
+          pathForeignKeys[depth] = adjacentForeignKeys[i];
+          pathTables[depth + 1] = adjacent;
+          nextOffsets[depth + 1] = offsets[adjacent];
+          depth++;
+          isAdvanced = true;
+          break;
+        }
+      }
+      if (!isAdvanced) {
+        depth--;
+      }
+    }
+    return paths;
+  }
+
+  /**
+   * Number of tables in the graph.
+   *
+   * @return Number of tables
+   */
+  public int tableCount() {
+    return tables.length;
+  }
+
+  private RelationshipCardinality cardinality(final ERModel erModel, final ForeignKey foreignKey) {
+    if (erModel == null) {
+      return ERModelUtility.inferCardinality(foreignKey);
+    }
+    return erModel
+        .lookupRelationship(foreignKey)
+        .map(Relationship::getType)
+        .orElseGet(() -> ERModelUtility.inferCardinality(foreignKey));
+  }
+
+  private int degree(final int tableId) {
+    return offsets[tableId + 1] - offsets[tableId];
+  }
+
+  /** Breadth-first distances from a table, stopping after the target or the maximum distance. */
+  private int[] distances(final int source, final int target, final int maxDistance) {
+    final int[] distances = new int[tables.length];
+    Arrays.fill(distances, UNREACHED);
+    final int[] queue = new int[tables.length];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = source;
+    distances[source] = 0;
+    while (head < tail) {
+      final int current = queue[head++];
+      final int distance = distances[current];
+      if (distance >= maxDistance
+          || distances[target] != UNREACHED && distance >= distances[target]) {
+        break;
+      }
+      for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+        final int adjacent = adjacentTables[i];
+        if (distances[adjacent] == UNREACHED) {
+          distances[adjacent] = distance + 1;
+          queue[tail++] = adjacent;
+        }
+      }
+    }
+    return distances;
+  }
+
+  private int[] ends(final ForeignKey foreignKey) {
+    for (final ColumnReference columnReference : foreignKey) {
+      final Table foreignKeyTable = columnReference.getForeignKeyColumn().getParent();
+      final Table primaryKeyTable = columnReference.getPrimaryKeyColumn().getParent();
+      final Integer foreignKeyTableId = tableIds.get(foreignKeyTable);
+      final Integer primaryKeyTableId = tableIds.get(primaryKeyTable);
+      if (foreignKeyTableId == null || primaryKeyTableId == null) {
+        return null;
+      }
+      return new int[] {foreignKeyTableId, primaryKeyTableId};
+    }
+    return null;
+  }
+
+  /**
+   * Breadth-first search in one direction along foreign keys - to the tables that reference each
+   * table, or to the tables that each table references.
+   */
+  private void expand(
+      final int[] startTables,
+      final int depth,
+      final boolean isTowardsParents,
+      final boolean[] isIncluded) {
+    if (depth <= 0) {
+      return;
+    }
+    final int[] distances = new int[tables.length];
+    Arrays.fill(distances, UNREACHED);
+    final int[] queue = new int[tables.length];
+    int tail = 0;
+    for (final int startTable : startTables) {
+      distances[startTable] = 0;
+      queue[tail++] = startTable;
+    }
+    for (int head = 0; head < tail; head++) {
+      final int current = queue[head];
+      if (distances[current] >= depth) {
+        break;
+      }
+      for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+        final int adjacent = adjacentTables[i];
+        // The foreign key is on the child table
+        final boolean isParent = foreignKeyTables[adjacentForeignKeys[i]] == current;
+        if (isParent == isTowardsParents && distances[adjacent] == UNREACHED) {
+          distances[adjacent] = distances[current] + 1;
+          isIncluded[adjacent] = true;
+          queue[tail++] = adjacent;
+        }
+      }
+    }
+  }
+
+  private Join join(final int fromTable, final int toTable, final int foreignKey) {
+    return new Join(
+        tables[fromTable], tables[toTable], foreignKeys[foreignKey], cardinalities[foreignKey]);
+  }
+
+  /** Splits a large group of connected tables into clusters. */
+  private void split(
+      final int[] members,
+      final int maxClusterSize,
+      final boolean[] isAssigned,
+      final List<List<Table>> clusters) {
+    // Most connected tables first, in catalog order for the same number of foreign keys
+    final long[] byDegree = new long[members.length];
+    for (int i = 0; i < members.length; i++) {
+      byDegree[i] = (long) (adjacentTables.length - degree(members[i])) << 32 | members[i];
+    }
+    Arrays.sort(byDegree);
+
+    final int[] queue = new int[members.length];
+    final boolean[] isQueued = isAssigned.clone();
+    int next = 0;
+    int assigned = 0;
+    while (assigned < members.length) {
+      // Grow the next cluster from the most connected table that is left
+      while (isAssigned[(int) byDegree[next]]) {
+        next++;
+      }
+      final int start = (int) byDegree[next];
+
+      final int[] cluster = new int[maxClusterSize];
+      int size = 0;
+      int tail = 0;
+      queue[tail++] = start;
+      isQueued[start] = true;
+      for (int head = 0; head < tail && size < maxClusterSize; head++) {
+        final int current = queue[head];
+        cluster[size++] = current;
+        isAssigned[current] = true;
+        for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+          final int adjacent = adjacentTables[i];
+          if (!isQueued[adjacent]) {
+            isQueued[adjacent] = true;
+            queue[tail++] = adjacent;
+          }
+        }
+      }
+      // Tables that were queued, but did not fit, are left for later clusters
+      for (int i = 0; i < tail; i++) {
+        isQueued[queue[i]] = isAssigned[queue[i]];
+      }
+      assigned = assigned + size;
+      clusters.add(toTables(Arrays.copyOf(cluster, size)));
+    }
+  }
+
+  private int tableId(final Table table) {
+    requireNonNull(table, "No table provided");
+    final Integer tableId = tableIds.get(table);
+    if (tableId == null) {
+      throw new IllegalArgumentException(
+          "<%s> is not in the catalog".formatted(table.getFullName()));
+    }
+    return tableId;
+  }
+
+  private List<Table> toTables(final int[] tableIds) {
+    final int[] sorted = tableIds.clone();
+    Arrays.sort(sorted);
+    final List<Table> clusterTables = new ArrayList<>(sorted.length);
+    for (final int tableId : sorted) {
+      clusterTables.add(tables[tableId]);
+    }
+    return clusterTables;
+  }
+}
@@ -12,11 +12,13 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.ermodel.model.ERModel;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.tools.ai.tools.FunctionReturnCache.CacheKey;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 import us.fatehi.mcp_json_schema.utility.DeserializationUtility;
@@ -33,9 +35,15 @@ public final class FunctionCallback<P extends FunctionParameters> {
 
   private static final Logger LOGGER = Logger.getLogger(FunctionCallback.class.getCanonicalName());
 
+  private static Supplier<CatalogSnapshot> fixedCatalogSnapshot(
+      final Catalog catalog, final ERModel erModel) {
+    final CatalogSnapshot catalogSnapshot = new CatalogSnapshot(catalog, erModel);
+    return () -> catalogSnapshot;
+  }
+
   private final FunctionDefinition<P> functionDefinition;
-  private final Catalog catalog;
-  private final ERModel erModel;
+  private final Supplier<CatalogSnapshot> catalogSnapshot;
+  private final FunctionReturnCache functionReturnCache;
 
   /**
    * Function callbacks are created and registered ahead of time, with the required context that is
@@ -49,9 +57,29 @@ public final class FunctionCallback<P extends FunctionParameters> {
       final FunctionDefinition<P> functionDefinition,
       final Catalog catalog,
       final ERModel erModel) {
+    this(functionDefinition, fixedCatalogSnapshot(catalog, erModel));
+  }
+
+  /**
+   * Function callbacks that run against the catalog snapshot that is current when the function
+   * call starts, so that the catalog can be refreshed while the server is running.
+   *
+   * @param functionName Name of the function to execute.
+   * @param catalogSnapshot Supplies the current database catalog and ER model.
+   */
+  public FunctionCallback(
+      final FunctionDefinition<P> functionDefinition,
+      final Supplier<CatalogSnapshot> catalogSnapshot) {
+    this(functionDefinition, catalogSnapshot, null);
+  }
+
+  private FunctionCallback(
+      final FunctionDefinition<P> functionDefinition,
+      final Supplier<CatalogSnapshot> catalogSnapshot,
+      final FunctionReturnCache functionReturnCache) {
     this.functionDefinition = requireNonNull(functionDefinition, "No function definition provided");
-    this.catalog = catalog;
-    this.erModel = erModel;
+    this.catalogSnapshot = requireNonNull(catalogSnapshot, "No catalog snapshot provided");
+    this.functionReturnCache = functionReturnCache;
   }
 
   /**
@@ -73,7 +101,18 @@ public final class FunctionCallback<P extends FunctionParameters> {
     try {
       final P arguments = instantiateArguments(argumentsString);
 
-      final FunctionReturn returnValue = executeFunction(arguments, connectionSource);
+      final CatalogSnapshot snapshot =
+          requireNonNull(catalogSnapshot.get(), "No catalog snapshot available");
+      final FunctionReturn returnValue;
+      if (functionReturnCache != null && functionDefinition.isIdempotent()) {
+        final CacheKey cacheKey =
+            new CacheKey(functionDefinition.getName(), arguments, snapshot.version());
+        returnValue =
+            functionReturnCache.get(
+                cacheKey, () -> executeFunction(arguments, snapshot, connectionSource));
+      } else {
+        returnValue = executeFunction(arguments, snapshot, connectionSource);
+      }
       return returnValue;
     } catch (final Exception e) {
       LOGGER.log(
@@ -131,20 +170,44 @@ public final class FunctionCallback<P extends FunctionParameters> {
     return toCallObject(null).toPrettyString();
   }
 
+  /**
+   * Creates a function callback that reuses earlier results of idempotent functions called with
+   * the same arguments on the same catalog snapshot.
+   *
+   * @param functionReturnCache Cache of function results, or null for no caching.
+   * @return Function callback that uses the cache
+   */
+  public FunctionCallback<P> withFunctionReturnCache(
+      final FunctionReturnCache functionReturnCache) {
+    return new FunctionCallback<>(functionDefinition, catalogSnapshot, functionReturnCache);
+  }
+
   private FunctionReturn executeFunction(
-      final P arguments, final DatabaseConnectionSource connectionSource) throws Exception {
+      final P arguments,
+      final CatalogSnapshot snapshot,
+      final DatabaseConnectionSource connectionSource)
+      throws Exception {
     requireNonNull(arguments, "No function arguments provided");
 
     FunctionReturn functionReturn;
     final FunctionExecutor<P> functionExecutor = functionDefinition.newExecutor();
     functionExecutor.configure(arguments);
     functionExecutor.initialize();
-    functionExecutor.setCatalog(catalog);
-    functionExecutor.setERModel(erModel);
+    functionExecutor.setCatalog(snapshot.catalog());
+    functionExecutor.setERModel(snapshot.erModel());
+    functionExecutor.setCatalogVersion(snapshot.version());
+    functionExecutor.setCatalogIndex(snapshot.index());
+    functionExecutor.setCatalogCopier(snapshot.catalogCopier());
+    functionExecutor.setTableFragments(snapshot.tableFragments());
+    functionExecutor.setDiagrams(snapshot.diagrams());
+    functionExecutor.setLints(snapshot.lints());
     if (functionExecutor.usesConnection()) {
       functionExecutor.setConnectionSource(connectionSource);
     }
     functionReturn = functionExecutor.call();
+    if (functionReturn instanceof final JsonFunctionReturn jsonFunctionReturn) {
+      jsonFunctionReturn.withTokenBudget(arguments.tokenBudget());
+    }
     return functionReturn;
   }
 
@@ -11,4 +11,59 @@ package schemacrawler.tools.ai.tools;
 import schemacrawler.tools.command.CallableCommand;
 
 public interface FunctionExecutor<P extends FunctionParameters>
-    extends CallableCommand<P, FunctionReturn> {}
+    extends CallableCommand<P, FunctionReturn> {
+
+  /**
+   * Provides private copies of the catalog, to executors that run SchemaCrawler commands.
+   *
+   * @param catalogCopier Makes copies of the catalog, or null if there is none
+   */
+  default void setCatalogCopier(final CatalogCopier catalogCopier) {
+    // Not used by default
+  }
+
+  /**
+   * Provides name lookup and search indexes for the catalog, to executors that can use them.
+   *
+   * @param catalogIndex Indexes for the catalog, or null if there are none
+   */
+  default void setCatalogIndex(final CatalogIndex catalogIndex) {
+    // Not used by default
+  }
+
+  /**
+   * Provides the version of the catalog snapshot, to executors that tie results to it.
+   *
+   * @param catalogVersion Version of the catalog snapshot
+   */
+  default void setCatalogVersion(final long catalogVersion) {
+    // Not used by default
+  }
+
+  /**
+   * Provides rendered diagrams for the catalog, to executors that can use them.
+   *
+   * @param diagrams Rendered diagrams, or null if there are none
+   */
+  default void setDiagrams(final DiagramStore diagrams) {
+    // Not used by default
+  }
+
+  /**
+   * Provides stored lints for the catalog, to executors that can use them.
+   *
+   * @param lints Lints for each table, or null if there are none
+   */
+  default void setLints(final LintStore lints) {
+    // Not used by default
+  }
+
+  /**
+   * Provides serialized table documents for the catalog, to executors that can use them.
+   *
+   * @param tableFragments Serialized table documents, or null if there are none
+   */
+  default void setTableFragments(final TableFragmentStore tableFragments) {
+    // Not used by default
+  }
+}
@@ -10,4 +10,15 @@ package schemacrawler.tools.ai.tools;
 
 import schemacrawler.tools.command.CommandOptions;
 
-public interface FunctionParameters extends CommandOptions {}
+public interface FunctionParameters extends CommandOptions {
+
+  /**
+   * Approximate maximum number of tokens in the results of a function call. Results that are
+   * larger are cut short.
+   *
+   * @return Token budget, or zero if the results are not limited
+   */
+  default int tokenBudget() {
+    return 0;
+  }
+}
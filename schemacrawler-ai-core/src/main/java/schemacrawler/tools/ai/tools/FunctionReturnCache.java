@@ -0,0 +1,172 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Size-bounded cache of the results of idempotent function calls. Results are keyed by function
+ * name, the deserialized function parameters, and the version of the catalog snapshot that they
+ * were computed from. The least recently used results are evicted when the cache is full, and
+ * results expire after a time-to-live. The cache is cleared as soon as a call is seen for a newer
+ * catalog snapshot, and results computed from older snapshots are not cached.
+ */
+public final class FunctionReturnCache {
+
+  /**
+   * Cache key for a function call.
+   *
+   * @param functionName Name of the function.
+   * @param parameters Deserialized function parameters, which are records with value equality.
+   * @param catalogVersion Version of the catalog snapshot the function is called on.
+   */
+  public record CacheKey(
+      String functionName, FunctionParameters parameters, long catalogVersion) {
+
+    public CacheKey {
+      requireNonNull(functionName, "No function name provided");
+      requireNonNull(parameters, "No function parameters provided");
+    }
+  }
+
+  /** Cache counters, to help size the cache. */
+  public record Statistics(
+      long hits, long misses, long evictions, int size, int maxSize, Duration timeToLive) {
+
+    public double hitRate() {
+      final long requests = hits + misses;
+      return requests == 0 ? 0 : (double) hits / requests;
+    }
+  }
+
+  private record CacheEntry(FunctionReturn functionReturn, long expiresAt) {}
+
+  private static final Logger LOGGER =
+      Logger.getLogger(FunctionReturnCache.class.getCanonicalName());
+
+  private final int maxSize;
+  private final Duration timeToLive;
+  private final Map<CacheKey, CacheEntry> entries;
+  private final AtomicLong hits;
+  private final AtomicLong misses;
+  private final AtomicLong evictions;
+  private long catalogVersion;
+
+  public FunctionReturnCache(final int maxSize, final Duration timeToLive) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Cache size must be positive");
+    }
+    requireNonNull(timeToLive, "No time-to-live provided");
+    if (timeToLive.isNegative() || timeToLive.isZero()) {
+      throw new IllegalArgumentException("Time-to-live must be positive");
+    }
+    this.maxSize = maxSize;
+    this.timeToLive = timeToLive;
+
+    hits = new AtomicLong();
+    misses = new AtomicLong();
+    evictions = new AtomicLong();
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<CacheKey, CacheEntry> eldest) {
+            final boolean isFull = size() > FunctionReturnCache.this.maxSize;
+            if (isFull) {
+              evictions.incrementAndGet();
+            }
+            return isFull;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached result of a function call, or makes the call and caches the result.
+   * Exception results are not cached. Concurrent misses for the same key may each make the call.
+   *
+   * @param key Cache key for the function call
+   * @param functionCall Makes the function call
+   * @return Result of the function call
+   */
+  public FunctionReturn get(final CacheKey key, final Callable<FunctionReturn> functionCall)
+      throws Exception {
+    requireNonNull(key, "No cache key provided");
+    requireNonNull(functionCall, "No function call provided");
+
+    synchronized (entries) {
+      observeCatalogVersion(key.catalogVersion());
+      final CacheEntry entry = entries.get(key);
+      if (entry != null) {
+        if (entry.expiresAt() - System.nanoTime() > 0) {
+          hits.incrementAndGet();
+          return entry.functionReturn();
+        }
+        entries.remove(key);
+        evictions.incrementAndGet();
+      }
+    }
+
+    misses.incrementAndGet();
+    final FunctionReturn functionReturn = functionCall.call();
+    if (functionReturn == null || functionReturn instanceof ExceptionFunctionReturn) {
+      return functionReturn;
+    }
+
+    synchronized (entries) {
+      // Do not cache results computed from a snapshot that was replaced during the call
+      if (key.catalogVersion() == catalogVersion) {
+        entries.put(key, new CacheEntry(functionReturn, System.nanoTime() + timeToLive.toNanos()));
+      }
+    }
+    return functionReturn;
+  }
+
+  /** Removes all cached results, for example when the catalog changes. */
+  public void invalidateAll() {
+    synchronized (entries) {
+      if (!entries.isEmpty()) {
+        LOGGER.log(
+            Level.FINE, new StringFormat("Invalidating <%d> cached results", entries.size()));
+      }
+      entries.clear();
+    }
+  }
+
+  public Statistics statistics() {
+    final int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    return new Statistics(hits.get(), misses.get(), evictions.get(), size, maxSize, timeToLive);
+  }
+
+  private void observeCatalogVersion(final long version) {
+    if (version > catalogVersion) {
+      if (catalogVersion > 0) {
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat(
+                "Catalog changed from version <%d> to <%d>, invalidating cached results",
+                catalogVersion, version));
+      }
+      catalogVersion = version;
+      entries.clear();
+    }
+  }
+}
@@ -9,30 +9,55 @@
 package schemacrawler.tools.ai.tools;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.ai.utility.JsonUtility.compactMapper;
 import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+import static schemacrawler.tools.ai.utility.TokenEstimator.estimate;
 import static us.fatehi.utility.Utility.requireNotBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
+import java.util.HashMap;
+import java.util.Map;
 import schemacrawler.tools.ai.model.Document;
+import schemacrawler.tools.ai.model.OutputEncoding;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.util.RawValue;
 
+/**
+ * JSON results of a function. Results built from a document are serialized straight from the
+ * document objects when they are returned, without first building a JSON tree, which would be
+ * another full copy of large results in memory.
+ *
+ * <p>Results can be limited to an approximate token budget. Scalar and object values at the top
+ * level are always returned, then list items, or rows of tabular lists, are added in order until
+ * the budget is used up. Items that do not fit are not serialized at all, and a "truncated" marker
+ * says how many items were returned, and how to get the rest.
+ */
 public final class JsonFunctionReturn implements FunctionReturn {
+  // Tokens kept back for the truncation marker
+  private static final int TRUNCATION_MARKER_TOKENS = 60;
+  private static final String TRUNCATION_HINT =
+      "Results were cut short to fit max_tokens. "
+          + "Use a more specific name pattern, a larger max_tokens, "
+          + "or where supported, limit and offset to get the remaining results.";
 
-  private final JsonNode jsonNode;
+  private final Document document;
+  private JsonNode jsonNode;
   private String summary = "";
+  private int tokenBudget;
 
   public JsonFunctionReturn() {
+    document = null;
     jsonNode = mapper.missingNode();
   }
 
   public JsonFunctionReturn(final Document document) {
-    requireNonNull(document, "No schema document provided");
-    jsonNode = document.toObjectNode();
+    this.document = requireNonNull(document, "No schema document provided");
   }
 
   public JsonFunctionReturn(final JsonNode objectNode) {
+    document = null;
     jsonNode = requireNonNull(objectNode, "No object node provided");
   }
 
@@ -42,11 +67,18 @@ public final class JsonFunctionReturn implements FunctionReturn {
     if (list != null) {
       listNode.set(listName, list);
     }
+    document = null;
     jsonNode = listNode;
   }
 
   @Override
   public String get() {
+    if (tokenBudget > 0 && getResult() instanceof final ObjectNode objectNode) {
+      return limitToTokenBudget(objectNode);
+    }
+    if (document != null) {
+      return compactMapper.writeValueAsString(document);
+    }
     return jsonNode.toString();
   }
 
@@ -55,7 +87,16 @@ public final class JsonFunctionReturn implements FunctionReturn {
     return FunctionReturnMetadata.JSON;
   }
 
-  public JsonNode getResult() {
+  /**
+   * JSON tree of the results. For results built from a document, the tree is only built when it
+   * is asked for.
+   *
+   * @return JSON tree
+   */
+  public synchronized JsonNode getResult() {
+    if (jsonNode == null) {
+      jsonNode = document.toObjectNode();
+    }
     return jsonNode;
   }
 
@@ -68,4 +109,97 @@ public final class JsonFunctionReturn implements FunctionReturn {
     this.summary = trimToEmpty(summary);
     return this;
   }
+
+  /**
+   * Limits the returned results to an approximate number of tokens.
+   *
+   * @param tokenBudget Approximate maximum number of tokens, or zero for no limit
+   * @return This function return
+   */
+  public JsonFunctionReturn withTokenBudget(final int tokenBudget) {
+    this.tokenBudget = Math.max(0, tokenBudget);
+    return this;
+  }
+
+  private String limitToTokenBudget(final ObjectNode objectNode) {
+    final long budget = Math.max(tokenBudget - TRUNCATION_MARKER_TOKENS, 0);
+    final Map<String, JsonNode> limited = new HashMap<>();
+    long used = 0;
+
+    // Scalars and objects at the top level identify the results, so they are always returned
+    for (final Map.Entry<String, JsonNode> property : objectNode.properties()) {
+      final JsonNode value = property.getValue();
+      if (listItems(value) == null) {
+        limited.put(property.getKey(), value);
+        used = used + estimate(property.getKey()) + estimate(serialize(value));
+      }
+    }
+
+    // Fill lists in order, until the budget is used up
+    boolean isTruncated = false;
+    int returnedItems = 0;
+    int totalItems = 0;
+    for (final Map.Entry<String, JsonNode> property : objectNode.properties()) {
+      final JsonNode value = property.getValue();
+      final JsonNode list = listItems(value);
+      if (list == null) {
+        continue;
+      }
+      totalItems = totalItems + list.size();
+      final ArrayNode items = mapper.createArrayNode();
+      if (value.isArray()) {
+        limited.put(property.getKey(), items);
+      } else {
+        // Tabular lists keep their header of field names
+        final JsonNode fields = value.get(OutputEncoding.FIELDS);
+        final ObjectNode table = mapper.createObjectNode();
+        table.set(OutputEncoding.FIELDS, fields);
+        table.set(OutputEncoding.ROWS, items);
+        limited.put(property.getKey(), table);
+        used = used + estimate(serialize(fields));
+      }
+      for (final JsonNode item : list) {
+        if (isTruncated) {
+          break;
+        }
+        final String serializedItem = serialize(item);
+        final long itemTokens = estimate(serializedItem) + 1;
+        if (used + itemTokens > budget) {
+          isTruncated = true;
+          break;
+        }
+        items.addRawValue(new RawValue(serializedItem));
+        used = used + itemTokens;
+        returnedItems++;
+      }
+    }
+
+    final ObjectNode limitedNode = mapper.createObjectNode();
+    for (final String propertyName : objectNode.propertyNames()) {
+      limitedNode.set(propertyName, limited.get(propertyName));
+    }
+    if (!isTruncated) {
+      return serialize(limitedNode);
+    }
+    final ObjectNode truncatedNode = limitedNode.putObject("truncated");
+    truncatedNode.put("max_tokens", tokenBudget);
+    truncatedNode.put("returned_items", returnedItems);
+    truncatedNode.put("total_items", totalItems);
+    truncatedNode.put("hint", TRUNCATION_HINT);
+    return serialize(limitedNode);
+  }
+
+  private JsonNode listItems(final JsonNode value) {
+    if (value.isArray()) {
+      return value;
+    }
+    if (OutputEncoding.isTable(value)) {
+      return value.get(OutputEncoding.ROWS);
+    }
+    return null;
+  }
+
+  private String serialize(final JsonNode node) {
+    return compactMapper.writeValueAsString(node);
+  }
 }
@@ -0,0 +1,368 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import tools.jackson.databind.JsonNode;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Lints for each table, kept for the life of a catalog snapshot. The catalog is linted once, in the
+ * background, in a single run over one copy of the catalog, and the lints are split up by table.
+ * After that, lints for any set of tables are put together from the stored lints, without copying
+ * the catalog or running the linters again.
+ *
+ * <p>Catalog lints compare all the tables in the catalog, so they are kept separately, from the
+ * same run.
+ *
+ * <p>A store that follows a fully linted store from an earlier snapshot only lints the tables that
+ * changed, and the tables that are related to them by foreign keys, in one run over a catalog
+ * reduced to those tables and their neighbours. Lints for all other tables, and catalog lints, are
+ * carried over. If column names or data types, or the foreign keys between tables, changed
+ * anywhere, catalog lints can change too, so the whole catalog is linted again.
+ *
+ * <p>Background lints run one at a time in the process, so that they hold at most one database
+ * connection and one copy of a catalog, however many snapshots are waiting to be linted.
+ */
+public final class LintStore {
+
+  /** Lints tables. */
+  @FunctionalInterface
+  public interface TableLinter {
+
+    /**
+     * Lints a catalog that is reduced to the given tables.
+     *
+     * @param tables Tables to keep in the catalog
+     * @return Lints as JSON, in the order they were reported
+     * @throws Exception If the tables could not be linted
+     */
+    List<JsonNode> lint(List<Table> tables) throws Exception;
+  }
+
+  /**
+   * What a fully linted store passes on to the store for the next snapshot. It holds no reference
+   * to the earlier catalog, so that the catalog can be collected as soon as it is replaced.
+   */
+  private record LintedState(
+      Map<String, Integer> signatures,
+      int catalogSignature,
+      Map<String, List<JsonNode>> tableLints,
+      List<JsonNode> catalogLints) {}
+
+  private static final Logger LOGGER = Logger.getLogger(LintStore.class.getCanonicalName());
+
+  private static final Semaphore BACKGROUND_LINTS = new Semaphore(1);
+
+  /**
+   * Signature of what catalog lints depend on - the data types of columns with the same name, and
+   * the foreign keys between tables. Sorted, so that it does not depend on the order of tables.
+   */
+  private static int catalogSignature(final List<Table> tables) {
+    final List<String> tuples = new ArrayList<>();
+    for (final Table table : tables) {
+      for (final Column column : table.getColumns()) {
+        tuples.add(
+            String.join("\u0000", "C", column.getName(), column.getColumnDataType().getName()));
+      }
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        tuples.add(
+            String.join(
+                "\u0000",
+                "F",
+                foreignKey.getPrimaryKeyTable().getFullName(),
+                foreignKey.getForeignKeyTable().getFullName()));
+      }
+    }
+    Collections.sort(tuples);
+    return tuples.hashCode();
+  }
+
+  private static int signature(final Table table) {
+    int signature = Objects.hash(String.valueOf(table.getTableType()), table.getRemarks());
+    for (final Column column : table.getColumns()) {
+      signature =
+          31 * signature
+              + Objects.hash(
+                  column.getName(),
+                  column.getColumnDataType().getName(),
+                  column.getSize(),
+                  column.getDecimalDigits(),
+                  column.isNullable(),
+                  column.getDefaultValue(),
+                  column.getRemarks());
+    }
+    if (table.hasPrimaryKey()) {
+      for (final TableConstraintColumn column : table.getPrimaryKey().getConstrainedColumns()) {
+        signature = 31 * signature + column.getFullName().hashCode();
+      }
+    }
+    // Sum, so that the signature does not depend on the order of indexes, keys and triggers
+    for (final Index index : table.getIndexes()) {
+      final List<String> columns = new ArrayList<>();
+      for (final IndexColumn column : index.getColumns()) {
+        columns.add(column.getFullName());
+      }
+      signature = signature + Objects.hash(index.getName(), index.isUnique(), columns);
+    }
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      final List<String> columns = new ArrayList<>();
+      for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+        columns.add(columnReference.getForeignKeyColumn().getFullName());
+        columns.add(columnReference.getPrimaryKeyColumn().getFullName());
+      }
+      signature = signature + Objects.hash(foreignKey.getName(), columns);
+    }
+    for (final Trigger trigger : table.getTriggers()) {
+      signature = signature + Objects.hash(trigger.getName(), trigger.getActionStatement());
+    }
+    return signature;
+  }
+
+  private final Catalog catalog;
+  private final CatalogIndex index;
+  private final ConcurrentMap<String, List<JsonNode>> tableLints;
+  private final AtomicReference<CompletableFuture<Void>> linting;
+  private volatile LintedState previous;
+  private volatile Map<String, Integer> signatures;
+  private volatile int catalogSignature;
+  private volatile List<JsonNode> catalogLints;
+
+  public LintStore(final Catalog catalog, final CatalogIndex index) {
+    this(catalog, index, null);
+  }
+
+  private LintStore(final Catalog catalog, final CatalogIndex index, final LintedState previous) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.index = requireNonNull(index, "No catalog index provided");
+    if (!index.isForCatalog(catalog)) {
+      throw new IllegalArgumentException("Catalog index is for a different catalog");
+    }
+    this.previous = previous;
+    tableLints = new ConcurrentHashMap<>();
+    linting = new AtomicReference<>();
+  }
+
+  /**
+   * Lints for the whole catalog, or null if the catalog has not been linted yet.
+   *
+   * @return Catalog lints
+   */
+  public List<JsonNode> catalogLints() {
+    return catalogLints;
+  }
+
+  /**
+   * Number of tables with stored lints.
+   *
+   * @return Number of linted tables
+   */
+  public int count() {
+    return tableLints.size();
+  }
+
+  /**
+   * Whether the store holds lints for the given catalog.
+   *
+   * @param catalog Catalog to check
+   * @return True if the store was created for the same catalog
+   */
+  public boolean isForCatalog(final Catalog catalog) {
+    return this.catalog == catalog;
+  }
+
+  /**
+   * Whether every table in the catalog has been linted.
+   *
+   * @return True if linting finished without errors
+   */
+  public boolean isLinted() {
+    final CompletableFuture<Void> future = linting.get();
+    return future != null && future.isDone() && !future.isCompletedExceptionally();
+  }
+
+  /**
+   * Starts linting the catalog in the background, if it was not started already. Tables that were
+   * linted in an earlier snapshot, and that have not changed, are not linted again.
+   *
+   * @param linter Lints a catalog reduced to a list of tables
+   * @return Completes when the catalog has been linted
+   */
+  public CompletableFuture<Void> lint(final TableLinter linter) {
+    requireNonNull(linter, "No table linter provided");
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    if (!linting.compareAndSet(null, future)) {
+      return linting.get();
+    }
+    Thread.ofVirtual()
+        .name("catalog-lint")
+        .start(
+            () -> {
+              try {
+                BACKGROUND_LINTS.acquire();
+                try {
+                  lintTables(linter);
+                } finally {
+                  BACKGROUND_LINTS.release();
+                }
+                future.complete(null);
+              } catch (final Throwable e) {
+                LOGGER.log(Level.WARNING, "Could not lint catalog", e);
+                future.completeExceptionally(e);
+              } finally {
+                // Let the earlier lints be collected
+                previous = null;
+              }
+            });
+    return future;
+  }
+
+  /**
+   * Lints for a table, in the order they were reported.
+   *
+   * @param table Table in the catalog
+   * @return Lints for the table, or null if the table has not been linted
+   */
+  public List<JsonNode> lints(final Table table) {
+    requireNonNull(table, "No table provided");
+    return tableLints.get(table.getFullName());
+  }
+
+  /**
+   * Creates the store for the snapshot that follows this one. If this store is fully linted, the
+   * new store only lints tables that changed.
+   *
+   * @param catalog Catalog for the next snapshot
+   * @param index Indexes for the catalog for the next snapshot
+   * @return Lint store for the next snapshot
+   */
+  public LintStore next(final Catalog catalog, final CatalogIndex index) {
+    if (!isLinted()) {
+      return new LintStore(catalog, index, null);
+    }
+    final LintedState linted =
+        new LintedState(signatures, catalogSignature, Map.copyOf(tableLints), catalogLints);
+    return new LintStore(catalog, index, linted);
+  }
+
+  /**
+   * Works out the tables to lint again, and carries over lints for the rest, along with catalog
+   * lints. Returns null if the whole catalog needs to be linted.
+   */
+  private List<Table> changedTables(final List<Table> tables) {
+    final LintedState previous = this.previous;
+    if (previous == null || previous.catalogSignature() != catalogSignature) {
+      return null;
+    }
+
+    final List<Table> changedTables = new ArrayList<>();
+    for (final Table table : tables) {
+      final String fullName = table.getFullName();
+      if (!Objects.equals(signatures.get(fullName), previous.signatures().get(fullName))) {
+        changedTables.add(table);
+      }
+    }
+    // Lints for a table can depend on the tables its foreign keys connect it to
+    final List<Table> lintedTables = index.foreignKeyGraph().related(changedTables, 1, 1);
+    final Set<String> lintedTableNames = new HashSet<>();
+    for (final Table table : lintedTables) {
+      lintedTableNames.add(table.getFullName());
+    }
+    for (final Table table : tables) {
+      final String fullName = table.getFullName();
+      if (!lintedTableNames.contains(fullName)) {
+        tableLints.put(fullName, previous.tableLints().get(fullName));
+      }
+    }
+    catalogLints = previous.catalogLints();
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Linting <%d> changed and related tables, and keeping lints for <%d> tables",
+            lintedTables.size(), tables.size() - lintedTables.size()));
+    return lintedTables;
+  }
+
+  private void lintTables(final TableLinter linter) throws Exception {
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    final Map<String, Integer> signatures = new HashMap<>();
+    for (final Table table : tables) {
+      signatures.put(table.getFullName(), signature(table));
+    }
+    this.signatures = signatures;
+    catalogSignature = catalogSignature(tables);
+
+    final List<Table> changedTables = changedTables(tables);
+    final boolean isFullLint = changedTables == null;
+    final List<Table> lintedTables = isFullLint ? tables : changedTables;
+    if (lintedTables.isEmpty()) {
+      if (isFullLint) {
+        this.catalogLints = List.of();
+      }
+      return;
+    }
+
+    // Related tables are kept in the catalog, but only lints for linted tables are stored
+    final List<Table> reducedTables =
+        isFullLint ? tables : index.foreignKeyGraph().related(lintedTables, 1, 1);
+    final Map<String, List<JsonNode>> lints = new HashMap<>();
+    for (final Table table : lintedTables) {
+      lints.put(table.getFullName(), new ArrayList<>());
+    }
+    final List<JsonNode> catalogLints = new ArrayList<>();
+    for (final JsonNode lint : linter.lint(reducedTables)) {
+      if ("catalog".equals(lint.path("object-type").asString())) {
+        catalogLints.add(lint);
+        continue;
+      }
+      final List<JsonNode> objectLints = lints.get(lint.path("object-name").asString());
+      if (objectLints != null) {
+        objectLints.add(lint);
+      }
+    }
+    for (final Map.Entry<String, List<JsonNode>> entry : lints.entrySet()) {
+      tableLints.put(entry.getKey(), List.copyOf(entry.getValue()));
+    }
+    // Catalog lints from a reduced catalog would be incomplete, so they are only kept from a full
+    // lint
+    if (isFullLint) {
+      this.catalogLints = List.copyOf(catalogLints);
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Linted <%d> tables, in a catalog of <%d> tables",
+            lintedTables.size(), reducedTables.size()));
+  }
+}
@@ -0,0 +1,398 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Table;
+import schemacrawler.tools.ai.model.SearchObjectType;
+
+/**
+ * Full-text search over the names and remarks of tables, columns, routines and sequences in a
+ * catalog. Names are split into words at underscores, punctuation and camelCase boundaries, and
+ * matches are ranked with BM25, with words in names counting more than words in remarks. Query
+ * words also match indexed words that they are a prefix of, and words that are one or two typos
+ * away, found through an index of character trigrams.
+ */
+public final class SchemaSearchIndex {
+
+  /**
+   * A database object that matches a search.
+   *
+   * @param type Type of object, such as "table", "view", "column" or "function"
+   * @param fullName Fully-qualified name of the object
+   * @param name Simple name of the object
+   * @param table Full name of the table, for columns
+   * @param score Relevance of the match, higher is better
+   */
+  public record SearchMatch(
+      String type, String fullName, String name, String table, double score) {}
+
+  private record IndexedObject(
+      SearchObjectType category, String type, String fullName, String name, String table) {}
+
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final int NAME_WEIGHT = 3;
+  private static final double PREFIX_WEIGHT = 0.7;
+  private static final double TYPO_WEIGHT = 0.6;
+  private static final int MAX_EXPANSIONS = 50;
+  private static final int[] NO_WORDS = new int[0];
+  private static final Set<String> STOP_WORDS =
+      Set.of("a", "an", "and", "are", "as", "at", "by", "for", "in", "is", "it", "of", "on", "or",
+          "the", "to", "with");
+
+  /**
+   * Splits text into lower-case words, at any character that is not a letter or digit, at
+   * changes from lower-case to upper-case letters, and between letters and digits. So
+   * "first_name", "firstName" and "FirstName" all become "first" and "name".
+   *
+   * @param text Text to split
+   * @return Words in the text, in order
+   */
+  static List<String> words(final String text) {
+    final List<String> words = new ArrayList<>();
+    if (isBlank(text)) {
+      return words;
+    }
+
+    final int length = text.length();
+    int start = -1;
+    for (int i = 0; i < length; i++) {
+      final char ch = text.charAt(i);
+      if (!Character.isLetterOrDigit(ch)) {
+        if (start >= 0) {
+          words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+          start = -1;
+        }
+        continue;
+      }
+      if (start < 0) {
+        start = i;
+        continue;
+      }
+      final char previous = text.charAt(i - 1);
+      final boolean isBoundary =
+          Character.isLowerCase(previous) && Character.isUpperCase(ch)
+              || Character.isLetter(previous) != Character.isLetter(ch)
+              || Character.isUpperCase(previous)
+                  && Character.isUpperCase(ch)
+                  && i + 1 < length
+                  && Character.isLowerCase(text.charAt(i + 1));
+      if (isBoundary) {
+        words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = i;
+      }
+    }
+    if (start >= 0) {
+      words.add(text.substring(start).toLowerCase(Locale.ROOT));
+    }
+    return words;
+  }
+
+  private static int editDistance(final String a, final String b, final int maxDistance) {
+    if (Math.abs(a.length() - b.length()) > maxDistance) {
+      return maxDistance + 1;
+    }
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      int rowMinimum = current[0];
+      for (int j = 1; j <= b.length(); j++) {
+        final int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+        current[j] =
+            Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+        rowMinimum = Math.min(rowMinimum, current[j]);
+      }
+      if (rowMinimum > maxDistance) {
+        return maxDistance + 1;
+      }
+      final int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return previous[b.length()];
+  }
+
+  private static int maxTypos(final String word) {
+    if (word.length() < 4) {
+      return 0;
+    }
+    return word.length() < 8 ? 1 : 2;
+  }
+
+  private static List<String> trigrams(final String word) {
+    final String padded = "$" + word + "$";
+    final List<String> trigrams = new ArrayList<>(padded.length());
+    for (int i = 0; i + 3 <= padded.length(); i++) {
+      trigrams.add(padded.substring(i, i + 3));
+    }
+    return trigrams;
+  }
+
+  private final IndexedObject[] entries;
+  private final float[] entryLengths;
+  private final double averageEntryLength;
+  // Words are sorted, so that words with a prefix are next to each other
+  private final String[] words;
+  private final Map<String, Integer> wordIds;
+  private final int[][] postingEntries;
+  private final float[][] postingFrequencies;
+  private final Map<String, int[]> trigramWords;
+
+  public SchemaSearchIndex(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+
+    final List<IndexedObject> entries = new ArrayList<>();
+    final List<Map<String, Integer>> entryWords = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      final String tableType = table.getTableType().toString().toLowerCase(Locale.ROOT);
+      add(entries, entryWords, SearchObjectType.TABLES, tableType, table, null);
+      for (final Column column : table.getColumns()) {
+        add(entries, entryWords, SearchObjectType.COLUMNS, "column", column, table);
+      }
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      final String routineType = routine.getType().toString().toLowerCase(Locale.ROOT);
+      add(entries, entryWords, SearchObjectType.ROUTINES, routineType, routine, null);
+    }
+    for (final Sequence sequence : catalog.getSequences()) {
+      add(entries, entryWords, SearchObjectType.SEQUENCES, "sequence", sequence, null);
+    }
+    this.entries = entries.toArray(new IndexedObject[0]);
+
+    // Build postings lists, with entries in order for each word
+    final Map<String, List<int[]>> postings = new HashMap<>();
+    entryLengths = new float[this.entries.length];
+    long totalLength = 0;
+    for (int entry = 0; entry < this.entries.length; entry++) {
+      int entryLength = 0;
+      for (final Map.Entry<String, Integer> word : entryWords.get(entry).entrySet()) {
+        postings
+            .computeIfAbsent(word.getKey(), key -> new ArrayList<>())
+            .add(new int[] {entry, word.getValue()});
+        entryLength = entryLength + word.getValue();
+      }
+      entryLengths[entry] = entryLength;
+      totalLength = totalLength + entryLength;
+    }
+    averageEntryLength =
+        this.entries.length == 0 ? 1 : Math.max(1.0, (double) totalLength / this.entries.length);
+
+    words = postings.keySet().toArray(new String[0]);
+    Arrays.sort(words);
+    wordIds = new HashMap<>(words.length * 2);
+    postingEntries = new int[words.length][];
+    postingFrequencies = new float[words.length][];
+    final Map<String, List<Integer>> trigramWords = new HashMap<>();
+    for (int wordId = 0; wordId < words.length; wordId++) {
+      final String word = words[wordId];
+      wordIds.put(word, wordId);
+      final List<int[]> wordPostings = postings.get(word);
+      postingEntries[wordId] = new int[wordPostings.size()];
+      postingFrequencies[wordId] = new float[wordPostings.size()];
+      for (int i = 0; i < wordPostings.size(); i++) {
+        postingEntries[wordId][i] = wordPostings.get(i)[0];
+        postingFrequencies[wordId][i] = wordPostings.get(i)[1];
+      }
+      for (final String trigram : trigrams(word)) {
+        trigramWords.computeIfAbsent(trigram, key -> new ArrayList<>()).add(wordId);
+      }
+    }
+    this.trigramWords = new HashMap<>(trigramWords.size() * 2);
+    for (final Map.Entry<String, List<Integer>> trigram : trigramWords.entrySet()) {
+      this.trigramWords.put(
+          trigram.getKey(), trigram.getValue().stream().mapToInt(Integer::intValue).toArray());
+    }
+  }
+
+  /**
+   * Finds the best matches for a query.
+   *
+   * @param query Words to search for, in names or remarks
+   * @param objectType Type of objects to return
+   * @param limit Maximum number of matches to return
+   * @return Matches, best first
+   */
+  public List<SearchMatch> search(
+      final String query, final SearchObjectType objectType, final int limit) {
+    final List<String> queryWords = words(query);
+    if (queryWords.isEmpty() || limit <= 0 || entries.length == 0) {
+      return List.of();
+    }
+    if (queryWords.size() > 1) {
+      queryWords.add(String.join("", queryWords));
+    }
+
+    final double[] scores = new double[entries.length];
+    for (final String queryWord : queryWords) {
+      for (final Map.Entry<Integer, Double> match : expand(queryWord).entrySet()) {
+        score(scores, match.getKey(), match.getValue());
+      }
+    }
+
+    // Keep the best matches in a heap, with the worst on top
+    final PriorityQueue<Integer> best =
+        new PriorityQueue<>(
+            limit + 1,
+            (entry1, entry2) -> {
+              final int compare = Double.compare(scores[entry1], scores[entry2]);
+              return compare != 0 ? compare : Integer.compare(entry2, entry1);
+            });
+    for (int entry = 0; entry < entries.length; entry++) {
+      if (scores[entry] <= 0 || !isOfType(entries[entry], objectType)) {
+        continue;
+      }
+      best.add(entry);
+      if (best.size() > limit) {
+        best.poll();
+      }
+    }
+
+    final SearchMatch[] matches = new SearchMatch[best.size()];
+    for (int i = matches.length - 1; i >= 0; i--) {
+      final int entry = best.poll();
+      final IndexedObject indexed = entries[entry];
+      matches[i] =
+          new SearchMatch(
+              indexed.type(),
+              indexed.fullName(),
+              indexed.name(),
+              indexed.table(),
+              Math.round(scores[entry] * 1_000) / 1_000.0);
+    }
+    return List.of(matches);
+  }
+
+  /**
+   * Number of database objects in the index.
+   *
+   * @return Number of indexed objects
+   */
+  public int size() {
+    return entries.length;
+  }
+
+  private void add(
+      final List<IndexedObject> entries,
+      final List<Map<String, Integer>> entryWords,
+      final SearchObjectType category,
+      final String type,
+      final DatabaseObject databaseObject,
+      final Table table) {
+    final Map<String, Integer> wordCounts = new LinkedHashMap<>();
+    final List<String> nameWords = words(databaseObject.getName());
+    for (final String word : nameWords) {
+      wordCounts.merge(word, NAME_WEIGHT, Integer::sum);
+    }
+    if (nameWords.size() > 1) {
+      // So that "firstname" finds "FIRST_NAME"
+      wordCounts.merge(String.join("", nameWords), NAME_WEIGHT, Integer::sum);
+    }
+    for (final String word : words(databaseObject.getRemarks())) {
+      if (!STOP_WORDS.contains(word)) {
+        wordCounts.merge(word, 1, Integer::sum);
+      }
+    }
+
+    entries.add(
+        new IndexedObject(
+            category,
+            type,
+            databaseObject.getFullName(),
+            databaseObject.getName(),
+            table == null ? null : table.getFullName()));
+    entryWords.add(wordCounts);
+  }
+
+  /** Indexed words that a query word matches, with how much each match counts. */
+  private Map<Integer, Double> expand(final String queryWord) {
+    final Map<Integer, Double> matches = new HashMap<>();
+    final Integer exactMatch = wordIds.get(queryWord);
+    if (exactMatch != null) {
+      matches.put(exactMatch, 1.0);
+    }
+
+    if (queryWord.length() >= 3) {
+      int wordId = Arrays.binarySearch(words, queryWord);
+      if (wordId < 0) {
+        wordId = -wordId - 1;
+      }
+      for (int count = 0;
+          wordId < words.length && count < MAX_EXPANSIONS && words[wordId].startsWith(queryWord);
+          wordId++, count++) {
+        matches.merge(wordId, PREFIX_WEIGHT, Math::max);
+      }
+    }
+
+    final int maxTypos = maxTypos(queryWord);
+    if (maxTypos > 0) {
+      // Words within the edit distance share most of their trigrams with the query word
+      final List<String> queryTrigrams = trigrams(queryWord);
+      final Map<Integer, Integer> sharedTrigrams = new HashMap<>();
+      for (final String trigram : queryTrigrams) {
+        for (final int wordId : trigramWords.getOrDefault(trigram, NO_WORDS)) {
+          sharedTrigrams.merge(wordId, 1, Integer::sum);
+        }
+      }
+      final int minimumShared = queryTrigrams.size() - 3 * maxTypos;
+      int count = 0;
+      for (final Map.Entry<Integer, Integer> candidate : sharedTrigrams.entrySet()) {
+        if (count >= MAX_EXPANSIONS || candidate.getValue() < minimumShared) {
+          continue;
+        }
+        final int distance = editDistance(queryWord, words[candidate.getKey()], maxTypos);
+        if (distance > 0 && distance <= maxTypos) {
+          matches.merge(candidate.getKey(), TYPO_WEIGHT / distance, Math::max);
+          count++;
+        }
+      }
+    }
+    return matches;
+  }
+
+  private boolean isOfType(final IndexedObject entry, final SearchObjectType objectType) {
+    return objectType == null
+        || objectType == SearchObjectType.ALL
+        || entry.category() == objectType;
+  }
+
+  private void score(final double[] scores, final int wordId, final double weight) {
+    final int[] wordEntries = postingEntries[wordId];
+    final float[] frequencies = postingFrequencies[wordId];
+    final double idf =
+        Math.log(1 + (entries.length - wordEntries.length + 0.5) / (wordEntries.length + 0.5));
+    for (int i = 0; i < wordEntries.length; i++) {
+      final int entry = wordEntries[i];
+      final double frequency = frequencies[i];
+      final double normalization = K1 * (1 - B + B * entryLengths[entry] / averageEntryLength);
+      scores[entry] =
+          scores[entry] + weight * idf * frequency * (K1 + 1) / (frequency + normalization);
+    }
+  }
+}
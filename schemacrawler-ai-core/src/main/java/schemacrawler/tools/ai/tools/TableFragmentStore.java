@@ -0,0 +1,259 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.ai.utility.JsonUtility.compactMapper;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import schemacrawler.ermodel.model.ERModel;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.tools.ai.model.AdditionalTableDetails;
+import schemacrawler.tools.ai.model.CatalogDocument;
+import schemacrawler.tools.ai.model.CompactCatalogBuilder;
+import schemacrawler.tools.ai.model.OutputEncoding;
+import schemacrawler.tools.ai.model.TableDocument;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.util.RawValue;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Serialized JSON for table documents, kept for the life of a catalog snapshot. Each table is
+ * serialized once for each combination of additional details, the first time it is asked for, and
+ * after that responses are put together from the serialized JSON, without building documents or
+ * running the serializer again. Once the store is full, table documents are serialized on every
+ * call, without being kept.
+ */
+public final class TableFragmentStore {
+
+  private record FragmentKey(Table table, int tableDetails, OutputEncoding outputEncoding) {}
+
+  /** Most characters of serialized JSON kept for one catalog snapshot. */
+  public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+
+  private static final Logger LOGGER =
+      Logger.getLogger(TableFragmentStore.class.getCanonicalName());
+
+  private static int toBitmask(final Collection<AdditionalTableDetails> tableDetails) {
+    int bitmask = 0;
+    if (tableDetails != null) {
+      for (final AdditionalTableDetails tableDetail : tableDetails) {
+        if (tableDetail != null) {
+          bitmask = bitmask | 1 << tableDetail.ordinal();
+        }
+      }
+    }
+    return bitmask;
+  }
+
+  private final Catalog catalog;
+  private final ERModel erModel;
+  private final long maxSize;
+  private final ConcurrentMap<Integer, CompactCatalogBuilder> builders;
+  private final ConcurrentMap<FragmentKey, String> fragments;
+  private final AtomicLong size;
+  private final AtomicBoolean isFull;
+
+  public TableFragmentStore(final Catalog catalog, final ERModel erModel) {
+    this(catalog, erModel, DEFAULT_MAX_SIZE);
+  }
+
+  public TableFragmentStore(final Catalog catalog, final ERModel erModel, final long maxSize) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.erModel = requireNonNull(erModel, "No ER model provided");
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Maximum size cannot be negative");
+    }
+    this.maxSize = maxSize;
+    builders = new ConcurrentHashMap<>();
+    fragments = new ConcurrentHashMap<>();
+    size = new AtomicLong();
+    isFull = new AtomicBoolean();
+  }
+
+  /**
+   * Number of serialized table documents in the store.
+   *
+   * @return Number of fragments
+   */
+  public int count() {
+    return fragments.size();
+  }
+
+  /**
+   * Serialized JSON for a table document, without indentation.
+   *
+   * @param table Table in the catalog
+   * @param tableDetails Additional table details to include
+   * @return Serialized table document
+   */
+  public String fragment(
+      final Table table, final Collection<AdditionalTableDetails> tableDetails) {
+    return fragment(table, tableDetails, OutputEncoding.JSON);
+  }
+
+  /**
+   * Serialized JSON for a table document, without indentation, with lists of table details in
+   * the given encoding.
+   *
+   * @param table Table in the catalog
+   * @param tableDetails Additional table details to include
+   * @param outputEncoding Encoding for lists of table details
+   * @return Serialized table document
+   */
+  public String fragment(
+      final Table table,
+      final Collection<AdditionalTableDetails> tableDetails,
+      final OutputEncoding outputEncoding) {
+    requireNonNull(table, "No table provided");
+    requireNonNull(outputEncoding, "No output encoding provided");
+    final FragmentKey key = new FragmentKey(table, toBitmask(tableDetails), outputEncoding);
+    final String fragment = fragments.get(key);
+    if (fragment != null) {
+      return fragment;
+    }
+    final TableDocument tableDocument = builder(key, tableDetails).buildTableDocument(table);
+    return keep(key, serialize(tableDocument, outputEncoding));
+  }
+
+  /**
+   * Whether the store holds table documents for the given catalog.
+   *
+   * @param catalog Catalog to check
+   * @return True if the store was created for the same catalog
+   */
+  public boolean isForCatalog(final Catalog catalog) {
+    return this.catalog == catalog;
+  }
+
+  /**
+   * Number of characters of serialized JSON in the store.
+   *
+   * @return Size of the store
+   */
+  public long size() {
+    return size.get();
+  }
+
+  /**
+   * Creates the same JSON as a catalog document with the given tables, from the serialized table
+   * documents. Tables that have not been serialized yet are built by the catalog builder, in
+   * parallel if there are enough of them, and kept.
+   *
+   * @param catalogDocument Catalog document for everything other than the tables
+   * @param tables Tables to include, in order
+   * @param tableDetails Additional table details to include
+   * @param outputEncoding Encoding for lists of table details
+   * @return JSON for the catalog document
+   */
+  public ObjectNode toCatalogNode(
+      final CatalogDocument catalogDocument,
+      final List<Table> tables,
+      final Collection<AdditionalTableDetails> tableDetails,
+      final OutputEncoding outputEncoding) {
+    requireNonNull(catalogDocument, "No catalog document provided");
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(outputEncoding, "No output encoding provided");
+
+    final int bitmask = toBitmask(tableDetails);
+    final Map<Table, String> tableFragments = new HashMap<>();
+    final List<Table> coldTables = new ArrayList<>();
+    for (final Table table : tables) {
+      final String fragment = fragments.get(new FragmentKey(table, bitmask, outputEncoding));
+      if (fragment != null) {
+        tableFragments.put(table, fragment);
+      } else {
+        coldTables.add(table);
+      }
+    }
+    if (!coldTables.isEmpty()) {
+      final List<TableDocument> tableDocuments =
+          CompactCatalogBuilder.builder(catalog, erModel)
+              .withAdditionalTableDetails(tableDetails)
+              .withTables(coldTables)
+              .withRoutines(List.of())
+              .build()
+              .getTables();
+      final boolean isParallel =
+          tableDocuments.size() > CompactCatalogBuilder.DEFAULT_PARALLEL_THRESHOLD;
+      final IntStream indexes = IntStream.range(0, tableDocuments.size());
+      final List<String> serialized =
+          (isParallel ? indexes.parallel() : indexes)
+              .mapToObj(i -> serialize(tableDocuments.get(i), outputEncoding))
+              .toList();
+      for (int i = 0; i < coldTables.size(); i++) {
+        final Table table = coldTables.get(i);
+        tableFragments.put(
+            table, keep(new FragmentKey(table, bitmask, outputEncoding), serialized.get(i)));
+      }
+    }
+
+    final ArrayNode tablesNode = mapper.createArrayNode();
+    for (final Table table : tables) {
+      tablesNode.addRawValue(new RawValue(tableFragments.get(table)));
+    }
+    return catalogDocument.toObjectNode(tablesNode);
+  }
+
+  private CompactCatalogBuilder builder(
+      final FragmentKey key, final Collection<AdditionalTableDetails> tableDetails) {
+    // Builders only read the catalog, so one builder is shared for each combination of details
+    return builders.computeIfAbsent(
+        key.tableDetails(),
+        bitmask ->
+            CompactCatalogBuilder.builder(catalog, erModel)
+                .withAdditionalTableDetails(tableDetails));
+  }
+
+  /** Keeps a serialized table document, unless the store is full. */
+  private String keep(final FragmentKey key, final String serialized) {
+    if (isFull.get()) {
+      return serialized;
+    }
+    if (size.addAndGet(serialized.length()) > maxSize) {
+      size.addAndGet(-serialized.length());
+      if (isFull.compareAndSet(false, true)) {
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat(
+                "Table fragment store is full with <%d> fragments - no more will be kept",
+                fragments.size()));
+      }
+      return serialized;
+    }
+    final String existing = fragments.putIfAbsent(key, serialized);
+    if (existing != null) {
+      size.addAndGet(-serialized.length());
+      return existing;
+    }
+    return serialized;
+  }
+
+  private String serialize(final TableDocument tableDocument, final OutputEncoding outputEncoding) {
+    if (outputEncoding == OutputEncoding.JSON) {
+      return compactMapper.writeValueAsString(tableDocument);
+    }
+    final ObjectNode tableNode = outputEncoding.encodeLists(tableDocument.toObjectNode());
+    return compactMapper.writeValueAsString(tableNode);
+  }
+}
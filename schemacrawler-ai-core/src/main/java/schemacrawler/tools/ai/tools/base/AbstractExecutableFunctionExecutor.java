@@ -12,20 +12,17 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.io.Writer;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.util.UUID;
+import java.io.Reader;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import schemacrawler.filter.ReducerFactory;
 import schemacrawler.inclusionrule.ExcludeAll;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CatalogReducer;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.tools.ai.tools.CatalogCopier;
 import schemacrawler.tools.ai.tools.ExceptionFunctionReturn;
 import schemacrawler.tools.ai.tools.FunctionParameters;
 import schemacrawler.tools.ai.tools.FunctionReturn;
@@ -50,33 +47,54 @@ public abstract class AbstractExecutableFunctionExecutor<P extends FunctionParam
   private static final Logger LOGGER =
       Logger.getLogger(AbstractExecutableFunctionExecutor.class.getCanonicalName());
 
+  private CatalogCopier catalogCopier;
+
   protected AbstractExecutableFunctionExecutor(final PropertyName functionName) {
     super(functionName);
   }
 
+  @Override
+  public void setCatalogCopier(final CatalogCopier catalogCopier) {
+    this.catalogCopier = catalogCopier;
+  }
+
   @Override
   public boolean usesConnection() {
     return true;
   }
 
-  protected final Path execute(final ExecutionParameters executionParameters) {
+  protected abstract SchemaCrawlerOptions createSchemaCrawlerOptions();
+
+  /**
+   * Runs a SchemaCrawler command on a private, reduced copy of the shared catalog, and collects the
+   * output in memory. Returns null if the reduced catalog has no tables.
+   */
+  protected final OutputSink execute(final ExecutionParameters executionParameters) {
+    requireNonNull(executionParameters, "No execution parameters provided");
+    final Catalog catalog = reduceCatalog();
+    if (catalog == null) {
+      return null;
+    }
+    return execute(executionParameters, catalog);
+  }
+
+  /**
+   * Runs a SchemaCrawler command on a catalog that was reduced for this call, and collects the
+   * output in memory.
+   */
+  protected final OutputSink execute(
+      final ExecutionParameters executionParameters, final Catalog catalog) {
 
     requireNonNull(executionParameters, "No execution parameters provided");
+    requireNonNull(catalog, "No catalog provided");
 
     // Crate SchemaCrawler options
     final SchemaCrawlerOptions options = adjustSchemaCrawlerOptions();
-    final Catalog catalog = getCatalog();
-
-    refilterCatalog(options);
-
-    // Create output file path
-    final String outputFormatValue = executionParameters.outputFormat();
-    final Path outputFilePath =
-        Paths.get(System.getProperty("java.io.tmpdir"))
-            .resolve(UUID.randomUUID().toString() + "." + outputFormatValue);
 
     // Create output options
-    final OutputOptions outputOptions = createOutputOptions(outputFormatValue, outputFilePath);
+    final String outputFormatValue = executionParameters.outputFormat();
+    final OutputSink outputSink = OutputSink.newOutputSink();
+    final OutputOptions outputOptions = createOutputOptions(outputFormatValue, outputSink);
 
     // Create additional config
     final Config config = createAdditionalConfig(executionParameters.additionalConfig());
@@ -93,53 +111,89 @@ public abstract class AbstractExecutableFunctionExecutor<P extends FunctionParam
     }
     executable.setOutputOptions(outputOptions);
     executable.setAdditionalConfiguration(config);
-    executable.execute();
-
-    return outputFilePath;
-  }
+    try {
+      executable.execute();
+    } catch (final RuntimeException e) {
+      outputSink.discard();
+      throw e;
+    }
 
-  protected boolean hasResults() {
-    return !getCatalog().getTables().isEmpty();
+    return outputSink;
   }
 
-  protected final FunctionReturn returnJson(final Path outputFilePath) {
-    if (!outputFileHasResults(outputFilePath)) {
+  protected final FunctionReturn returnJson(final OutputSink outputSink) {
+    if (outputSink == null) {
       return new NoResultsFunctionReturn();
     }
 
     try {
-      final String results = Files.readString(outputFilePath);
-      try {
-        final JsonNode node = mapper.readTree(results);
+      if (outputSink.isEmpty()) {
+        return new NoResultsFunctionReturn();
+      }
+      // Parse from a stream, so that large output is not read into one string first
+      try (final Reader reader = outputSink.reader()) {
+        final JsonNode node = mapper.readTree(reader);
         return new JsonFunctionReturn(node);
       } catch (final JacksonException e) {
         LOGGER.log(
             Level.WARNING,
             "Could not convert results from <%s> to JSON".formatted(getCommandName().getName()),
             e);
-        return new TextFunctionReturn(results);
+        return new TextFunctionReturn(outputSink.contents());
       }
     } catch (final Exception e) {
       return new ExceptionFunctionReturn(e);
     } finally {
-      deleteTempFile(outputFilePath);
+      outputSink.discard();
     }
   }
 
   protected final FunctionReturn returnText(
-      final Path outputFilePath, final FunctionReturnMetadata metadata) {
-    if (!outputFileHasResults(outputFilePath)) {
+      final OutputSink outputSink, final FunctionReturnMetadata metadata) {
+    if (outputSink == null) {
       return new NoResultsFunctionReturn();
     }
 
     try {
-      final String results = Files.readString(outputFilePath);
+      if (outputSink.isEmpty()) {
+        return new NoResultsFunctionReturn();
+      }
+      final String results = outputSink.contents();
       return new TextFunctionReturn(results, metadata);
     } catch (final IOException e) {
       return new ExceptionFunctionReturn(e);
     } finally {
-      deleteTempFile(outputFilePath);
+      outputSink.discard();
+    }
+  }
+
+  /**
+   * Makes a private copy of the shared catalog, reduced with the options for this call. Returns
+   * null if the reduced catalog has no tables.
+   */
+  protected final Catalog reduceCatalog() {
+    final SchemaCrawlerOptions options = adjustSchemaCrawlerOptions();
+    final Catalog catalog = getCatalogCopier().copy();
+
+    final CatalogReducer reducer = ReducerFactory.getCatalogReducer(options);
+    reducer.reduce(catalog);
+    if (catalog.getTables().isEmpty()) {
+      return null;
+    }
+    return catalog;
+  }
+
+  /**
+   * Makes copies of the catalog that this executor runs against. If no copier was provided for the
+   * catalog, a new one is created, and the serialized catalog is only kept for this call.
+   *
+   * @return Copier for the catalog
+   */
+  protected final CatalogCopier getCatalogCopier() {
+    if (catalogCopier == null || !catalogCopier.isForCatalog(getCatalog())) {
+      catalogCopier = new CatalogCopier(getCatalog());
     }
+    return catalogCopier;
   }
 
   private final SchemaCrawlerOptions adjustSchemaCrawlerOptions() {
@@ -168,52 +222,13 @@ public abstract class AbstractExecutableFunctionExecutor<P extends FunctionParam
     return config;
   }
 
-  private OutputOptions createOutputOptions(final String outputFormatValue, final Path filePath) {
-    Writer writer;
-    try {
-      writer =
-          Files.newBufferedWriter(
-              filePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-    } catch (final IOException e) {
-      throw new UncheckedIOException("Could not create writer for temporary file", e);
-    }
+  private OutputOptions createOutputOptions(
+      final String outputFormatValue, final OutputSink outputSink) {
     final OutputOptions outputOptions =
         OutputOptionsBuilder.builder()
-            .withOutputWriter(writer)
+            .withOutputWriter(outputSink)
             .withOutputFormatValue(outputFormatValue)
             .toOptions();
     return outputOptions;
   }
-
-  private void deleteTempFile(final Path outputFilePath) {
-    if (outputFilePath == null) {
-      return;
-    }
-    try {
-      Files.deleteIfExists(outputFilePath);
-    } catch (final IOException e) {
-      LOGGER.log(
-          Level.WARNING, "Could not delete temporary file <%s>".formatted(outputFilePath), e);
-    }
-  }
-
-  private boolean outputFileHasResults(final Path outputFilePath) {
-    if (outputFilePath == null
-        || !Files.exists(outputFilePath)
-        || !Files.isRegularFile(outputFilePath)
-        || !Files.isReadable(outputFilePath)) {
-      return false;
-    }
-
-    try {
-      if (!hasResults() || Files.size(outputFilePath) == 0) {
-        return false;
-      }
-    } catch (final IOException e) {
-      LOGGER.log(Level.FINE, "Could not detemine results file length", e);
-      return false;
-    }
-
-    return true;
-  }
 }
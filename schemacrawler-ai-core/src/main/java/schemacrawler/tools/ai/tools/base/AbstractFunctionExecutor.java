@@ -11,14 +11,9 @@ package schemacrawler.tools.ai.tools.base;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 
-import java.util.regex.Pattern;
-import schemacrawler.filter.ReducerFactory;
 import schemacrawler.inclusionrule.IncludeAll;
 import schemacrawler.inclusionrule.InclusionRule;
-import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
-import schemacrawler.schema.Catalog;
-import schemacrawler.schema.CatalogReducer;
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.tools.ai.tools.CatalogIndex;
 import schemacrawler.tools.ai.tools.FunctionExecutor;
 import schemacrawler.tools.ai.tools.FunctionParameters;
 import schemacrawler.tools.command.AbstractCommand;
@@ -27,42 +22,58 @@ import us.fatehi.utility.property.PropertyName;
 public abstract class AbstractFunctionExecutor<P extends FunctionParameters>
     extends AbstractCommand<P> implements FunctionExecutor<P> {
 
+  private CatalogIndex catalogIndex;
+  private long catalogVersion;
+
   protected AbstractFunctionExecutor(final PropertyName functionName) {
     super(requireNonNull(functionName, "Function name not provided"));
   }
 
+  @Override
+  public void setCatalogIndex(final CatalogIndex catalogIndex) {
+    this.catalogIndex = catalogIndex;
+  }
+
+  @Override
+  public void setCatalogVersion(final long catalogVersion) {
+    this.catalogVersion = catalogVersion;
+  }
+
   @Override
   public final String toString() {
     return command.getName();
   }
 
-  protected abstract SchemaCrawlerOptions createSchemaCrawlerOptions();
+  /**
+   * Indexes for the catalog that this executor runs against. If no indexes were provided for the
+   * catalog, new ones are created, and are only kept for this call.
+   *
+   * @return Indexes for the catalog
+   */
+  protected final CatalogIndex getCatalogIndex() {
+    if (catalogIndex == null || !catalogIndex.isForCatalog(getCatalog())) {
+      catalogIndex = new CatalogIndex(getCatalog(), getERModel());
+    }
+    return catalogIndex;
+  }
+
+  /**
+   * Version of the catalog snapshot that this executor runs against, or zero if the catalog was
+   * not provided from a snapshot.
+   *
+   * @return Catalog snapshot version
+   */
+  protected final long getCatalogVersion() {
+    return catalogVersion;
+  }
 
   protected InclusionRule makeInclusionRule(final String objectName) {
     final InclusionRule inclusionRule;
     if (isBlank(objectName)) {
       inclusionRule = new IncludeAll();
     } else {
-      final Pattern dependantObjectPattern = makeNameInclusionPattern(objectName);
-      inclusionRule = new RegularExpressionInclusionRule(dependantObjectPattern);
+      inclusionRule = NameInclusionRule.forPattern(objectName);
     }
     return inclusionRule;
   }
-
-  protected void refilterCatalog(final SchemaCrawlerOptions options) {
-    final Catalog catalog = getCatalog();
-
-    final CatalogReducer reducer = ReducerFactory.getCatalogReducer(options);
-    reducer.undo(catalog);
-    reducer.reduce(catalog);
-  }
-
-  private Pattern makeNameInclusionPattern(final String name) {
-    if (isBlank(name)) {
-      throw new IllegalArgumentException("Blank name provided");
-    }
-    final String pattern = ".*%s.*".formatted(name);
-    final int flags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
-    return Pattern.compile(pattern, flags);
-  }
 }
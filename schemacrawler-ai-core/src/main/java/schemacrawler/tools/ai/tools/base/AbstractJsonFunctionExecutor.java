@@ -8,19 +8,41 @@
 
 package schemacrawler.tools.ai.tools.base;
 
-import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.ai.tools.FunctionParameters;
+import schemacrawler.tools.ai.tools.TableFragmentStore;
 import us.fatehi.utility.property.PropertyName;
 
 public abstract class AbstractJsonFunctionExecutor<P extends FunctionParameters>
     extends AbstractFunctionExecutor<P> {
 
+  private TableFragmentStore tableFragments;
+
   protected AbstractJsonFunctionExecutor(final PropertyName functionName) {
     super(functionName);
   }
 
-  protected final void refilterCatalog() {
-    final SchemaCrawlerOptions options = createSchemaCrawlerOptions();
-    refilterCatalog(options);
+  @Override
+  public void setTableFragments(final TableFragmentStore tableFragments) {
+    this.tableFragments = tableFragments;
+  }
+
+  /**
+   * Starts a filtered view over the shared catalog for this call. The shared catalog is never
+   * modified, so JSON function executors do not need to be serialized.
+   */
+  protected final CatalogViewBuilder catalogViewBuilder() {
+    return CatalogViewBuilder.builder(getCatalog());
+  }
+
+  /**
+   * Serialized table documents for the catalog that this executor runs against.
+   *
+   * @return Serialized table documents, or null if there are none for the catalog
+   */
+  protected final TableFragmentStore getTableFragments() {
+    if (tableFragments == null || !tableFragments.isForCatalog(getCatalog())) {
+      return null;
+    }
+    return tableFragments;
   }
 }
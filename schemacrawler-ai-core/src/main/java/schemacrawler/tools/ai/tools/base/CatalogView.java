@@ -0,0 +1,41 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.base;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+
+/**
+ * Immutable, per-call projection of the shared catalog. The shared catalog is only read, never
+ * reduced, so any number of function executors can hold their own views at the same time.
+ */
+public record CatalogView(
+    Catalog catalog,
+    List<Schema> schemas,
+    List<Table> tables,
+    List<Routine> routines,
+    List<Sequence> sequences,
+    List<Synonym> synonyms) {
+
+  public CatalogView {
+    requireNonNull(catalog, "No catalog provided");
+    schemas = schemas == null ? List.of() : List.copyOf(schemas);
+    tables = tables == null ? List.of() : List.copyOf(tables);
+    routines = routines == null ? List.of() : List.copyOf(routines);
+    sequences = sequences == null ? List.of() : List.copyOf(sequences);
+    synonyms = synonyms == null ? List.of() : List.copyOf(synonyms);
+  }
+}
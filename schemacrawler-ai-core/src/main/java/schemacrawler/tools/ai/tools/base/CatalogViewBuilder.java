@@ -0,0 +1,124 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.base;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import us.fatehi.utility.Builder;
+
+/**
+ * Builds a filtered view over the shared catalog. Object kinds that are not explicitly included
+ * are left out of the view. Objects keep the order in which the catalog returns them.
+ */
+public final class CatalogViewBuilder implements Builder<CatalogView> {
+
+  public static CatalogViewBuilder builder(final Catalog catalog) {
+    return new CatalogViewBuilder(catalog);
+  }
+
+  private static <N extends NamedObject> List<N> filter(
+      final Collection<N> namedObjects, final Predicate<? super N> filter) {
+    final List<N> filtered = new ArrayList<>();
+    if (namedObjects == null || filter == null) {
+      return filtered;
+    }
+    for (final N namedObject : namedObjects) {
+      if (namedObject != null && filter.test(namedObject)) {
+        filtered.add(namedObject);
+      }
+    }
+    return filtered;
+  }
+
+  private static Predicate<NamedObject> byFullName(final InclusionRule inclusionRule) {
+    requireNonNull(inclusionRule, "No inclusion rule provided");
+    return namedObject -> inclusionRule.test(namedObject.getFullName());
+  }
+
+  private final Catalog catalog;
+  private Predicate<? super Schema> schemaFilter;
+  private Predicate<? super Table> tableFilter;
+  private Predicate<? super Routine> routineFilter;
+  private Predicate<? super Sequence> sequenceFilter;
+  private Predicate<? super Synonym> synonymFilter;
+
+  private CatalogViewBuilder(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  @Override
+  public CatalogView build() {
+    return new CatalogView(
+        catalog,
+        filter(catalog.getSchemas(), schemaFilter),
+        filter(catalog.getTables(), tableFilter),
+        filter(catalog.getRoutines(), routineFilter),
+        filter(catalog.getSequences(), sequenceFilter),
+        filter(catalog.getSynonyms(), synonymFilter));
+  }
+
+  /**
+   * Includes routines where the routine, or any of its parameters, matches the rule on the full
+   * name.
+   */
+  public CatalogViewBuilder includeGreppedRoutines(final InclusionRule inclusionRule) {
+    requireNonNull(inclusionRule, "No inclusion rule provided");
+    routineFilter =
+        routine -> {
+          if (inclusionRule.test(routine.getFullName())) {
+            return true;
+          }
+          for (final RoutineParameter<? extends Routine> parameter : routine.getParameters()) {
+            if (inclusionRule.test(parameter.getFullName())) {
+              return true;
+            }
+          }
+          return false;
+        };
+    return this;
+  }
+
+  public CatalogViewBuilder includeRoutines(final InclusionRule inclusionRule) {
+    routineFilter = byFullName(inclusionRule);
+    return this;
+  }
+
+  public CatalogViewBuilder includeSchemas(final InclusionRule inclusionRule) {
+    schemaFilter = byFullName(inclusionRule);
+    return this;
+  }
+
+  public CatalogViewBuilder includeSequences(final InclusionRule inclusionRule) {
+    sequenceFilter = byFullName(inclusionRule);
+    return this;
+  }
+
+  public CatalogViewBuilder includeSynonyms(final InclusionRule inclusionRule) {
+    synonymFilter = byFullName(inclusionRule);
+    return this;
+  }
+
+  public CatalogViewBuilder includeTables(final InclusionRule inclusionRule) {
+    tableFilter = byFullName(inclusionRule);
+    return this;
+  }
+}
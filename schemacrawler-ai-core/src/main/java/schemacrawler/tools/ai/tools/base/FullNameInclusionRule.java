@@ -0,0 +1,47 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.base;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.NamedObject;
+
+/**
+ * Matches the exact full names of objects that were already selected, such as tables that were
+ * found on the foreign key graph, so that the catalog reducer keeps just those objects.
+ */
+public final class FullNameInclusionRule implements InclusionRule {
+
+  @Serial private static final long serialVersionUID = -2760134513218645082L;
+
+  private final Set<String> fullNames;
+
+  public FullNameInclusionRule(final Collection<? extends NamedObject> namedObjects) {
+    requireNonNull(namedObjects, "No objects provided");
+    fullNames = new HashSet<>(namedObjects.size() * 2);
+    for (final NamedObject namedObject : namedObjects) {
+      fullNames.add(namedObject.getFullName());
+    }
+  }
+
+  @Override
+  public boolean test(final String text) {
+    return text != null && fullNames.contains(text);
+  }
+
+  @Override
+  public String toString() {
+    return "%s{%d names}".formatted(getClass().getSimpleName(), fullNames.size());
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.base;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import schemacrawler.inclusionrule.InclusionRule;
+
+/**
+ * Matches names that contain a pattern anywhere in them, ignoring case - the same as the regular
+ * expression <code>.*pattern.*</code>. Compiled rules are cached by pattern, since agents tend to
+ * repeat the same few patterns. Patterns that have no regular expression syntax other than "." are
+ * matched with a character scan, rather than with the regular expression engine.
+ */
+public final class NameInclusionRule implements InclusionRule {
+
+  @Serial private static final long serialVersionUID = 4296713512218645082L;
+
+  private static final int MAX_CACHED_RULES = 256;
+  private static final String METACHARACTERS = "\\[](){}*+?^$|";
+
+  private static final Map<String, NameInclusionRule> cache =
+      new LinkedHashMap<>(64, 0.75f, true) {
+        @Serial private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, NameInclusionRule> eldest) {
+          return size() > MAX_CACHED_RULES;
+        }
+      };
+
+  public static NameInclusionRule forPattern(final String pattern) {
+    requireNonNull(pattern, "No pattern provided");
+    synchronized (cache) {
+      return cache.computeIfAbsent(pattern, NameInclusionRule::new);
+    }
+  }
+
+  private static boolean isLineTerminator(final char ch) {
+    return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+  }
+
+  private static boolean isLiteral(final String pattern) {
+    for (int i = 0; i < pattern.length(); i++) {
+      final char ch = pattern.charAt(i);
+      if (METACHARACTERS.indexOf(ch) >= 0 || isLineTerminator(ch)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matchesAt(final String text, final int offset, final char[] literal) {
+    for (int i = 0; i < literal.length; i++) {
+      final char expected = literal[i];
+      final char actual = text.charAt(offset + i);
+      // "." matches any character, except the line terminators that are handled separately
+      if (expected == '.' || expected == actual) {
+        continue;
+      }
+      if (Character.toUpperCase(expected) != Character.toUpperCase(actual)
+          && Character.toLowerCase(expected) != Character.toLowerCase(actual)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final char[] literal;
+  private final Pattern regex;
+
+  private NameInclusionRule(final String pattern) {
+    literal = isLiteral(pattern) ? pattern.toCharArray() : null;
+    final int flags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+    regex = Pattern.compile(".*%s.*".formatted(pattern), flags);
+  }
+
+  @Override
+  public boolean test(final String text) {
+    if (text == null) {
+      return false;
+    }
+    if (literal == null || text.chars().anyMatch(ch -> isLineTerminator((char) ch))) {
+      return regex.matcher(text).matches();
+    }
+
+    final int lastOffset = text.length() - literal.length;
+    for (int offset = 0; offset <= lastOffset; offset++) {
+      if (matchesAt(text, offset, literal)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "%s{%s}".formatted(getClass().getSimpleName(), regex.pattern());
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.base;
+
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.readconfig.EnvironmentVariableConfig;
+import us.fatehi.utility.readconfig.ReadConfig;
+
+/**
+ * Receives the output of a SchemaCrawler command in memory. Output larger than the spill
+ * threshold is moved to a temporary file, and later output is appended to that file. The
+ * contents stay readable after the writer is closed, until the sink is discarded, and large
+ * output can be read back as a stream, without holding all of it in memory.
+ */
+public final class OutputSink extends Writer {
+
+  private static final Logger LOGGER = Logger.getLogger(OutputSink.class.getCanonicalName());
+
+  /** Environment variable for the number of characters held in memory before spilling to disk. */
+  public static final String SPILL_THRESHOLD = "SCHCRWLR_OUTPUT_SPILL_THRESHOLD";
+
+  private static final int DEFAULT_SPILL_THRESHOLD = 8 * 1024 * 1024;
+
+  public static OutputSink newOutputSink() {
+    return newOutputSink((EnvironmentVariableConfig) System::getenv);
+  }
+
+  /**
+   * Creates an output sink with the spill threshold from the environment. A threshold that cannot
+   * be parsed falls back to the default.
+   *
+   * @param envMap The environment variable accessor
+   * @return New output sink
+   */
+  public static OutputSink newOutputSink(final ReadConfig envMap) {
+    int spillThreshold = DEFAULT_SPILL_THRESHOLD;
+    final String spillThresholdValue = envMap.getStringValue(SPILL_THRESHOLD, "").strip();
+    if (!isBlank(spillThresholdValue)) {
+      try {
+        spillThreshold = Integer.parseInt(spillThresholdValue);
+      } catch (final NumberFormatException e) {
+        LOGGER.log(
+            Level.WARNING,
+            "Could not parse <%s> for %s".formatted(spillThresholdValue, SPILL_THRESHOLD));
+      }
+    }
+    return new OutputSink(spillThreshold);
+  }
+
+  private final int spillThreshold;
+  private final StringBuilder buffer;
+  private Path spillFile;
+  private Writer spillWriter;
+  private boolean isClosed;
+
+  public OutputSink(final int spillThreshold) {
+    this.spillThreshold = Math.max(0, spillThreshold);
+    buffer = new StringBuilder(Math.min(this.spillThreshold, 8 * 1024));
+  }
+
+  @Override
+  public void close() throws IOException {
+    isClosed = true;
+    if (spillWriter != null) {
+      spillWriter.close();
+      spillWriter = null;
+    }
+  }
+
+  /**
+   * Gets all output written to the sink as one string. Use {@link #reader()} for output that may
+   * be large.
+   */
+  public String contents() throws IOException {
+    if (spillFile == null) {
+      return buffer.toString();
+    }
+    if (spillWriter != null) {
+      spillWriter.flush();
+    }
+    return Files.readString(spillFile);
+  }
+
+  /** Releases memory held by the sink, and deletes any spill file. */
+  public void discard() {
+    buffer.setLength(0);
+    buffer.trimToSize();
+    if (spillFile == null) {
+      return;
+    }
+    try {
+      close();
+      Files.deleteIfExists(spillFile);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not delete temporary file <%s>".formatted(spillFile), e);
+    }
+    spillFile = null;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (spillWriter != null) {
+      spillWriter.flush();
+    }
+  }
+
+  /**
+   * Whether any output was written to the sink.
+   *
+   * @throws IOException If the size of the spill file cannot be read
+   */
+  public boolean isEmpty() throws IOException {
+    if (spillFile == null) {
+      return buffer.isEmpty();
+    }
+    flush();
+    return Files.size(spillFile) == 0;
+  }
+
+  public boolean isSpilled() {
+    return spillFile != null;
+  }
+
+  /** Reads all output written to the sink, streaming it from the spill file if there is one. */
+  public Reader reader() throws IOException {
+    if (spillFile == null) {
+      return new StringReader(buffer.toString());
+    }
+    if (spillWriter != null) {
+      spillWriter.flush();
+    }
+    return Files.newBufferedReader(spillFile);
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) throws IOException {
+    if (isClosed) {
+      throw new IOException("Output sink is closed");
+    }
+    if (spillWriter != null) {
+      spillWriter.write(cbuf, off, len);
+      return;
+    }
+    buffer.append(cbuf, off, len);
+    if (buffer.length() > spillThreshold) {
+      spill();
+    }
+  }
+
+  private void spill() throws IOException {
+    spillFile = Files.createTempFile("schemacrawler-ai-", ".out");
+    spillWriter = Files.newBufferedWriter(spillFile);
+    spillWriter.append(buffer);
+    LOGGER.log(
+        Level.FINE,
+        "Output is larger than %d characters, spilled to <%s>"
+            .formatted(spillThreshold, spillFile));
+    buffer.setLength(0);
+    buffer.trimToSize();
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.base;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * One page of results, from an offset and an optional limit. Results are always taken in catalog
+ * order, which does not change for a given catalog, so a page can be picked out of the full list
+ * of matches before any JSON is built for it. A cursor encodes the offset and limit of the next
+ * page, and is tied to the catalog snapshot version and the filter parameters it was issued for,
+ * so that it is rejected once the catalog has been refreshed, or if it is replayed with different
+ * parameters.
+ *
+ * @param offset Number of results to skip.
+ * @param limit Maximum number of results - zero for no limit.
+ * @param catalogVersion Version of the catalog snapshot that results are taken from.
+ * @param parametersHash Hash of the normalized parameters that select the results.
+ */
+public record Pagination(int offset, int limit, long catalogVersion, int parametersHash) {
+
+  private static final String CURSOR_VERSION = "c2";
+
+  /**
+   * Works out the page to return from the tool parameters. A cursor takes precedence over an
+   * offset, and a limit overrides the limit in the cursor.
+   *
+   * @param limit Maximum number of results, or null
+   * @param offset Number of results to skip, or null
+   * @param cursor Cursor from an earlier page, or null
+   * @param catalogVersion Version of the catalog snapshot that results are taken from
+   * @param parameters Normalized parameters that select the results, other than paging
+   * @return Page of results
+   */
+  public static Pagination from(
+      final Integer limit,
+      final Integer offset,
+      final String cursor,
+      final long catalogVersion,
+      final Object... parameters) {
+    final int parametersHash = parametersHash(parameters);
+    if (isBlank(cursor)) {
+      return new Pagination(
+          offset == null ? 0 : offset, limit == null ? 0 : limit, catalogVersion, parametersHash);
+    }
+
+    final String[] parts;
+    try {
+      parts = new String(Base64.getUrlDecoder().decode(cursor.strip()), UTF_8).split(":");
+    } catch (final IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor <%s>".formatted(cursor));
+    }
+    if (parts.length != 5 || !CURSOR_VERSION.equals(parts[0])) {
+      throw new IllegalArgumentException("Invalid cursor <%s>".formatted(cursor));
+    }
+    if (!Long.toHexString(catalogVersion).equals(parts[3])) {
+      throw new IllegalArgumentException(
+          "Cursor <%s> is for an earlier catalog - repeat the call without a cursor"
+              .formatted(cursor));
+    }
+    if (!Integer.toHexString(parametersHash).equals(parts[4])) {
+      throw new IllegalArgumentException(
+          "Cursor <%s> is for different parameters - repeat the call without a cursor"
+              .formatted(cursor));
+    }
+    try {
+      final int cursorOffset = Integer.parseInt(parts[1]);
+      final int cursorLimit = Integer.parseInt(parts[2]);
+      return new Pagination(
+          cursorOffset, limit == null ? cursorLimit : limit, catalogVersion, parametersHash);
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor <%s>".formatted(cursor));
+    }
+  }
+
+  /** Hashes the text of the parameters, so that the hash is the same in every process. */
+  private static int parametersHash(final Object... parameters) {
+    final List<String> values = new ArrayList<>();
+    if (parameters != null) {
+      for (final Object parameter : parameters) {
+        values.add(String.valueOf(parameter));
+      }
+    }
+    return values.hashCode();
+  }
+
+  public Pagination {
+    if (offset < 0) {
+      offset = 0;
+    }
+    if (limit < 0) {
+      limit = 0;
+    }
+  }
+
+  /**
+   * Adds the total number of results, and a cursor for the next page if there is one. Results
+   * that are not paged are left as they are.
+   *
+   * @param resultNode Result to add page details to
+   * @param totalCount Number of results in all pages
+   * @return Result node
+   */
+  public ObjectNode addPageDetails(final ObjectNode resultNode, final int totalCount) {
+    requireNonNull(resultNode, "No result provided");
+    if (!isPaged()) {
+      return resultNode;
+    }
+
+    resultNode.put("total_count", totalCount);
+    final long nextOffset = (long) offset + limit;
+    if (limit > 0 && nextOffset < totalCount) {
+      final String cursor =
+          String.join(
+              ":",
+              CURSOR_VERSION,
+              String.valueOf(nextOffset),
+              String.valueOf(limit),
+              Long.toHexString(catalogVersion),
+              Integer.toHexString(parametersHash));
+      final String nextCursor =
+          Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(UTF_8));
+      resultNode.put("next_cursor", nextCursor);
+    }
+    return resultNode;
+  }
+
+  public boolean isPaged() {
+    return offset > 0 || limit > 0;
+  }
+
+  /**
+   * Picks the results in this page, without copying them.
+   *
+   * @param results All results, in catalog order
+   * @return Results in the page
+   */
+  public <T> List<T> page(final List<T> results) {
+    requireNonNull(results, "No results provided");
+    if (!isPaged()) {
+      return results;
+    }
+    final int fromIndex = Math.min(offset, results.size());
+    final int toIndex =
+        limit == 0 ? results.size() : (int) Math.min((long) fromIndex + limit, results.size());
+    return results.subList(fromIndex, toIndex);
+  }
+}
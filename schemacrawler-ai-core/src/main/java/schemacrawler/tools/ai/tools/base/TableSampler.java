@@ -0,0 +1,323 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.base;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import tools.jackson.core.JsonGenerator;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Samples rows from tables with one bounded query for each table. The number of rows is limited
+ * in the SQL for the database where the syntax is known, as well as on the statement, and each
+ * query has a timeout. Tables are sampled at the same time, each on its own connection, and rows
+ * are written to JSON as they are read. Large objects, binary data and arrays are not sampled.
+ */
+public final class TableSampler {
+
+  /**
+   * Limits for sampling.
+   *
+   * @param rowCount Maximum number of rows for each table.
+   * @param columns Names of columns to sample, ignoring case - empty for all columns.
+   * @param tableTimeout Maximum time to spend on each table.
+   * @param timeBudget Maximum time to spend on all tables, after which tables are not sampled.
+   * @param concurrency Maximum number of tables sampled at the same time.
+   */
+  public record SampleOptions(
+      int rowCount,
+      Collection<String> columns,
+      Duration tableTimeout,
+      Duration timeBudget,
+      int concurrency) {
+
+    public static final SampleOptions DEFAULT =
+        new SampleOptions(10, List.of(), Duration.ofSeconds(10), Duration.ofSeconds(60), 4);
+
+    public SampleOptions {
+      if (rowCount <= 0) {
+        throw new IllegalArgumentException("Row count must be positive");
+      }
+      columns = columns == null ? List.of() : List.copyOf(columns);
+      requireNonNull(tableTimeout, "No table timeout provided");
+      requireNonNull(timeBudget, "No time budget provided");
+      if (concurrency <= 0) {
+        throw new IllegalArgumentException("Concurrency must be positive");
+      }
+    }
+  }
+
+  /** SQL syntax for limiting the number of rows returned by a query. */
+  enum RowLimitSyntax {
+    TOP,
+    LIMIT,
+    FETCH_FIRST,
+    NONE;
+
+    static RowLimitSyntax forDatabase(final String databaseProductName) {
+      if (isBlank(databaseProductName)) {
+        return NONE;
+      }
+      final String productName = databaseProductName.toLowerCase(Locale.ROOT);
+      if (productName.contains("sql server") || productName.contains("sybase")) {
+        return TOP;
+      }
+      for (final String limitDatabase :
+          List.of("hsql", "h2", "postgres", "mysql", "mariadb", "sqlite", "duckdb", "clickhouse")) {
+        if (productName.contains(limitDatabase)) {
+          return LIMIT;
+        }
+      }
+      for (final String fetchFirstDatabase : List.of("oracle", "db2", "derby", "firebird")) {
+        if (productName.contains(fetchFirstDatabase)) {
+          return FETCH_FIRST;
+        }
+      }
+      return NONE;
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(TableSampler.class.getCanonicalName());
+
+  private static final Set<Integer> UNSAMPLED_TYPES =
+      Set.of(
+          Types.ARRAY,
+          Types.BINARY,
+          Types.BLOB,
+          Types.CLOB,
+          Types.DATALINK,
+          Types.JAVA_OBJECT,
+          Types.LONGVARBINARY,
+          Types.NCLOB,
+          Types.OTHER,
+          Types.REF,
+          Types.SQLXML,
+          Types.STRUCT,
+          Types.VARBINARY);
+
+  private static boolean isSampled(final Column column) {
+    final Integer typeNumber =
+        column.getColumnDataType().getJavaSqlType().getVendorTypeNumber();
+    return typeNumber == null || !UNSAMPLED_TYPES.contains(typeNumber);
+  }
+
+  private static String quote(final String name, final String quoteString) {
+    if (isBlank(quoteString)) {
+      return name;
+    }
+    return quoteString + name.replace(quoteString, quoteString + quoteString) + quoteString;
+  }
+
+  private final DatabaseConnectionSource connectionSource;
+  private final RowLimitSyntax rowLimitSyntax;
+  private final SampleOptions options;
+
+  public TableSampler(
+      final DatabaseConnectionSource connectionSource,
+      final String databaseProductName,
+      final SampleOptions options) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    rowLimitSyntax = RowLimitSyntax.forDatabase(databaseProductName);
+    this.options = requireNonNull(options, "No sample options provided");
+  }
+
+  /**
+   * Samples rows from each table.
+   *
+   * @param tables Tables to sample
+   * @return JSON for the sample from each table, in the same order as the tables
+   */
+  public List<String> sample(final List<Table> tables) {
+    requireNonNull(tables, "No tables provided");
+    if (tables.isEmpty()) {
+      return List.of();
+    }
+
+    final long deadline = System.nanoTime() + options.timeBudget().toNanos();
+    final Semaphore permits = new Semaphore(options.concurrency());
+    final List<Future<String>> samples = new ArrayList<>(tables.size());
+    try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (final Table table : tables) {
+        samples.add(executor.submit(() -> sampleWithPermit(table, permits, deadline)));
+      }
+
+      final List<String> results = new ArrayList<>(tables.size());
+      for (final Future<String> sample : samples) {
+        results.add(sample.get());
+      }
+      return results;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while sampling tables", e);
+    } catch (final ExecutionException e) {
+      throw new ExecutionRuntimeException("Could not sample tables", e.getCause());
+    }
+  }
+
+  String buildQuery(final Table table, final List<Column> columns, final String quoteString) {
+    final String columnList =
+        columns.stream()
+            .map(column -> quote(column.getName(), quoteString))
+            .collect(Collectors.joining(", "));
+
+    final Schema schema = table.getSchema();
+    final List<String> nameParts = new ArrayList<>();
+    if (!isBlank(schema.getCatalogName())) {
+      nameParts.add(quote(schema.getCatalogName(), quoteString));
+    }
+    if (!isBlank(schema.getName())) {
+      nameParts.add(quote(schema.getName(), quoteString));
+    }
+    nameParts.add(quote(table.getName(), quoteString));
+    final String tableName = String.join(".", nameParts);
+
+    final int rowCount = options.rowCount();
+    return switch (rowLimitSyntax) {
+      case TOP -> "SELECT TOP %d %s FROM %s".formatted(rowCount, columnList, tableName);
+      case LIMIT -> "SELECT %s FROM %s LIMIT %d".formatted(columnList, tableName, rowCount);
+      case FETCH_FIRST ->
+          "SELECT %s FROM %s FETCH FIRST %d ROWS ONLY".formatted(columnList, tableName, rowCount);
+      case NONE -> "SELECT %s FROM %s".formatted(columnList, tableName);
+    };
+  }
+
+  private List<Column> sampledColumns(final Table table) {
+    final Set<String> columnNames =
+        options.columns().stream()
+            .map(columnName -> columnName.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+    final List<Column> columns = new ArrayList<>();
+    for (final Column column : table.getColumns()) {
+      if (!columnNames.isEmpty()
+          && !columnNames.contains(column.getName().toLowerCase(Locale.ROOT))) {
+        continue;
+      }
+      if (isSampled(column)) {
+        columns.add(column);
+      }
+    }
+    return columns;
+  }
+
+  private String sampleTable(final Table table, final long deadline) {
+    final StringWriter writer = new StringWriter();
+    try (final JsonGenerator generator = mapper.createGenerator(writer)) {
+      generator.writeStartObject();
+      final String tableType = table.getTableType().isView() ? "view" : "table";
+      generator.writeStringProperty(tableType, table.getName());
+      generator.writeStringProperty("schema", table.getSchema().getFullName());
+
+      final long remainingNanos = deadline - System.nanoTime();
+      final List<Column> columns = sampledColumns(table);
+      String error = null;
+      generator.writeName("data");
+      generator.writeStartArray();
+      if (remainingNanos <= 0) {
+        error = "Not sampled, since the time for sampling ran out";
+      } else if (!columns.isEmpty()) {
+        error = writeRows(generator, table, columns, deadline);
+      }
+      generator.writeEndArray();
+      if (error != null) {
+        generator.writeStringProperty("error", error);
+      }
+      generator.writeEndObject();
+    }
+    return writer.toString();
+  }
+
+  private String sampleWithPermit(final Table table, final Semaphore permits, final long deadline)
+      throws InterruptedException {
+    permits.acquire();
+    try {
+      return sampleTable(table, deadline);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /** Writes rows to the generator, and returns an error message if the rows could not be read. */
+  private String writeRows(
+      final JsonGenerator generator,
+      final Table table,
+      final List<Column> columns,
+      final long deadline) {
+    final long timeoutNanos =
+        Math.min(options.tableTimeout().toNanos(), deadline - System.nanoTime());
+    final long tableDeadline = System.nanoTime() + timeoutNanos;
+    try (final Connection connection = connectionSource.get();
+        final Statement statement =
+            connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+      final String quoteString = connection.getMetaData().getIdentifierQuoteString();
+      final String query =
+          buildQuery(table, columns, quoteString == null ? "" : quoteString.strip());
+      statement.setMaxRows(options.rowCount());
+      statement.setFetchSize(options.rowCount());
+      final long timeoutSeconds = (timeoutNanos + 999_999_999L) / 1_000_000_000L;
+      statement.setQueryTimeout((int) Math.max(1, timeoutSeconds));
+      LOGGER.log(Level.FINE, new StringFormat("Sampling table <%s>%n%s", table, query));
+
+      try (final ResultSet results = statement.executeQuery(query)) {
+        int rowCount = 0;
+        while (rowCount < options.rowCount() && results.next()) {
+          if (rowCount > 0 && System.nanoTime() > tableDeadline) {
+            return "Sample was cut short, since the time for the table ran out";
+          }
+          generator.writeStartObject();
+          for (int i = 0; i < columns.size(); i++) {
+            generator.writeName(columns.get(i).getName());
+            final String value = results.getString(i + 1);
+            if (value == null) {
+              generator.writeNull();
+            } else {
+              generator.writeString(value);
+            }
+          }
+          generator.writeEndObject();
+          rowCount++;
+        }
+      }
+      return null;
+    } catch (final SQLTimeoutException e) {
+      LOGGER.log(Level.INFO, new StringFormat("Timed out sampling table <%s>", table));
+      return "Sample was cut short, since the time for the table ran out";
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Could not sample table <%s>", table));
+      return "Could not sample table - %s".formatted(e.getMessage());
+    }
+  }
+}
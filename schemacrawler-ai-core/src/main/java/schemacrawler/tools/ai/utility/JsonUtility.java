@@ -31,6 +31,9 @@ public final class JsonUtility {
 
   public static final ObjectMapper mapper = newConfiguredObjectMapper(JsonMapper.builder());
 
+  /** Same as the mapper, but writes JSON without indentation, for output that is not read. */
+  public static final ObjectMapper compactMapper = mapper.rebuild().disable(INDENT_OUTPUT).build();
+
   private static ObjectMapper newConfiguredObjectMapper(
       final MapperBuilder<? extends ObjectMapper, ?> mapperBuilder) {
 
@@ -0,0 +1,61 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.utility;
+
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Fast approximate count of the tokens a language model would see in some text, without the model's
+ * tokenizer. Runs of ASCII letters and digits count as one token for every four characters, JSON
+ * punctuation counts as one token per character, whitespace is free, and other characters count as
+ * one token each. This is close enough to size responses to a budget.
+ */
+@UtilityMarker
+public final class TokenEstimator {
+
+  private static final int CHARACTERS_PER_TOKEN = 4;
+
+  /**
+   * Estimates the number of tokens in the text.
+   *
+   * @param text Text to estimate
+   * @return Approximate number of tokens, or zero for null text
+   */
+  public static long estimate(final CharSequence text) {
+    if (text == null) {
+      return 0;
+    }
+
+    long tokens = 0;
+    int wordLength = 0;
+    final int length = text.length();
+    for (int i = 0; i < length; i++) {
+      final char ch = text.charAt(i);
+      if (ch < 0x80 && (Character.isLetterOrDigit(ch) || ch == '_')) {
+        wordLength++;
+        continue;
+      }
+      tokens = tokens + wordTokens(wordLength);
+      wordLength = 0;
+      if (Character.isLowSurrogate(ch) || ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t') {
+        continue;
+      }
+      tokens++;
+    }
+    return tokens + wordTokens(wordLength);
+  }
+
+  private static int wordTokens(final int wordLength) {
+    return (wordLength + CHARACTERS_PER_TOKEN - 1) / CHARACTERS_PER_TOKEN;
+  }
+
+  private TokenEstimator() {
+    // Prevent instantiation
+  }
+}
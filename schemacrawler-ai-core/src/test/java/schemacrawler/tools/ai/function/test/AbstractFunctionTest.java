@@ -40,7 +40,12 @@ public abstract class AbstractFunctionTest {
   public final void loadCatalog(final Connection connection) throws Exception {
 
     connectionSource = DatabaseConnectionSources.fromConnection(connection);
+    catalog = crawlCatalog(connection);
+    erModel = SchemaCrawlerUtility.buildERModel(catalog);
+  }
 
+  /** Crawls the test database, to compare the shared catalog against a later crawl. */
+  protected final Catalog crawlCatalog(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
         LimitOptionsBuilder.builder()
             .includeSchemas(new RegularExpressionExclusionRule(".*\\.(FOR_LINT|SYSTEM_LOBS)"))
@@ -56,7 +61,6 @@ public abstract class AbstractFunctionTest {
 
     final DatabaseConnectionSource dataSource =
         DatabaseConnectionSources.fromConnection(connection);
-    catalog = SchemaCrawlerUtility.getCatalog(dataSource, schemaCrawlerOptions);
-    erModel = SchemaCrawlerUtility.buildERModel(catalog);
+    return SchemaCrawlerUtility.getCatalog(dataSource, schemaCrawlerOptions);
   }
 }
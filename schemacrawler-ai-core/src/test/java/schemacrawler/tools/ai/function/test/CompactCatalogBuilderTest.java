@@ -16,6 +16,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Collection;
 import java.util.List;
@@ -95,6 +96,28 @@ public class CompactCatalogBuilderTest extends AbstractFunctionTest {
     assertThat(indexDocument.getName(), is(equalTo(index.getName())));
   }
 
+  @Test
+  public void buildParallel() {
+    final CatalogDocument sequentialDocument =
+        CompactCatalogBuilder.builder(catalog, erModel)
+            .withAdditionalTableDetails(List.of(AdditionalTableDetails.values()))
+            .withParallelThreshold(Integer.MAX_VALUE)
+            .build();
+    final CatalogDocument parallelDocument =
+        CompactCatalogBuilder.builder(catalog, erModel)
+            .withAdditionalTableDetails(List.of(AdditionalTableDetails.values()))
+            .withParallelThreshold(0)
+            .build();
+
+    // Output order does not depend on how the documents were built
+    assertThat(parallelDocument.getTables(), hasSize(catalog.getTables().size()));
+    assertThat(parallelDocument.toString(), is(equalTo(sequentialDocument.toString())));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CompactCatalogBuilder.builder(catalog, erModel).withParallelThreshold(-1));
+  }
+
   @Test
   public void buildRoutineDocument() {
     final Routine routine = catalog.getRoutines().iterator().next();
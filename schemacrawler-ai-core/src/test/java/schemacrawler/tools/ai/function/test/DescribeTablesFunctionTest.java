@@ -9,9 +9,12 @@
 package schemacrawler.tools.ai.function.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static schemacrawler.tools.ai.functions.DescribeTablesFunctionParameters.TableDescriptionScope.INDEXES;
 import static schemacrawler.tools.ai.functions.DescribeTablesFunctionParameters.TableDescriptionScope.REFERENCED_TABLES;
 import static schemacrawler.tools.ai.functions.DescribeTablesFunctionParameters.TableDescriptionScope.TRIGGERS;
+import static schemacrawler.tools.ai.model.OutputEncoding.TABULAR;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 import static us.fatehi.test.utility.extensions.FileHasContent.classpathResource;
 import static us.fatehi.test.utility.extensions.FileHasContent.hasSameContentAs;
 import static us.fatehi.test.utility.extensions.FileHasContent.outputOf;
@@ -23,7 +26,11 @@ import org.junit.jupiter.api.TestInstance;
 import schemacrawler.tools.ai.functions.DescribeTablesFunctionDefinition;
 import schemacrawler.tools.ai.functions.DescribeTablesFunctionParameters;
 import schemacrawler.tools.ai.functions.DescribeTablesFunctionParameters.TableDescriptionScope;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import schemacrawler.tools.ai.tools.TableFragmentStore;
 import schemacrawler.tools.ai.utility.test.FunctionExecutionTestUtility;
+import tools.jackson.databind.JsonNode;
 import us.fatehi.test.utility.TestWriter;
 import us.fatehi.test.utility.extensions.ResolveTestContext;
 import us.fatehi.test.utility.extensions.TestContext;
@@ -80,6 +87,17 @@ public class DescribeTablesFunctionTest extends AbstractFunctionTest {
     describeTable(testContext, args, true);
   }
 
+  @Test
+  public void describeTableLeavesCatalogUnchanged(final TestContext testContext) throws Exception {
+    final int tableCount = catalog.getTables().size();
+
+    final DescribeTablesFunctionParameters args =
+        new DescribeTablesFunctionParameters("AUTHORS", null);
+    describeTable(testContext, args, true);
+
+    assertThat(catalog.getTables().size(), is(tableCount));
+  }
+
   @Test
   public void describeTableTriggers(final TestContext testContext) throws Exception {
     final DescribeTablesFunctionParameters args =
@@ -114,6 +132,78 @@ public class DescribeTablesFunctionTest extends AbstractFunctionTest {
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
 
+  @Test
+  public void serializeWithoutTree() throws Exception {
+    final DescribeTablesFunctionParameters args =
+        new DescribeTablesFunctionParameters(null, EnumSet.allOf(TableDescriptionScope.class));
+    final FunctionExecutor<DescribeTablesFunctionParameters> executor =
+        new DescribeTablesFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    final JsonFunctionReturn functionReturn = (JsonFunctionReturn) executor.call();
+
+    // Serialized straight from the document, the same as from the JSON tree
+    assertThat(functionReturn.get(), is(functionReturn.getResult().toString()));
+  }
+
+  @Test
+  public void serializeFromTableFragments() throws Exception {
+    final TableFragmentStore tableFragments = new TableFragmentStore(catalog, erModel);
+    final List<DescribeTablesFunctionParameters> argsList =
+        List.of(
+            new DescribeTablesFunctionParameters(null, EnumSet.allOf(TableDescriptionScope.class)),
+            new DescribeTablesFunctionParameters("BOOKS", List.of(INDEXES)),
+            new DescribeTablesFunctionParameters(null, null, 3, 2, null, null, null),
+            new DescribeTablesFunctionParameters(
+                null, List.of(INDEXES), null, null, null, null, TABULAR));
+    for (final DescribeTablesFunctionParameters args : argsList) {
+      final String expected = describeTable(args, null);
+      // Same output the first time, when table documents are serialized and kept, and after
+      assertThat(describeTable(args, tableFragments), is(expected));
+      assertThat(describeTable(args, tableFragments), is(expected));
+    }
+  }
+
+  @Test
+  public void tabularEncoding() throws Exception {
+    final JsonNode jsonTable =
+        mapper
+            .readTree(describeTable(new DescribeTablesFunctionParameters("AUTHORS", null), null))
+            .get("tables")
+            .get(0);
+    final JsonNode tabularTable =
+        mapper
+            .readTree(
+                describeTable(
+                    new DescribeTablesFunctionParameters(
+                        "AUTHORS", null, null, null, null, null, TABULAR),
+                    null))
+            .get("tables")
+            .get(0);
+
+    assertThat(tabularTable.get("full_name"), is(jsonTable.get("full_name")));
+    final JsonNode columns = tabularTable.get("columns");
+    assertThat(columns.get("fields").get(0).asString(), is("full_name"));
+    assertThat(columns.get("rows").size(), is(jsonTable.get("columns").size()));
+    assertThat(
+        columns.get("rows").get(0).get(1).asString(),
+        is(jsonTable.get("columns").get(0).get("name").asString()));
+    assertThat(tabularTable.toString().length() < jsonTable.toString().length(), is(true));
+  }
+
+  private String describeTable(
+      final DescribeTablesFunctionParameters args, final TableFragmentStore tableFragments)
+      throws Exception {
+    final FunctionExecutor<DescribeTablesFunctionParameters> executor =
+        new DescribeTablesFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setTableFragments(tableFragments);
+    return executor.call().get();
+  }
+
   private void describeTable(
       final TestContext testContext,
       final DescribeTablesFunctionParameters args,
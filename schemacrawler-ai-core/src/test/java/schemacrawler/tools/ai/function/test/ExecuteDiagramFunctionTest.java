@@ -10,16 +10,26 @@ package schemacrawler.tools.ai.function.test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.tools.ai.functions.DiagramFunctionDefinition;
 import schemacrawler.tools.ai.functions.DiagramFunctionParameters;
 import schemacrawler.tools.ai.functions.DiagramFunctionParameters.DiagramType;
+import schemacrawler.tools.ai.tools.CatalogCopier;
+import schemacrawler.tools.ai.tools.DiagramStore;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
 import schemacrawler.tools.ai.utility.test.FunctionExecutionTestUtility;
+import tools.jackson.databind.JsonNode;
 import us.fatehi.mcp_json_schema.utility.DeserializationUtility;
 import us.fatehi.test.utility.TestObjectUtility;
 import us.fatehi.test.utility.extensions.ResolveTestContext;
@@ -31,6 +41,90 @@ import us.fatehi.utility.datasource.DatabaseConnectionSources;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class ExecuteDiagramFunctionTest extends AbstractFunctionTest {
 
+  @Test
+  public void catalogCopierIsKept() throws Exception {
+    final CatalogCopier catalogCopier = new CatalogCopier(catalog);
+    assertThat(catalogCopier.isSerialized(), is(false));
+
+    final FunctionExecutor<DiagramFunctionParameters> executor =
+        new DiagramFunctionDefinition().newExecutor();
+    executor.configure(
+        new DiagramFunctionParameters("Authors", true, false, DiagramType.MERMAID));
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setConnectionSource(
+        DatabaseConnectionSources.fromConnection(TestObjectUtility.mockConnection()));
+    executor.setCatalogCopier(catalogCopier);
+    assertThat(executor.call().get().isBlank(), is(false));
+
+    // The serialized catalog is kept by the copier, and copies are private
+    assertThat(catalogCopier.isSerialized(), is(true));
+    assertThat(catalogCopier.copy(), is(not(sameInstance(catalog))));
+
+    // Once released, copies are still made, but the serialized catalog is not kept
+    catalogCopier.release();
+    assertThat(catalogCopier.isSerialized(), is(false));
+    assertThat(catalogCopier.copy().getTables().size(), is(catalog.getTables().size()));
+    assertThat(catalogCopier.isSerialized(), is(false));
+  }
+
+  @Test
+  public void clusterDiagram() throws Exception {
+    final String diagram =
+        diagram(
+            new DiagramFunctionParameters(null, false, false, DiagramType.MERMAID, null, 5, 1),
+            null);
+    assertThat(diagram.isBlank(), is(false));
+
+    assertThrows(
+        ExecutionRuntimeException.class,
+        () ->
+            diagram(
+                new DiagramFunctionParameters(
+                    null, false, false, DiagramType.MERMAID, null, 5, 1000),
+                null));
+  }
+
+  @Test
+  public void clusterIndex() throws Exception {
+    final DiagramFunctionParameters args =
+        new DiagramFunctionParameters(null, false, false, DiagramType.MERMAID, null, 2, null);
+    final JsonNode clusterIndex = mapper.readTree(diagram(args, null));
+
+    int tableCount = 0;
+    for (final JsonNode cluster : clusterIndex.get("clusters")) {
+      final int clusterSize = cluster.get("tables").size();
+      assertThat(clusterSize, lessThanOrEqualTo(2));
+      assertThat(cluster.get("table_count").asInt(), is(clusterSize));
+      tableCount = tableCount + clusterSize;
+    }
+    // Every table is in exactly one cluster
+    assertThat(tableCount, is(catalog.getTables().size()));
+    assertThat(clusterIndex.get("clusters").get(0).get("cluster").asInt(), is(1));
+  }
+
+  @Test
+  public void diagramsAreKept() throws Exception {
+    final DiagramStore diagrams = new DiagramStore(catalog);
+
+    final String diagram =
+        diagram(
+            new DiagramFunctionParameters("Authors", true, false, DiagramType.MERMAID), diagrams);
+    assertThat(diagrams.count(), is(1));
+
+    // A different pattern for the same tables reuses the rendered diagram
+    final String sameDiagram =
+        diagram(
+            new DiagramFunctionParameters(
+                "PUBLIC\\.BOOKS\\.AUTHORS", true, false, DiagramType.MERMAID),
+            diagrams);
+    assertThat(sameDiagram, is(diagram));
+    assertThat(diagrams.count(), is(1));
+
+    diagram(new DiagramFunctionParameters("Authors", true, false, DiagramType.DBML), diagrams);
+    assertThat(diagrams.count(), is(2));
+  }
+
   @ParameterizedTest
   @EnumSource(DiagramType.class)
   public void testExecute(final DiagramType diagramType, final TestContext testContext)
@@ -57,4 +151,17 @@ public class ExecuteDiagramFunctionTest extends AbstractFunctionTest {
     FunctionExecutionTestUtility.assertFunctionExecution(
         resourceName, functionDefinition, args, catalog, erModel, connectionSource, true);
   }
+
+  private String diagram(final DiagramFunctionParameters args, final DiagramStore diagrams)
+      throws Exception {
+    final FunctionExecutor<DiagramFunctionParameters> executor =
+        new DiagramFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setConnectionSource(
+        DatabaseConnectionSources.fromConnection(TestObjectUtility.mockConnection()));
+    executor.setDiagrams(diagrams);
+    return executor.call().get();
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.function.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.ai.functions.FindJoinPathFunctionDefinition;
+import schemacrawler.tools.ai.functions.FindJoinPathFunctionParameters;
+import schemacrawler.tools.ai.tools.CatalogIndex;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
+import tools.jackson.databind.JsonNode;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class FindJoinPathFunctionTest extends AbstractFunctionTest {
+
+  @Test
+  public void joinPathAcrossTables() throws Exception {
+    final JsonNode paths =
+        findJoinPath(new FindJoinPathFunctionParameters(List.of("AUTHORS", "BOOKS", "REGIONS")));
+    assertThat(paths.size(), is(1));
+
+    final List<String> tables = new ArrayList<>();
+    for (final JsonNode join : paths.get(0).get("joins")) {
+      tables.add(join.get("from_table").asString());
+      tables.add(join.get("to_table").asString());
+    }
+    assertThat(
+        tables,
+        hasItems(
+            "PUBLIC.BOOKS.AUTHORS",
+            "PUBLIC.BOOKS.BOOKAUTHORS",
+            "PUBLIC.BOOKS.BOOKS",
+            "PUBLIC.\"PUBLISHER SALES\".SALES",
+            "PUBLIC.\"PUBLISHER SALES\".REGIONS"));
+  }
+
+  @Test
+  public void joinPathBetweenTwoTables() throws Exception {
+    final JsonNode paths =
+        findJoinPath(new FindJoinPathFunctionParameters(List.of("BOOKS", "PUBLIC.BOOKS.AUTHORS")));
+    assertThat(paths.isEmpty(), is(false));
+
+    final List<String> throughTables = new ArrayList<>();
+    for (final JsonNode path : paths) {
+      // Books and authors are only related through the join table
+      assertThat(path.get("length").asInt(), is(2));
+      final JsonNode firstJoin = path.get("joins").get(0);
+      assertThat(firstJoin.get("from_table").asString(), is("PUBLIC.BOOKS.BOOKS"));
+      assertThat(firstJoin.get("join_on").isEmpty(), is(false));
+      assertThat(firstJoin.get("cardinality").isString(), is(true));
+      throughTables.add(firstJoin.get("to_table").asString());
+    }
+    assertThat(throughTables, hasItem("PUBLIC.BOOKS.BOOKAUTHORS"));
+  }
+
+  @Test
+  public void joinPathDisconnected() throws Exception {
+    // Publishers are only referenced by a table that is not related to books
+    final JsonNode paths =
+        findJoinPath(new FindJoinPathFunctionParameters(List.of("BOOKS", "PUBLISHERS")));
+    assertThat(paths == null || paths.isEmpty(), is(true));
+  }
+
+  @Test
+  public void joinPathMaxPaths() throws Exception {
+    final JsonNode paths =
+        findJoinPath(new FindJoinPathFunctionParameters(List.of("BOOKS", "AUTHORS"), 1));
+    assertThat(paths.size(), is(1));
+  }
+
+  @Test
+  public void joinPathSameTable() throws Exception {
+    final JsonNode paths =
+        findJoinPath(new FindJoinPathFunctionParameters(List.of("BOOKS", "PUBLIC.BOOKS.BOOKS")));
+    assertThat(paths.size(), is(1));
+    assertThat(paths.get(0).get("length").asInt(), is(0));
+  }
+
+  @Test
+  public void joinPathUnknownTable() throws Exception {
+    assertThrows(
+        ExecutionRuntimeException.class,
+        () -> findJoinPath(new FindJoinPathFunctionParameters(List.of("BOOKS", "NO_SUCH_TABLE"))));
+    assertThrows(
+        ExecutionRuntimeException.class,
+        () -> findJoinPath(new FindJoinPathFunctionParameters(List.of("BOOKS"))));
+  }
+
+  private JsonNode findJoinPath(final FindJoinPathFunctionParameters args) throws Exception {
+    final FunctionExecutor<FindJoinPathFunctionParameters> executor =
+        new FindJoinPathFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setCatalogIndex(new CatalogIndex(catalog, erModel));
+    return mapper.readTree(executor.call().get()).get("paths");
+  }
+}
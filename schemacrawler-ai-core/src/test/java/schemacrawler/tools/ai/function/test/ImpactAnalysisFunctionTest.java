@@ -0,0 +1,113 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.function.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.ai.functions.ImpactAnalysisFunctionDefinition;
+import schemacrawler.tools.ai.functions.ImpactAnalysisFunctionParameters;
+import schemacrawler.tools.ai.tools.CatalogIndex;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
+import tools.jackson.databind.JsonNode;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ImpactAnalysisFunctionTest extends AbstractFunctionTest {
+
+  @Test
+  public void impactOfColumn() throws Exception {
+    // Book authors reference the author id, but not the author name
+    assertThat(
+        fullNames(impactAnalysis(new ImpactAnalysisFunctionParameters("AUTHORS.ID"))),
+        hasItem("PUBLIC.BOOKS.BOOKAUTHORS"));
+    assertThat(
+        fullNames(impactAnalysis(new ImpactAnalysisFunctionParameters("AUTHORS.FIRSTNAME"))),
+        not(hasItem("PUBLIC.BOOKS.BOOKAUTHORS")));
+  }
+
+  @Test
+  public void impactOfTable() throws Exception {
+    final JsonNode impacts = impactAnalysis(new ImpactAnalysisFunctionParameters("AUTHORS"));
+    assertThat(fullNames(impacts), hasItem("PUBLIC.BOOKS.BOOKAUTHORS"));
+
+    int previousDistance = 1;
+    for (final JsonNode impact : impacts) {
+      // Nearest objects first
+      final int distance = impact.get("distance").asInt();
+      assertThat(previousDistance, lessThanOrEqualTo(distance));
+      previousDistance = distance;
+      if (impact.get("full_name").asString().equals("PUBLIC.BOOKS.BOOKAUTHORS")) {
+        assertThat(distance, is(1));
+        assertThat(impact.get("depends_on").asString(), is("PUBLIC.BOOKS.AUTHORS"));
+        assertThat(impact.get("dependency").asString(), is("FOREIGN_KEY"));
+        assertThat(impact.get("foreign_key").isString(), is(true));
+      }
+    }
+  }
+
+  @Test
+  public void impactMaxDistance() throws Exception {
+    final JsonNode impacts = impactAnalysis(new ImpactAnalysisFunctionParameters("BOOKS", 1, null));
+    assertThat(fullNames(impacts), hasItem("PUBLIC.BOOKS.BOOKAUTHORS"));
+    for (final JsonNode impact : impacts) {
+      assertThat(impact.get("distance").asInt(), is(1));
+    }
+  }
+
+  @Test
+  public void impactOfTableOnViewsAndTriggers() throws Exception {
+    final JsonNode impacts = impactAnalysis(new ImpactAnalysisFunctionParameters("AUTHORS"));
+    final List<String> types = new ArrayList<>();
+    for (final JsonNode impact : impacts) {
+      types.add(impact.get("type").asString());
+      if (impact.get("full_name").asString().equals("PUBLIC.BOOKS.AUTHORSLIST")) {
+        assertThat(impact.get("type").asString(), is("view"));
+        assertThat(impact.get("dependency").asString(), is("USAGE"));
+      }
+    }
+    assertThat(fullNames(impacts), hasItem("PUBLIC.BOOKS.AUTHORSLIST"));
+    assertThat(types, hasItem("trigger"));
+  }
+
+  @Test
+  public void impactUnknownObject() throws Exception {
+    assertThrows(
+        ExecutionRuntimeException.class,
+        () -> impactAnalysis(new ImpactAnalysisFunctionParameters("NO_SUCH_TABLE")));
+    assertThrows(
+        ExecutionRuntimeException.class,
+        () -> impactAnalysis(new ImpactAnalysisFunctionParameters("AUTHORS.NO_SUCH_COLUMN")));
+  }
+
+  private List<String> fullNames(final JsonNode impacts) {
+    final List<String> fullNames = new ArrayList<>();
+    impacts.forEach(impact -> fullNames.add(impact.get("full_name").asString()));
+    return fullNames;
+  }
+
+  private JsonNode impactAnalysis(final ImpactAnalysisFunctionParameters args) throws Exception {
+    final FunctionExecutor<ImpactAnalysisFunctionParameters> executor =
+        new ImpactAnalysisFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setCatalogIndex(new CatalogIndex(catalog, erModel));
+    return mapper.readTree(executor.call().get()).get("impacted_objects");
+  }
+}
@@ -8,11 +8,33 @@
 
 package schemacrawler.tools.ai.function.test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Table;
 import schemacrawler.tools.ai.functions.LintFunctionDefinition;
 import schemacrawler.tools.ai.functions.LintFunctionParameters;
+import schemacrawler.tools.ai.tools.CatalogIndex;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
+import schemacrawler.tools.ai.tools.LintStore;
 import schemacrawler.tools.ai.utility.test.FunctionExecutionTestUtility;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
 import us.fatehi.test.utility.extensions.ResolveTestContext;
 import us.fatehi.test.utility.extensions.TestContext;
 import us.fatehi.test.utility.extensions.WithSystemProperty;
@@ -28,6 +50,93 @@ public class LintFunctionTest extends AbstractFunctionTest {
     lintTable(testContext, args, true);
   }
 
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void lintsAreKept() throws Exception {
+    final LintStore lints = new LintStore(catalog, new CatalogIndex(catalog, erModel));
+    final int tableCount = catalog.getTables().size();
+
+    // The first call lints the tables it needs, and starts linting the catalog in the background
+    final List<String> tableLints = lint(new LintFunctionParameters("AUTHORS"), lints);
+    lints.lint(tables -> List.of()).join();
+    assertThat(lints.isLinted(), is(true));
+    assertThat(lints.count(), is(tableCount));
+    assertThat(lints.catalogLints(), is(notNullValue()));
+    assertThat(lints.catalogLints().size(), is(4));
+    assertThat(lint(new LintFunctionParameters("AUTHORS"), lints), is(tableLints));
+
+    // Lints from the store are the same as lints from a run over the whole catalog
+    final List<String> allLints = lint(new LintFunctionParameters(), lints);
+    assertThat(allLints, is(lint(new LintFunctionParameters(), null)));
+    assertThat(allLints.containsAll(tableLints), is(true));
+
+    // Nothing changed, so nothing is linted again for the next snapshot
+    final LintStore nextLints = lints.next(catalog, new CatalogIndex(catalog, erModel));
+    final AtomicInteger lintedTableCount = new AtomicInteger();
+    nextLints
+        .lint(
+            tables -> {
+              lintedTableCount.addAndGet(tables.size());
+              return List.of();
+            })
+        .join();
+    assertThat(lintedTableCount.get(), is(0));
+    assertThat(nextLints.count(), is(tableCount));
+    for (final Table table : catalog.getTables()) {
+      assertThat(nextLints.lints(table), is(lints.lints(table)));
+    }
+  }
+
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void lintsAreKeptForUnchangedTables(final Connection connection) throws Exception {
+    final LintStore lints = new LintStore(catalog, new CatalogIndex(catalog, erModel));
+    lints.lint(tables -> markLints(tables, "first")).join();
+
+    // Change the remarks of one table, and crawl the database again
+    final String tableName = "PUBLIC.BOOKS.AUTHORS";
+    final String remarks = table(catalog, tableName).getRemarks();
+    final Catalog changedCatalog;
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("COMMENT ON TABLE %s IS 'Changed'".formatted(tableName));
+      try {
+        changedCatalog = crawlCatalog(connection);
+      } finally {
+        statement.execute(
+            "COMMENT ON TABLE %s IS '%s'".formatted(tableName, remarks.replace("'", "''")));
+      }
+    }
+    final LintStore nextLints =
+        lints.next(
+            changedCatalog,
+            new CatalogIndex(changedCatalog, SchemaCrawlerUtility.buildERModel(changedCatalog)));
+    nextLints.lint(tables -> markLints(tables, "next")).join();
+
+    // Only the changed table and the tables its foreign keys connect it to are linted again
+    final Table changedTable = table(changedCatalog, tableName);
+    final Set<String> relatedTableNames = new TreeSet<>();
+    relatedTableNames.add(tableName);
+    for (final ForeignKey foreignKey : changedTable.getImportedForeignKeys()) {
+      relatedTableNames.add(foreignKey.getPrimaryKeyTable().getFullName());
+    }
+    for (final ForeignKey foreignKey : changedTable.getExportedForeignKeys()) {
+      relatedTableNames.add(foreignKey.getForeignKeyTable().getFullName());
+    }
+    assertThat(relatedTableNames.size() > 1, is(true));
+
+    final Set<String> lintedTableNames = new TreeSet<>();
+    for (final Table table : changedCatalog.getTables()) {
+      final List<JsonNode> tableLints = nextLints.lints(table);
+      assertThat(tableLints.size(), is(1));
+      if ("next".equals(tableLints.get(0).path("linter-id").asString())) {
+        lintedTableNames.add(table.getFullName());
+      }
+    }
+    assertThat(lintedTableNames, is(relatedTableNames));
+    assertThat(nextLints.count(), is(changedCatalog.getTables().size()));
+    assertThat(nextLints.catalogLints(), is(lints.catalogLints()));
+  }
+
   @Test
   @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
   public void lintTable(final TestContext testContext) throws Exception {
@@ -42,6 +151,52 @@ public class LintFunctionTest extends AbstractFunctionTest {
     lintTable(testContext, args, true);
   }
 
+  /** Makes one lint for each table, so that the store shows which run linted a table. */
+  private static List<JsonNode> markLints(final List<Table> tables, final String linterId) {
+    final List<JsonNode> lints = new ArrayList<>();
+    for (final Table table : tables) {
+      final ObjectNode lint = mapper.createObjectNode();
+      lint.put("linter-id", linterId);
+      lint.put("object-name", table.getFullName());
+      lints.add(lint);
+    }
+    return lints;
+  }
+
+  private static Table table(final Catalog catalog, final String fullName) {
+    for (final Table table : catalog.getTables()) {
+      if (table.getFullName().equals(fullName)) {
+        return table;
+      }
+    }
+    throw new IllegalArgumentException("No table <%s>".formatted(fullName));
+  }
+
+  /** Lints, without the generated lint ids, sorted. */
+  private List<String> lint(final LintFunctionParameters args, final LintStore lints)
+      throws Exception {
+    final FunctionExecutor<LintFunctionParameters> executor =
+        new LintFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setConnectionSource(connectionSource);
+    executor.setLints(lints);
+
+    final JsonNode results = mapper.readTree(executor.call().get());
+    final List<String> lintStrings = new ArrayList<>();
+    for (final JsonNode lint : results.path("lints")) {
+      lintStrings.add(
+          String.join(
+              " | ",
+              lint.path("linter-id").asString(),
+              lint.path("object-name").asString(),
+              lint.path("value").asString()));
+    }
+    Collections.sort(lintStrings);
+    return lintStrings;
+  }
+
   private void lintTable(
       final TestContext testContext, final LintFunctionParameters args, final boolean hasResults)
       throws Exception {
@@ -10,11 +10,13 @@ package schemacrawler.tools.ai.function.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
 import static schemacrawler.tools.ai.functions.ListAcrossTablesFunctionParameters.DependantObjectType.COLUMNS;
 import static schemacrawler.tools.ai.functions.ListAcrossTablesFunctionParameters.DependantObjectType.FOREIGN_KEYS;
 import static schemacrawler.tools.ai.functions.ListAcrossTablesFunctionParameters.DependantObjectType.INDEXES;
 import static schemacrawler.tools.ai.functions.ListAcrossTablesFunctionParameters.DependantObjectType.NONE;
 import static schemacrawler.tools.ai.functions.ListAcrossTablesFunctionParameters.DependantObjectType.TRIGGERS;
+import static schemacrawler.tools.ai.model.OutputEncoding.TABULAR;
 import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 import static us.fatehi.test.utility.extensions.FileHasContent.classpathResource;
 import static us.fatehi.test.utility.extensions.FileHasContent.hasSameContentAs;
@@ -27,7 +29,9 @@ import schemacrawler.tools.ai.functions.ListAcrossTablesFunctionDefinition;
 import schemacrawler.tools.ai.functions.ListAcrossTablesFunctionParameters;
 import schemacrawler.tools.ai.tools.FunctionExecutor;
 import schemacrawler.tools.ai.tools.FunctionReturn;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
 import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
 import us.fatehi.test.utility.TestWriter;
 import us.fatehi.test.utility.extensions.ResolveTestContext;
 import us.fatehi.test.utility.extensions.TestContext;
@@ -65,6 +69,32 @@ public class ListAcrossTablesFunctionTest extends AbstractFunctionTest {
     databaseObjects(testContext, args);
   }
 
+  @Test
+  public void columnsTabular() throws Exception {
+    final JsonNode jsonColumns =
+        mapper.readTree(call(new ListAcrossTablesFunctionParameters(COLUMNS, null, null)).get());
+    final ListAcrossTablesFunctionParameters args =
+        new ListAcrossTablesFunctionParameters(
+            COLUMNS, null, null, null, null, null, null, TABULAR);
+    final JsonFunctionReturn tabularReturn = call(args);
+    final JsonNode tabularColumns = mapper.readTree(tabularReturn.get()).get("columns");
+
+    assertThat(tabularColumns.get("fields").get(0).asString(), is("full_name"));
+    assertThat(tabularColumns.get("rows").size(), is(jsonColumns.get("columns").size()));
+    assertThat(
+        tabularColumns.get("rows").get(0).get(0),
+        is(jsonColumns.get("columns").get(0).get("full_name")));
+
+    // Rows of tabular lists are cut short to fit a token budget, keeping the header
+    final JsonNode limited = mapper.readTree(call(args).withTokenBudget(300).get());
+    assertThat(limited.get("columns").get("fields"), is(tabularColumns.get("fields")));
+    assertThat(
+        limited.get("columns").get("rows").size() < tabularColumns.get("rows").size(), is(true));
+    assertThat(
+        limited.get("truncated").get("total_items").asInt(),
+        is(tabularColumns.get("rows").size()));
+  }
+
   @Test
   public void foreignKeys(final TestContext testContext) throws Exception {
     final ListAcrossTablesFunctionParameters args =
@@ -149,6 +179,16 @@ public class ListAcrossTablesFunctionTest extends AbstractFunctionTest {
     databaseObjects(testContext, args);
   }
 
+  private JsonFunctionReturn call(final ListAcrossTablesFunctionParameters args)
+      throws Exception {
+    final FunctionExecutor<ListAcrossTablesFunctionParameters> executor =
+        new ListAcrossTablesFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    return (JsonFunctionReturn) executor.call();
+  }
+
   private void databaseObjects(
       final TestContext testContext, final ListAcrossTablesFunctionParameters args)
       throws Exception {
@@ -9,22 +9,30 @@
 package schemacrawler.tools.ai.function.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.tools.ai.model.DatabaseObjectType.ALL;
 import static schemacrawler.tools.ai.model.DatabaseObjectType.ROUTINES;
 import static schemacrawler.tools.ai.model.DatabaseObjectType.SCHEMAS;
 import static schemacrawler.tools.ai.model.DatabaseObjectType.SEQUENCES;
 import static schemacrawler.tools.ai.model.DatabaseObjectType.SYNONYMS;
 import static schemacrawler.tools.ai.model.DatabaseObjectType.TABLES;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
 import static us.fatehi.test.utility.extensions.FileHasContent.classpathResource;
 import static us.fatehi.test.utility.extensions.FileHasContent.hasSameContentAs;
 import static us.fatehi.test.utility.extensions.FileHasContent.outputOf;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import schemacrawler.tools.ai.functions.ListFunctionDefinition;
 import schemacrawler.tools.ai.functions.ListFunctionParameters;
 import schemacrawler.tools.ai.tools.FunctionExecutor;
 import schemacrawler.tools.ai.tools.FunctionReturn;
+import schemacrawler.tools.ai.tools.JsonFunctionReturn;
+import tools.jackson.databind.JsonNode;
 import us.fatehi.test.utility.TestWriter;
 import us.fatehi.test.utility.extensions.ResolveTestContext;
 import us.fatehi.test.utility.extensions.TestContext;
@@ -63,12 +71,86 @@ public class ListFunctionTest extends AbstractFunctionTest {
     databaseObjects(testContext, args);
   }
 
+  @Test
+  public void cursorIsTied() throws Exception {
+    final String cursor =
+        callList(new ListFunctionParameters(TABLES, null, 2, null, null, null), 1)
+            .get("next_cursor")
+            .asString();
+    assertThat(
+        callList(new ListFunctionParameters(TABLES, null, 2, null, cursor, null), 1)
+            .get("list")
+            .size(),
+        is(2));
+
+    // A cursor cannot be replayed with different parameters, or against a refreshed catalog
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> callList(new ListFunctionParameters(TABLES, "AUTHORS", 2, null, cursor, null), 1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> callList(new ListFunctionParameters(TABLES, null, 2, null, cursor, null), 2));
+  }
+
   @Test
   public void dbTables(final TestContext testContext) throws Exception {
     final ListFunctionParameters args = new ListFunctionParameters(TABLES, null);
     databaseObjects(testContext, args);
   }
 
+  @Test
+  public void pagedTables() throws Exception {
+    final JsonNode allTables = callList(new ListFunctionParameters(TABLES, null)).get("list");
+    final int totalCount = allTables.size();
+
+    final List<JsonNode> pagedTables = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      final JsonNode page =
+          callList(new ListFunctionParameters(TABLES, null, 4, null, cursor, null));
+      assertThat(page.get("total_count").asInt(), is(totalCount));
+      assertThat(page.get("list").size() <= 4, is(true));
+      page.get("list").forEach(pagedTables::add);
+      cursor = page.has("next_cursor") ? page.get("next_cursor").asString() : null;
+      pages++;
+    } while (cursor != null);
+
+    assertThat(pages, is((totalCount + 3) / 4));
+    final List<JsonNode> expectedTables = new ArrayList<>();
+    allTables.forEach(expectedTables::add);
+    assertThat(pagedTables, is(expectedTables));
+
+    final JsonNode offsetPage =
+        callList(new ListFunctionParameters(TABLES, null, 1, 2, null, null));
+    assertThat(offsetPage.get("list").get(0), is(allTables.get(2)));
+    assertThat(offsetPage.has("next_cursor"), is(true));
+
+    final JsonNode lastPage =
+        callList(new ListFunctionParameters(TABLES, null, null, totalCount - 1, null, null));
+    assertThat(lastPage.get("list").size(), is(1));
+    assertThat(lastPage.has("next_cursor"), is(not(true)));
+  }
+
+  @Test
+  public void tokenBudget() throws Exception {
+    final JsonFunctionReturn fullReturn = listTables();
+    final JsonNode allTables = fullReturn.getResult().get("list");
+    final String fullResults = fullReturn.get();
+
+    final JsonNode limited = mapper.readTree(listTables().withTokenBudget(200).get());
+    final JsonNode truncated = limited.get("truncated");
+    assertThat(limited.get("list").size() < allTables.size(), is(true));
+    assertThat(limited.get("list").get(0), is(allTables.get(0)));
+    assertThat(truncated.get("max_tokens").asInt(), is(200));
+    assertThat(truncated.get("returned_items").asInt(), is(limited.get("list").size()));
+    assertThat(truncated.get("total_items").asInt(), is(allTables.size()));
+    assertThat(truncated.get("hint").asString().isBlank(), is(false));
+
+    final String unlimited = listTables().withTokenBudget(1_000_000).get();
+    assertThat(unlimited, is(fullResults));
+  }
+
   @Test
   public void parameters(final TestContext testContext) throws Exception {
     final ListFunctionParameters args = new ListFunctionParameters(ALL, null);
@@ -93,6 +175,30 @@ public class ListFunctionTest extends AbstractFunctionTest {
     databaseObjects(testContext, args);
   }
 
+  private JsonFunctionReturn listTables() throws Exception {
+    final FunctionExecutor<ListFunctionParameters> executor =
+        new ListFunctionDefinition().newExecutor();
+    executor.configure(new ListFunctionParameters(TABLES, null));
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    return (JsonFunctionReturn) executor.call();
+  }
+
+  private JsonNode callList(final ListFunctionParameters args) throws Exception {
+    return callList(args, 0);
+  }
+
+  private JsonNode callList(final ListFunctionParameters args, final long catalogVersion)
+      throws Exception {
+    final FunctionExecutor<ListFunctionParameters> executor =
+        new ListFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setCatalogVersion(catalogVersion);
+    return ((JsonFunctionReturn) executor.call()).getResult();
+  }
+
   private void databaseObjects(final TestContext testContext, final ListFunctionParameters args)
       throws Exception {
 
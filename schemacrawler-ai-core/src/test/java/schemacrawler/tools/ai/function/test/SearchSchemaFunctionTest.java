@@ -0,0 +1,94 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.function.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.tools.ai.model.SearchObjectType.ALL;
+import static schemacrawler.tools.ai.model.SearchObjectType.COLUMNS;
+import static schemacrawler.tools.ai.model.SearchObjectType.TABLES;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import schemacrawler.tools.ai.functions.SearchSchemaFunctionDefinition;
+import schemacrawler.tools.ai.functions.SearchSchemaFunctionParameters;
+import schemacrawler.tools.ai.tools.CatalogIndex;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
+import tools.jackson.databind.JsonNode;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SearchSchemaFunctionTest extends AbstractFunctionTest {
+
+  @Test
+  public void searchCamelCase() throws Exception {
+    final JsonNode matches =
+        search(new SearchSchemaFunctionParameters("postalCode", COLUMNS, null));
+    assertThat(fullNames(matches), hasItem("PUBLIC.BOOKS.AUTHORS.POSTALCODE"));
+    assertThat(matches.get(0).get("table").isString(), is(true));
+  }
+
+  @Test
+  public void searchEmpty() throws Exception {
+    assertThat(search(new SearchSchemaFunctionParameters()).size(), is(0));
+    assertThat(search(new SearchSchemaFunctionParameters("  ")).size(), is(0));
+  }
+
+  @Test
+  public void searchLimit() throws Exception {
+    assertThat(search(new SearchSchemaFunctionParameters("id", ALL, 2)).size(), is(2));
+  }
+
+  @Test
+  public void searchName() throws Exception {
+    final JsonNode matches = search(new SearchSchemaFunctionParameters("authors", TABLES, null));
+    assertThat(matches.get(0).get("full_name").asString(), is("PUBLIC.BOOKS.AUTHORS"));
+    assertThat(matches.get(0).get("type").asString(), is("table"));
+  }
+
+  @Test
+  public void searchNameParts() throws Exception {
+    final JsonNode matches =
+        search(new SearchSchemaFunctionParameters("first name", COLUMNS, null));
+    // Matches FIRSTNAME as well as FIRST_NAME
+    assertThat(matches.get(0).get("name").asString().replace("_", ""), is("FIRSTNAME"));
+  }
+
+  @Test
+  public void searchRemarks() throws Exception {
+    final JsonNode matches =
+        search(new SearchSchemaFunctionParameters("contact details", TABLES, null));
+    assertThat(fullNames(matches), hasItem("PUBLIC.BOOKS.AUTHORS"));
+  }
+
+  @Test
+  public void searchTypo() throws Exception {
+    final JsonNode matches = search(new SearchSchemaFunctionParameters("athors", TABLES, null));
+    assertThat(fullNames(matches), hasItem("PUBLIC.BOOKS.AUTHORS"));
+  }
+
+  private List<String> fullNames(final JsonNode matches) {
+    final List<String> fullNames = new ArrayList<>();
+    matches.forEach(match -> fullNames.add(match.get("full_name").asString()));
+    return fullNames;
+  }
+
+  private JsonNode search(final SearchSchemaFunctionParameters args) throws Exception {
+    final FunctionExecutor<SearchSchemaFunctionParameters> executor =
+        new SearchSchemaFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setCatalogIndex(new CatalogIndex(catalog));
+    return mapper.readTree(executor.call().get()).get("matches");
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.function.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.tools.ai.model.AdditionalTableDetails;
+import schemacrawler.tools.ai.model.CatalogDocument;
+import schemacrawler.tools.ai.model.CompactCatalogBuilder;
+import schemacrawler.tools.ai.model.OutputEncoding;
+import schemacrawler.tools.ai.model.TableDocument;
+import schemacrawler.tools.ai.tools.TableFragmentStore;
+import tools.jackson.databind.node.ObjectNode;
+
+public class TableFragmentStoreTest extends AbstractFunctionTest {
+
+  @Test
+  public void catalogNodeMatchesDocument() {
+    final TableFragmentStore tableFragments = new TableFragmentStore(catalog, erModel);
+    final List<Table> tables = List.copyOf(catalog.getTables());
+    final EnumSet<AdditionalTableDetails> tableDetails =
+        EnumSet.of(AdditionalTableDetails.INDEXES);
+    final CompactCatalogBuilder catalogBuilder =
+        CompactCatalogBuilder.builder(catalog, erModel).withAdditionalTableDetails(tableDetails);
+    final String expected = catalogBuilder.build().toObjectNode().toString();
+    final CatalogDocument routinesDocument = catalogBuilder.withTables(List.of()).build();
+
+    // The first time, table documents are built and kept, and after that they come from the store
+    for (int i = 0; i < 2; i++) {
+      final ObjectNode catalogNode =
+          tableFragments.toCatalogNode(routinesDocument, tables, tableDetails, OutputEncoding.JSON);
+      assertThat(catalogNode.toString(), is(expected));
+      assertThat(tableFragments.count(), is(tables.size()));
+    }
+  }
+
+  @Test
+  public void fragmentMatchesDocument() {
+    final TableFragmentStore tableFragments = new TableFragmentStore(catalog, erModel);
+    final EnumSet<AdditionalTableDetails> tableDetails =
+        EnumSet.allOf(AdditionalTableDetails.class);
+    for (final Table table : catalog.getTables()) {
+      final TableDocument tableDocument =
+          CompactCatalogBuilder.builder(catalog, erModel)
+              .withAdditionalTableDetails(tableDetails)
+              .buildTableDocument(table);
+      assertThat(
+          mapper.readTree(tableFragments.fragment(table, tableDetails)),
+          is(tableDocument.toObjectNode()));
+    }
+    assertThat(tableFragments.count(), is(catalog.getTables().size()));
+  }
+
+  @Test
+  public void fragmentsAreKept() {
+    final TableFragmentStore tableFragments = new TableFragmentStore(catalog, erModel);
+    final Table table = catalog.getTables().iterator().next();
+
+    final String fragment = tableFragments.fragment(table, List.of());
+    assertThat(tableFragments.fragment(table, null), is(sameInstance(fragment)));
+    assertThat(tableFragments.count(), is(1));
+    assertThat(tableFragments.size(), is((long) fragment.length()));
+
+    // Different details are kept separately
+    final String indexesFragment =
+        tableFragments.fragment(table, List.of(AdditionalTableDetails.INDEXES));
+    assertThat(indexesFragment, is(not(fragment)));
+    assertThat(tableFragments.count(), is(2));
+
+    assertThat(tableFragments.isForCatalog(catalog), is(true));
+    assertThat(tableFragments.isForCatalog(mock(Catalog.class)), is(false));
+  }
+
+  @Test
+  public void fullStore() {
+    final TableFragmentStore tableFragments = new TableFragmentStore(catalog, erModel, 0);
+    final Table table = catalog.getTables().iterator().next();
+
+    final String fragment = tableFragments.fragment(table, List.of());
+    assertThat(fragment.length(), is(greaterThan(0)));
+    assertThat(tableFragments.count(), is(0));
+    assertThat(tableFragments.size(), is(0L));
+  }
+}
@@ -8,11 +8,21 @@
 
 package schemacrawler.tools.ai.function.test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import schemacrawler.tools.ai.functions.TableSampleFunctionDefinition;
 import schemacrawler.tools.ai.functions.TableSampleFunctionParameters;
+import schemacrawler.tools.ai.tools.FunctionExecutor;
+import schemacrawler.tools.ai.tools.FunctionReturn;
 import schemacrawler.tools.ai.utility.test.FunctionExecutionTestUtility;
+import tools.jackson.databind.JsonNode;
 import us.fatehi.test.utility.extensions.ResolveTestContext;
 import us.fatehi.test.utility.extensions.TestContext;
 import us.fatehi.test.utility.extensions.WithSystemProperty;
@@ -28,6 +38,28 @@ public class TableSampleFunctionTest extends AbstractFunctionTest {
     sampleTable(testContext, args, true);
   }
 
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void sampleColumnsAndRows() throws Exception {
+    final TableSampleFunctionParameters args =
+        new TableSampleFunctionParameters("PUBLIC.BOOKS.AUTHORS", List.of("id", "LastName"), 3, 5);
+
+    final FunctionExecutor<TableSampleFunctionParameters> executor =
+        new TableSampleFunctionDefinition().newExecutor();
+    executor.configure(args);
+    executor.setCatalog(catalog);
+    executor.setERModel(erModel);
+    executor.setConnectionSource(connectionSource);
+    final FunctionReturn functionReturn = executor.call();
+
+    final JsonNode sample = mapper.readTree(functionReturn.get()).get("0");
+    assertThat(sample.get("table").asString(), is("AUTHORS"));
+    final JsonNode data = sample.get("data");
+    assertThat(data.size(), is(3));
+    final List<String> columnNames = new ArrayList<>(data.get(0).propertyNames());
+    assertThat(columnNames, contains("ID", "LASTNAME"));
+  }
+
   @Test
   @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
   public void sampleTable(final TestContext testContext) throws Exception {
@@ -0,0 +1,83 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.test.utility.crawl.LightTable;
+import schemacrawler.tools.ai.tools.CatalogIndex;
+import schemacrawler.tools.ai.tools.CatalogIndex.NameIndex;
+
+public class CatalogIndexTest {
+
+  private final Table table1 = new LightTable(new SchemaReference("PUBLIC", "BOOKS"), "BOOKS");
+  private final Table table2 = new LightTable(new SchemaReference("PUBLIC", "OTHER"), "BOOKS");
+  private final Table table3 = new LightTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS");
+
+  @Test
+  public void ambiguousNames() {
+    final NameIndex<Table> tables = tableIndex().tables();
+
+    assertThat(tables.ambiguousNames(), contains("books"));
+    final ExecutionRuntimeException e =
+        assertThrows(ExecutionRuntimeException.class, () -> tables.lookup("BOOKS"));
+    assertThat(e.getMessage(), is("<BOOKS> has too many matches - provide a fully-qualified name"));
+    assertThat(tables.lookupAll("books").size(), is(2));
+  }
+
+  @Test
+  public void buildOnce() {
+    final Catalog catalog = mock(Catalog.class);
+    when(catalog.getTables()).thenReturn(List.of(table1));
+    final CatalogIndex catalogIndex = new CatalogIndex(catalog);
+
+    assertThat(catalogIndex.tables(), is(sameInstance(catalogIndex.tables())));
+    verify(catalog, times(1)).getTables();
+  }
+
+  @Test
+  public void lookup() {
+    final NameIndex<Table> tables = tableIndex().tables();
+
+    assertThat(tables.lookup("authors"), is(table3));
+    assertThat(tables.lookup(" public.books.authors "), is(table3));
+    assertThat(tables.lookup("PUBLIC.OTHER.BOOKS"), is(table2));
+  }
+
+  @Test
+  public void notFound() {
+    final NameIndex<Table> tables = tableIndex().tables();
+
+    assertThat(tables.lookupAll("NON_EXISTENT"), is(empty()));
+    final ExecutionRuntimeException e =
+        assertThrows(ExecutionRuntimeException.class, () -> tables.lookup("NON_EXISTENT"));
+    assertThat(e.getMessage(), is("<NON_EXISTENT> not found"));
+  }
+
+  private CatalogIndex tableIndex() {
+    final Catalog catalog = mock(Catalog.class);
+    when(catalog.getTables()).thenReturn(List.of(table1, table2, table3));
+    return new CatalogIndex(catalog);
+  }
+}
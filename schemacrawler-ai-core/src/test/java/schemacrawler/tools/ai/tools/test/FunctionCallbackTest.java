@@ -16,19 +16,24 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import schemacrawler.ermodel.model.ERModel;
 import schemacrawler.schema.Catalog;
 import schemacrawler.test.utility.crawl.LightCatalogUtility;
+import schemacrawler.tools.ai.tools.CatalogSnapshot;
 import schemacrawler.tools.ai.tools.FunctionCallback;
 import schemacrawler.tools.ai.tools.FunctionDefinition;
 import schemacrawler.tools.ai.tools.FunctionExecutor;
 import schemacrawler.tools.ai.tools.FunctionParameters;
 import schemacrawler.tools.ai.tools.FunctionReturn;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
 import schemacrawler.tools.ai.tools.TextFunctionReturn;
 import tools.jackson.databind.JsonNode;
 import us.fatehi.test.utility.TestObjectUtility;
@@ -96,6 +101,37 @@ public class FunctionCallbackTest {
     verify(executor).setConnectionSource(connectionSource);
   }
 
+  @Test
+  public void testExecuteCached() throws Exception {
+    final FunctionDefinition<TestParameters> definition = mock(FunctionDefinition.class);
+    final FunctionExecutor<TestParameters> executor = mock(FunctionExecutor.class);
+
+    when(definition.getName()).thenReturn("test-function");
+    when(definition.getFunctionName()).thenReturn(new PropertyName("test-function"));
+    when(definition.getParametersClass()).thenReturn(TestParameters.class);
+    when(definition.newParameters()).thenReturn(new TestParameters());
+    when(definition.newExecutor()).thenReturn(executor);
+    when(definition.isIdempotent()).thenReturn(true);
+    when(executor.call())
+        .thenReturn(new TextFunctionReturn("first"), new TextFunctionReturn("second"));
+
+    final FunctionReturnCache cache = new FunctionReturnCache(10, Duration.ofMinutes(1));
+    final AtomicReference<CatalogSnapshot> snapshot =
+        new AtomicReference<>(new CatalogSnapshot(catalog, erModel));
+    final FunctionCallback<TestParameters> callback =
+        new FunctionCallback<>(definition, snapshot::get).withFunctionReturnCache(cache);
+
+    assertThat(callback.execute("{\"param1\": \"value1\"}", connectionSource).get(), is("first"));
+    assertThat(callback.execute("{\"param1\":\"value1\"}", connectionSource).get(), is("first"));
+    assertThat(cache.statistics().hits(), is(1L));
+
+    // A new catalog snapshot invalidates cached results
+    snapshot.set(snapshot.get().next(catalog, erModel));
+    assertThat(
+        callback.execute("{\"param1\": \"value1\"}", connectionSource).get(), is("second"));
+    verify(executor, times(2)).call();
+  }
+
   @Test
   public void testExecuteCheckedException() throws Exception {
     final FunctionDefinition<TestParameters> definition = mock(FunctionDefinition.class);
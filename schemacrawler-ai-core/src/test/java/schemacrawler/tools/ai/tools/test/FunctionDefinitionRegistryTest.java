@@ -33,7 +33,7 @@ import us.fatehi.utility.property.PropertyName;
 
 public class FunctionDefinitionRegistryTest {
 
-  private static final int NUM_FUNCTIONS = 8;
+  private static final int NUM_FUNCTIONS = 11;
 
   @Test
   public void name() {
@@ -63,6 +63,9 @@ public class FunctionDefinitionRegistryTest {
             "list",
             "list_across_tables",
             "diagram",
+            "find_join_path",
+            "impact_analysis",
+            "search_schema",
             "table_sample"));
   }
 
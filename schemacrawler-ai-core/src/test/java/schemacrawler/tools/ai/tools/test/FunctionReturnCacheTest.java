@@ -0,0 +1,120 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import schemacrawler.tools.ai.tools.ExceptionFunctionReturn;
+import schemacrawler.tools.ai.tools.FunctionReturn;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
+import schemacrawler.tools.ai.tools.FunctionReturnCache.CacheKey;
+import schemacrawler.tools.ai.tools.FunctionReturnCache.Statistics;
+import schemacrawler.tools.ai.tools.TextFunctionReturn;
+import schemacrawler.tools.ai.tools.test.FunctionCallbackTest.TestParameters;
+
+public class FunctionReturnCacheTest {
+
+  private static CacheKey key(final String param, final long catalogVersion) {
+    return new CacheKey("test-function", new TestParameters(param), catalogVersion);
+  }
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  public void badSettings() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new FunctionReturnCache(0, Duration.ofMinutes(1)));
+    assertThrows(
+        IllegalArgumentException.class, () -> new FunctionReturnCache(10, Duration.ZERO));
+  }
+
+  @Test
+  public void cachesByParameterValue() throws Exception {
+    final FunctionReturnCache cache = new FunctionReturnCache(10, Duration.ofMinutes(1));
+
+    final FunctionReturn first = cache.get(key("a", 1), this::call);
+    // Equal parameter records hit the cache, even if they are different objects
+    final FunctionReturn second = cache.get(key("a", 1), this::call);
+    final FunctionReturn other = cache.get(key("b", 1), this::call);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(other, is(not(sameInstance(first))));
+    assertThat(calls.get(), is(2));
+
+    final Statistics statistics = cache.statistics();
+    assertThat(statistics.hits(), is(1L));
+    assertThat(statistics.misses(), is(2L));
+    assertThat(statistics.size(), is(2));
+  }
+
+  @Test
+  public void doesNotCacheExceptions() throws Exception {
+    final FunctionReturnCache cache = new FunctionReturnCache(10, Duration.ofMinutes(1));
+    cache.get(key("a", 1), () -> new ExceptionFunctionReturn(new RuntimeException("failed")));
+    cache.get(key("a", 1), this::call);
+    assertThat(calls.get(), is(1));
+    assertThat(cache.statistics().misses(), is(2L));
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsed() throws Exception {
+    final FunctionReturnCache cache = new FunctionReturnCache(2, Duration.ofMinutes(1));
+    cache.get(key("a", 1), this::call);
+    cache.get(key("b", 1), this::call);
+    // Use "a" again, so "b" is the least recently used
+    cache.get(key("a", 1), this::call);
+    cache.get(key("c", 1), this::call);
+    assertThat(calls.get(), is(3));
+
+    cache.get(key("a", 1), this::call);
+    assertThat(calls.get(), is(3));
+    cache.get(key("b", 1), this::call);
+    assertThat(calls.get(), is(4));
+    assertThat(cache.statistics().evictions(), is(2L));
+  }
+
+  @Test
+  public void expiresEntries() throws Exception {
+    final FunctionReturnCache cache = new FunctionReturnCache(10, Duration.ofMillis(50));
+    cache.get(key("a", 1), this::call);
+    Thread.sleep(100);
+    cache.get(key("a", 1), this::call);
+    assertThat(calls.get(), is(2));
+  }
+
+  @Test
+  public void invalidatesOnCatalogChange() throws Exception {
+    final FunctionReturnCache cache = new FunctionReturnCache(10, Duration.ofMinutes(1));
+    cache.get(key("a", 1), this::call);
+    cache.get(key("b", 1), this::call);
+
+    cache.get(key("a", 2), this::call);
+    assertThat(cache.statistics().size(), is(1));
+    assertThat(calls.get(), is(3));
+
+    // Results from an older snapshot are not cached
+    cache.get(key("b", 1), this::call);
+    cache.get(key("b", 1), this::call);
+    assertThat(calls.get(), is(5));
+
+    cache.invalidateAll();
+    assertThat(cache.statistics().size(), is(0));
+  }
+
+  private FunctionReturn call() {
+    return new TextFunctionReturn("result " + calls.incrementAndGet());
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.tools.ai.tools.base.NameInclusionRule;
+
+public class NameInclusionRuleTest {
+
+  private static final List<String> names =
+      List.of(
+          "PUBLIC.BOOKS.AUTHORS",
+          "PUBLIC.BOOKS.AUTHORS.FIRSTNAME",
+          "public.books.bookauthors",
+          "PUBLIC.PUBLISHER_SALES.REGIONS",
+          "Stra\u00DFe",
+          "LINE\nBREAK",
+          "",
+          "A");
+
+  @Test
+  public void badPattern() {
+    assertThrows(PatternSyntaxException.class, () -> NameInclusionRule.forPattern("AUTHORS("));
+  }
+
+  @Test
+  public void cached() {
+    assertThat(
+        NameInclusionRule.forPattern("AUTHORS"),
+        is(sameInstance(NameInclusionRule.forPattern("AUTHORS"))));
+  }
+
+  @Test
+  public void matchesLikeRegularExpression() {
+    for (final String pattern :
+        List.of(
+            "AUTHORS",
+            "authors",
+            "BOOKS.AUTHORS",
+            "books.author",
+            "PUBLIC.B..KS",
+            "STRASSE",
+            "stra\u00DFe",
+            "BREAK",
+            "LINE",
+            "A",
+            "^PUBLIC\\.BOOKS\\..*",
+            "(AUTHORS|REGIONS)$",
+            "FIRST[A-Z]+")) {
+      final InclusionRule rule = NameInclusionRule.forPattern(pattern);
+      final Pattern regex =
+          Pattern.compile(
+              ".*%s.*".formatted(pattern), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+      for (final String name : names) {
+        assertThat(
+            pattern + " against " + name, rule.test(name), is(regex.matcher(name).matches()));
+      }
+      assertThat(rule.test(null), is(false));
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.tools.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import schemacrawler.tools.ai.tools.base.OutputSink;
+import us.fatehi.utility.readconfig.EnvironmentVariableConfig;
+
+public class OutputSinkTest {
+
+  @Test
+  public void emptySink() throws Exception {
+    final OutputSink outputSink = new OutputSink(16);
+    outputSink.close();
+
+    assertThat(outputSink.isEmpty(), is(true));
+    assertThat(outputSink.isSpilled(), is(false));
+    assertThat(outputSink.contents(), is(""));
+  }
+
+  @Test
+  public void inMemory() throws Exception {
+    final OutputSink outputSink = new OutputSink(16);
+    outputSink.write("0123456789");
+    outputSink.close();
+
+    assertThat(outputSink.isEmpty(), is(false));
+    assertThat(outputSink.isSpilled(), is(false));
+    assertThat(outputSink.contents(), is("0123456789"));
+
+    outputSink.discard();
+    assertThat(outputSink.isEmpty(), is(true));
+  }
+
+  @Test
+  public void reader() throws Exception {
+    final OutputSink outputSink = new OutputSink(16);
+    outputSink.write("0123456789");
+    outputSink.write("0123456789");
+    outputSink.close();
+
+    assertThat(outputSink.isSpilled(), is(true));
+    try (final Reader reader = outputSink.reader()) {
+      final char[] chars = new char[32];
+      final int length = reader.read(chars);
+      assertThat(new String(chars, 0, length), is("01234567890123456789"));
+    }
+    outputSink.discard();
+  }
+
+  @Test
+  public void spillThresholdFromEnvironment() throws Exception {
+    final Map<String, String> env = Map.of(OutputSink.SPILL_THRESHOLD, "4");
+    final OutputSink outputSink =
+        OutputSink.newOutputSink((EnvironmentVariableConfig) env::get);
+    outputSink.write("0123456789");
+    outputSink.close();
+
+    assertThat(outputSink.isSpilled(), is(true));
+    outputSink.discard();
+  }
+
+  @Test
+  public void spilled() throws Exception {
+    final OutputSink outputSink = new OutputSink(16);
+    outputSink.write("0123456789");
+    outputSink.write("0123456789");
+    outputSink.write("0123456789");
+    outputSink.close();
+
+    assertThat(outputSink.isEmpty(), is(false));
+    assertThat(outputSink.isSpilled(), is(true));
+    assertThat(outputSink.contents(), is("012345678901234567890123456789"));
+
+    outputSink.discard();
+    assertThat(outputSink.isSpilled(), is(false));
+    assertThat(outputSink.isEmpty(), is(true));
+  }
+
+  @Test
+  public void writeAfterClose() throws Exception {
+    final OutputSink inMemory = new OutputSink(16);
+    inMemory.write("0123");
+    inMemory.close();
+    assertThrows(IOException.class, () -> inMemory.write("4567"));
+    assertThat(inMemory.contents(), is("0123"));
+
+    final OutputSink spilled = new OutputSink(2);
+    spilled.write("0123");
+    spilled.close();
+    assertThrows(IOException.class, () -> spilled.write("4567"));
+    assertThat(spilled.contents(), is("0123"));
+    spilled.discard();
+  }
+}
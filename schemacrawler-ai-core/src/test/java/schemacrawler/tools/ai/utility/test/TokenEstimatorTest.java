@@ -0,0 +1,45 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.utility.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.tools.ai.utility.TokenEstimator.estimate;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenEstimatorTest {
+
+  @Test
+  public void empty() {
+    assertThat(estimate(null), is(0L));
+    assertThat(estimate(""), is(0L));
+    assertThat(estimate(" \n\t"), is(0L));
+  }
+
+  @Test
+  public void json() {
+    assertThat(estimate("{\"a\":1}"), is(7L));
+    assertThat(estimate("{ \"name\" : \"AUTHORS\" }"), is(10L));
+  }
+
+  @Test
+  public void nonAscii() {
+    assertThat(estimate("é"), is(1L));
+    assertThat(estimate("ΒΙΒΛΊΑ"), is(6L));
+    assertThat(estimate("😀"), is(1L));
+  }
+
+  @Test
+  public void words() {
+    assertThat(estimate("abcd"), is(1L));
+    assertThat(estimate("abcde"), is(2L));
+    assertThat(estimate("first_name last_name"), is(6L));
+  }
+}
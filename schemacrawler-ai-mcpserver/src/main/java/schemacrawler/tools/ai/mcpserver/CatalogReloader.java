@@ -0,0 +1,95 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import schemacrawler.schema.Catalog;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+/**
+ * Reloads the catalog from the database for a background refresh.
+ *
+ * @param catalogLoader Crawls the database again, and returns a new catalog.
+ * @param refreshInterval How often to refresh the catalog - zero to only refresh on demand.
+ * @param fingerprinter Reads cheap change markers for a catalog, so that the catalog is only
+ *     reloaded when the database has changed - null to always reload.
+ * @param cachedFingerprint Change markers saved with a cached catalog that the server started
+ *     from, which needs to be revalidated against the database - null if the catalog was crawled.
+ */
+public record CatalogReloader(
+    Supplier<Catalog> catalogLoader,
+    Duration refreshInterval,
+    Function<Catalog, SchemaFingerprint> fingerprinter,
+    SchemaFingerprint cachedFingerprint) {
+
+  public CatalogReloader {
+    requireNonNull(catalogLoader, "No catalog loader provided");
+    if (refreshInterval == null || refreshInterval.isNegative()) {
+      refreshInterval = Duration.ZERO;
+    }
+  }
+
+  public CatalogReloader(final Supplier<Catalog> catalogLoader, final Duration refreshInterval) {
+    this(catalogLoader, refreshInterval, null, null);
+  }
+
+  public boolean canDetectChanges() {
+    return fingerprinter != null;
+  }
+
+  public SchemaFingerprint fingerprint(final Catalog catalog) {
+    if (fingerprinter == null) {
+      return null;
+    }
+    return fingerprinter.apply(catalog);
+  }
+
+  public boolean isFromCache() {
+    return cachedFingerprint != null;
+  }
+
+  public boolean isScheduled() {
+    return !refreshInterval.isZero();
+  }
+
+  public Catalog reload() {
+    return catalogLoader.get();
+  }
+
+  /**
+   * Detects changes with database metadata read from the connection source, before reloading.
+   *
+   * @param connectionSource Source of database connections
+   * @return Catalog reloader that only reloads when the database has changed
+   */
+  public CatalogReloader withChangeDetection(final DatabaseConnectionSource connectionSource) {
+    requireNonNull(connectionSource, "No database connection source provided");
+    return new CatalogReloader(
+        catalogLoader,
+        refreshInterval,
+        catalog -> SchemaFingerprint.fingerprint(connectionSource, catalog),
+        cachedFingerprint);
+  }
+
+  /**
+   * Marks the catalog as having been read from a snapshot file, so that it is revalidated against
+   * the database once the server has started.
+   *
+   * @param cachedFingerprint Change markers saved with the cached catalog
+   * @return Catalog reloader that revalidates the cached catalog
+   */
+  public CatalogReloader withCachedFingerprint(final SchemaFingerprint cachedFingerprint) {
+    requireNonNull(cachedFingerprint, "No cached fingerprint provided");
+    return new CatalogReloader(catalogLoader, refreshInterval, fingerprinter, cachedFingerprint);
+  }
+}
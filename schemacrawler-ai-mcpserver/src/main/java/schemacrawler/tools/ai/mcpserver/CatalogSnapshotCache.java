@@ -0,0 +1,219 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Saves a loaded catalog to a snapshot file, so that the server can start from it instead of
+ * crawling the database again. Each snapshot file is keyed by the connection and the options used
+ * to crawl, and starts with a header that is checked before the catalog is read. Files that are
+ * missing, from another format version, or for another key are ignored.
+ */
+public final class CatalogSnapshotCache {
+
+  /**
+   * Catalog read from a snapshot file.
+   *
+   * @param catalog Catalog
+   * @param fingerprint Change markers for the database when the catalog was crawled, which is empty
+   *     if they could not be read
+   * @param savedAt When the snapshot file was written
+   */
+  public record CachedCatalog(Catalog catalog, SchemaFingerprint fingerprint, Instant savedAt) {}
+
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+
+    @Override
+    public int read() {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+  }
+
+  private static final Logger LOGGER =
+      Logger.getLogger(CatalogSnapshotCache.class.getCanonicalName());
+
+  private static final int MAGIC = 0x53434149; // "SCAI"
+  private static final int FORMAT_VERSION = 1;
+
+  /**
+   * Creates a snapshot cache in a directory, with a file name derived from the key.
+   *
+   * @param directory Directory for snapshot files
+   * @param keyParts Everything that makes a crawled catalog different, such as the connection URL,
+   *     user and crawl options
+   * @return Snapshot cache
+   */
+  public static CatalogSnapshotCache forKey(final Path directory, final String... keyParts) {
+    requireNonNull(directory, "No cache directory provided");
+    requireNonNull(keyParts, "No cache key provided");
+    final String key = hash(String.join("\n", keyParts));
+    return new CatalogSnapshotCache(
+        directory.resolve("catalog-%s.snapshot".formatted(key.substring(0, 16))), key);
+  }
+
+  private static String hash(final String text) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(text.getBytes(UTF_8)));
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Could not hash catalog snapshot key", e);
+    }
+  }
+
+  private final Path snapshotFile;
+  private final String key;
+
+  CatalogSnapshotCache(final Path snapshotFile, final String key) {
+    this.snapshotFile = requireNonNull(snapshotFile, "No snapshot file provided");
+    this.key = requireNonNull(key, "No cache key provided");
+  }
+
+  /**
+   * Reads the catalog from the snapshot file, which is memory-mapped rather than read through a
+   * stream.
+   *
+   * @return Cached catalog, or empty if there is no usable snapshot file
+   */
+  public Optional<CachedCatalog> load() {
+    if (!Files.isRegularFile(snapshotFile)) {
+      LOGGER.log(Level.INFO, new StringFormat("No catalog snapshot at <%s>", snapshotFile));
+      return Optional.empty();
+    }
+
+    try (final FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      final InputStream in = new ByteBufferInputStream(buffer);
+
+      final DataInputStream header = new DataInputStream(in);
+      if (header.readInt() != MAGIC
+          || header.readInt() != FORMAT_VERSION
+          || !key.equals(header.readUTF())) {
+        LOGGER.log(
+            Level.INFO, new StringFormat("Ignoring stale catalog snapshot <%s>", snapshotFile));
+        return Optional.empty();
+      }
+      final Instant savedAt = Instant.ofEpochMilli(header.readLong());
+
+      final ObjectInputStream objects = new ObjectInputStream(in);
+      final SchemaFingerprint fingerprint = (SchemaFingerprint) objects.readObject();
+      final Catalog catalog = (Catalog) objects.readObject();
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Loaded catalog snapshot <%s>, saved at <%s>", snapshotFile, savedAt));
+      return Optional.of(new CachedCatalog(catalog, fingerprint, savedAt));
+    } catch (final Exception e) {
+      LOGGER.log(
+          Level.WARNING, new StringFormat("Could not read catalog snapshot <%s>", snapshotFile), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Writes the catalog to the snapshot file. The file is written alongside, and then moved into
+   * place, so that a server starting at the same time never reads a partial file. Failures are
+   * logged, since the cache is only an optimization.
+   *
+   * @param catalog Catalog to save
+   * @param fingerprint Change markers for the database when the catalog was crawled
+   */
+  public void save(final Catalog catalog, final SchemaFingerprint fingerprint) {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(fingerprint, "No fingerprint provided");
+
+    Path tempFile = null;
+    try {
+      final Path directory = snapshotFile.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      tempFile = Files.createTempFile(directory, "catalog-", ".tmp");
+
+      try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+        final DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.writeUTF(key);
+        header.writeLong(System.currentTimeMillis());
+        header.flush();
+
+        final ObjectOutputStream objects = new ObjectOutputStream(out);
+        objects.writeObject(fingerprint);
+        objects.writeObject(catalog);
+        objects.flush();
+      }
+      Files.move(tempFile, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+      LOGGER.log(Level.INFO, new StringFormat("Saved catalog snapshot <%s>", snapshotFile));
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING, new StringFormat("Could not save catalog snapshot <%s>", snapshotFile), e);
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (final IOException ignored) {
+          // Nothing more to do
+        }
+      }
+    }
+  }
+
+  public Path snapshotFile() {
+    return snapshotFile;
+  }
+}
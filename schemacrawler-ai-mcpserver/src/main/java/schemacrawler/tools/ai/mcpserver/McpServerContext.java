@@ -8,10 +8,17 @@
 
 package schemacrawler.tools.ai.mcpserver;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
 import us.fatehi.utility.CollectionsUtility;
 import us.fatehi.utility.readconfig.EnvironmentVariableConfig;
 import us.fatehi.utility.readconfig.ReadConfig;
@@ -19,12 +26,30 @@ import us.fatehi.utility.readconfig.ReadConfig;
 /** Inner class that handles the MCP server setup. */
 public final class McpServerContext {
 
+  private static final Logger LOGGER = Logger.getLogger(McpServerContext.class.getName());
+
+  private static final int DEFAULT_RESULT_CACHE_SIZE = 256;
+  private static final Duration DEFAULT_RESULT_CACHE_TTL = Duration.ofMinutes(30);
+
   private static final String EXCLUDE_TOOLS = "SCHCRWLR_EXCLUDE_TOOLS";
   private static final String MCP_SERVER_TRANSPORT = "SCHCRWLR_MCP_SERVER_TRANSPORT";
+  private static final String RESULT_CACHE_SIZE = "SCHCRWLR_RESULT_CACHE_SIZE";
+  private static final String RESULT_CACHE_TTL = "SCHCRWLR_RESULT_CACHE_TTL";
+  private static final String TOOL_CONCURRENCY = "SCHCRWLR_TOOL_CONCURRENCY";
+  private static final String TOOL_TIMEOUT = "SCHCRWLR_TOOL_TIMEOUT";
 
   private final ReadConfig envMap;
   private final McpServerTransportType transport;
   private final Collection<String> excludeTools;
+  private final ToolLimits toolLimits;
+  private final FunctionReturnCache functionReturnCache;
+
+  private static Duration parseSeconds(final String value) {
+    if (value.chars().allMatch(Character::isDigit)) {
+      return Duration.ofSeconds(Long.parseLong(value));
+    }
+    return Duration.parse(value);
+  }
 
   /** Default constructor that uses System.getenv */
   public McpServerContext() {
@@ -40,20 +65,91 @@ public final class McpServerContext {
     this.envMap = requireNonNull(envMap, "No environment accessor provided");
     transport = readTransport();
     excludeTools = readExcludeTools();
+    toolLimits = readToolLimits();
+    functionReturnCache = readFunctionReturnCache();
   }
 
   public Collection<String> excludeTools() {
     return excludeTools;
   }
 
+  /**
+   * Cache for results of idempotent tool calls.
+   *
+   * @return Cache, or null if caching is turned off
+   */
+  public FunctionReturnCache functionReturnCache() {
+    return functionReturnCache;
+  }
+
   public McpServerTransportType mcpTransport() {
     return transport;
   }
 
+  public ToolLimits toolLimits() {
+    return toolLimits;
+  }
+
   Collection<String> readExcludeTools() {
     return Set.of(CollectionsUtility.splitList(envMap.getStringValue(EXCLUDE_TOOLS, "")));
   }
 
+  /**
+   * Creates the cache for results of idempotent tool calls. The cache size is a number of results,
+   * and a size of zero turns caching off. The time-to-live is either a number of seconds, or an
+   * ISO-8601 duration such as "PT30M". Settings that cannot be parsed fall back to the defaults.
+   *
+   * @return Cache, or null if caching is turned off
+   */
+  FunctionReturnCache readFunctionReturnCache() {
+    int cacheSize = DEFAULT_RESULT_CACHE_SIZE;
+    final String cacheSizeValue = envMap.getStringValue(RESULT_CACHE_SIZE, "").strip();
+    if (!isBlank(cacheSizeValue)) {
+      try {
+        cacheSize = Integer.parseInt(cacheSizeValue);
+      } catch (final NumberFormatException e) {
+        LOGGER.log(
+            Level.WARNING,
+            "Could not parse <%s> for %s".formatted(cacheSizeValue, RESULT_CACHE_SIZE));
+      }
+    }
+    if (cacheSize <= 0) {
+      return null;
+    }
+
+    Duration timeToLive = DEFAULT_RESULT_CACHE_TTL;
+    final String timeToLiveValue = envMap.getStringValue(RESULT_CACHE_TTL, "").strip();
+    if (!isBlank(timeToLiveValue)) {
+      try {
+        timeToLive = parseSeconds(timeToLiveValue);
+      } catch (final Exception e) {
+        LOGGER.log(
+            Level.WARNING,
+            "Could not parse <%s> for %s".formatted(timeToLiveValue, RESULT_CACHE_TTL));
+      }
+    }
+    if (timeToLive.isNegative() || timeToLive.isZero()) {
+      timeToLive = DEFAULT_RESULT_CACHE_TTL;
+    }
+
+    return new FunctionReturnCache(cacheSize, timeToLive);
+  }
+
+  /**
+   * Parses per-tool concurrency limits and timeouts, as comma-separated lists of
+   * "tool_name=value" entries. Timeouts are either a number of seconds, or an ISO-8601 duration
+   * such as "PT30S". Entries that cannot be parsed are ignored.
+   *
+   * @return Tool limits, never null
+   */
+  ToolLimits readToolLimits() {
+    final Map<String, Integer> concurrencyLimits =
+        readToolSettings(TOOL_CONCURRENCY, Integer::valueOf);
+    final Map<String, Duration> timeouts =
+        readToolSettings(TOOL_TIMEOUT, McpServerContext::parseSeconds);
+    return new ToolLimits(concurrencyLimits, timeouts);
+  }
+
   /**
    * Parses a string and returns a valid transport.
    *
@@ -77,4 +173,24 @@ public final class McpServerContext {
       return defaultValue;
     }
   }
+
+  private <T> Map<String, T> readToolSettings(
+      final String key, final Function<String, T> valueParser) {
+    final Map<String, T> settings = new HashMap<>();
+    for (final String entry : CollectionsUtility.splitList(envMap.getStringValue(key, ""))) {
+      final int index = entry.indexOf('=');
+      final String toolName = index > 0 ? entry.substring(0, index).trim() : "";
+      final String value = index > 0 ? entry.substring(index + 1).trim() : "";
+      if (isBlank(toolName) || isBlank(value)) {
+        LOGGER.log(Level.WARNING, "Ignoring tool setting <%s> in %s".formatted(entry, key));
+        continue;
+      }
+      try {
+        settings.put(toolName, valueParser.apply(value));
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, "Ignoring tool setting <%s> in %s".formatted(entry, key));
+      }
+    }
+    return settings;
+  }
 }
@@ -22,6 +22,7 @@ import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.tools.ai.mcpserver.utility.DatabaseConnectionSourceUtility;
 import schemacrawler.tools.ai.mcpserver.utility.InErrorFactory;
 import schemacrawler.tools.ai.tools.FunctionDefinitionRegistry;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
 import schemacrawler.tools.state.AbstractExecutionState;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
@@ -34,6 +35,9 @@ public class McpServerInitializer extends AbstractExecutionState
   private final boolean isInErrorState;
   private final McpServerTransportType mcpTransport;
   private final ExcludeTools excludeTools;
+  private final ToolLimits toolLimits;
+  private final FunctionReturnCache functionReturnCache;
+  private final CatalogReloader catalogReloader;
 
   public McpServerInitializer(
       final Catalog catalog,
@@ -68,6 +72,13 @@ public class McpServerInitializer extends AbstractExecutionState
     } else {
       this.excludeTools = new ExcludeTools(excludeTools);
     }
+    // Limits and result caching are read from the environment, as for a loaded catalog
+    final McpServerContext context = new McpServerContext();
+    toolLimits = context.toolLimits();
+    functionReturnCache = context.functionReturnCache();
+
+    // Catalog was provided, and cannot be reloaded
+    catalogReloader = null;
   }
 
   public McpServerInitializer(
@@ -118,6 +129,14 @@ public class McpServerInitializer extends AbstractExecutionState
     this.isInErrorState = isInErrorState;
 
     excludeTools = new ExcludeTools(context.excludeTools());
+    toolLimits = context.toolLimits();
+    functionReturnCache = context.functionReturnCache();
+
+    if (!isInErrorState) {
+      catalogReloader = scContext.catalogReloader(getConnectionSource());
+    } else {
+      catalogReloader = null;
+    }
   }
 
   @Override
@@ -144,5 +163,13 @@ public class McpServerInitializer extends AbstractExecutionState
         FunctionDefinitionRegistry.class,
         () -> FunctionDefinitionRegistry.getFunctionDefinitionRegistry());
     context.registerBean("excludeTools", ExcludeTools.class, () -> excludeTools);
+    context.registerBean("toolLimits", ToolLimits.class, () -> toolLimits);
+    if (catalogReloader != null) {
+      context.registerBean("catalogReloader", CatalogReloader.class, () -> catalogReloader);
+    }
+    if (functionReturnCache != null) {
+      context.registerBean(
+          "functionReturnCache", FunctionReturnCache.class, () -> functionReturnCache);
+    }
   }
 }
@@ -14,8 +14,12 @@ import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
 import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Catalog;
@@ -27,6 +31,12 @@ import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.Version;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.ai.mcpserver.CatalogSnapshotCache.CachedCatalog;
+import schemacrawler.tools.ai.mcpserver.utility.PooledDatabaseConnectionSource;
+import schemacrawler.tools.ai.mcpserver.utility.PooledDatabaseConnectionSource.PoolOptions;
+import schemacrawler.tools.ai.utility.SchemaCrawlerAiVersion;
 import schemacrawler.tools.databaseconnector.EnvironmentalDatabaseConnectionSourceBuilder;
 import schemacrawler.tools.offline.connectionsource.OfflineConnectionSourceUtility;
 import schemacrawler.tools.options.Config;
@@ -44,11 +54,20 @@ public final class SchemaCrawlerContext {
   private static final Logger LOGGER = Logger.getLogger(SchemaCrawlerContext.class.getName());
 
   private static final String ADDITIONAL_CONFIG = "SCHCRWLR_ADDITIONAL_CONFIG";
+  private static final String CATALOG_CACHE_DIRECTORY = "SCHCRWLR_CATALOG_CACHE_DIRECTORY";
+  private static final String CATALOG_REFRESH_INTERVAL = "SCHCRWLR_CATALOG_REFRESH_INTERVAL";
+  private static final String CONNECTION_POOL_IDLE_TIMEOUT =
+      "SCHCRWLR_CONNECTION_POOL_IDLE_TIMEOUT";
+  private static final String CONNECTION_POOL_LEAK_DETECTION_THRESHOLD =
+      "SCHCRWLR_CONNECTION_POOL_LEAK_DETECTION_THRESHOLD";
+  private static final String CONNECTION_POOL_MAX_SIZE = "SCHCRWLR_CONNECTION_POOL_MAX_SIZE";
+  private static final String CONNECTION_POOL_MIN_SIZE = "SCHCRWLR_CONNECTION_POOL_MIN_SIZE";
   private static final String INFO_LEVEL = "SCHCRWLR_INFO_LEVEL";
   private static final String OFFLINE_DATABASE = "SCHCRWLR_OFFLINE_DATABASE";
 
   private final ReadConfig envAccessor;
   private final SchemaCrawlerOptions schemaCrawlerOptions;
+  private SchemaFingerprint cachedFingerprint;
 
   /** Default constructor that uses System.getenv */
   public SchemaCrawlerContext() {
@@ -66,25 +85,74 @@ public final class SchemaCrawlerContext {
   }
 
   /**
-   * Builds the complete argument list from environment variables.
+   * Builds a pooled connection source for tools that need a live database connection, so that
+   * concurrent tool calls reuse warm connections. Offline databases are not pooled.
    *
-   * @return List of command line arguments
+   * @return Database connection source
    */
   public DatabaseConnectionSource buildOperationsDatabaseConnectionSource() {
-    final DatabaseConnectionSource databaseConnectionSource =
-        EnvironmentalDatabaseConnectionSourceBuilder.builder(envAccessor).build();
-    return databaseConnectionSource;
+    final DatabaseConnectionSource databaseConnectionSource = buildDatabaseConnectionSource();
+    if (!isBlank(trimToEmpty(envAccessor.getStringValue(OFFLINE_DATABASE, "")))) {
+      return databaseConnectionSource;
+    }
+    return new PooledDatabaseConnectionSource(
+        databaseConnectionSource, readConnectionPoolOptions());
   }
 
+  /**
+   * Loads the catalog at startup, from the catalog snapshot cache if one is configured and has a
+   * snapshot for this database, and otherwise by crawling the database.
+   *
+   * @return Catalog
+   */
   public Catalog loadCatalog() {
-    final DatabaseConnectionSource connectionSource = buildCatalogDatabaseConnectionSource();
-    final SchemaRetrievalOptions schemaRetrievalOptions =
-        DatabaseConnectorUtility.matchSchemaRetrievalOptions(connectionSource);
-    final Config additionalConfig = readAdditionalConfig();
-    final Catalog catalog =
-        SchemaCrawlerUtility.getCatalog(
-            connectionSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
-    return catalog;
+    try (final DatabaseConnectionSource connectionSource = buildCatalogDatabaseConnectionSource()) {
+      final CatalogSnapshotCache catalogSnapshotCache =
+          buildCatalogSnapshotCache(connectionSource);
+      if (catalogSnapshotCache != null) {
+        final Optional<CachedCatalog> cachedCatalog = catalogSnapshotCache.load();
+        if (cachedCatalog.isPresent()) {
+          cachedFingerprint = cachedCatalog.get().fingerprint();
+          return cachedCatalog.get().catalog();
+        }
+      }
+      return crawlCatalog(connectionSource, catalogSnapshotCache);
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Could not close catalog database connection", e);
+    }
+  }
+
+  /**
+   * Reloads the catalog in the background, on a schedule if a refresh interval is configured.
+   *
+   * @return Catalog reloader
+   */
+  public CatalogReloader catalogReloader() {
+    return new CatalogReloader(this::reloadCatalog, readCatalogRefreshInterval());
+  }
+
+  /**
+   * Reloads the catalog in the background, but only when database metadata read from the
+   * operations connection shows that tables or routines have changed. Catalogs loaded from an
+   * offline database always reload, since there is no live database to check.
+   *
+   * @param operationsConnectionSource Connection source for the live database
+   * @return Catalog reloader
+   */
+  public CatalogReloader catalogReloader(
+      final DatabaseConnectionSource operationsConnectionSource) {
+    final CatalogReloader catalogReloader = catalogReloader();
+    if (!isBlank(trimToEmpty(envAccessor.getStringValue(OFFLINE_DATABASE, "")))) {
+      return catalogReloader;
+    }
+    final CatalogReloader changeDetectingReloader =
+        catalogReloader.withChangeDetection(operationsConnectionSource);
+    if (cachedFingerprint != null) {
+      return changeDetectingReloader.withCachedFingerprint(cachedFingerprint);
+    }
+    return changeDetectingReloader;
   }
 
   public SchemaCrawlerOptions schemaCrawlerOptions() {
@@ -95,7 +163,7 @@ public final class SchemaCrawlerContext {
     final String offlineDatabasePathString =
         trimToEmpty(envAccessor.getStringValue(OFFLINE_DATABASE, ""));
     if (isBlank(offlineDatabasePathString)) {
-      return buildOperationsDatabaseConnectionSource();
+      return buildDatabaseConnectionSource();
     }
 
     final Path offlineDatabasePath = Path.of(offlineDatabasePathString);
@@ -104,6 +172,38 @@ public final class SchemaCrawlerContext {
     return dbConnectionSource;
   }
 
+  /**
+   * Builds a catalog snapshot cache, keyed by the database connection URL and user, and by
+   * everything that affects how the catalog is crawled. There is no cache for offline databases,
+   * which are already snapshots.
+   *
+   * @param connectionSource Connection source for the database to crawl
+   * @return Catalog snapshot cache, or null if there is no cache
+   */
+  CatalogSnapshotCache buildCatalogSnapshotCache(final DatabaseConnectionSource connectionSource) {
+    final String cacheDirectory =
+        trimToEmpty(envAccessor.getStringValue(CATALOG_CACHE_DIRECTORY, ""));
+    if (isBlank(cacheDirectory)
+        || !isBlank(trimToEmpty(envAccessor.getStringValue(OFFLINE_DATABASE, "")))) {
+      return null;
+    }
+
+    try (final Connection connection = connectionSource.get()) {
+      final DatabaseMetaData metaData = connection.getMetaData();
+      return CatalogSnapshotCache.forKey(
+          Path.of(cacheDirectory),
+          metaData.getURL(),
+          metaData.getUserName(),
+          readInfoLevel().name(),
+          envAccessor.getStringValue(ADDITIONAL_CONFIG, ""),
+          Version.version().toString(),
+          new SchemaCrawlerAiVersion().toString());
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not set up catalog snapshot cache", e);
+      return null;
+    }
+  }
+
   SchemaCrawlerOptions buildSchemaCrawlerOptions() {
     final InfoLevel infoLevel = readInfoLevel();
 
@@ -138,6 +238,59 @@ public final class SchemaCrawlerContext {
     }
   }
 
+  /**
+   * Parses the catalog refresh interval, either as a number of minutes, or as an ISO-8601 duration
+   * such as "PT30M".
+   *
+   * @return Refresh interval, or zero if the catalog is not refreshed on a schedule
+   */
+  Duration readCatalogRefreshInterval() {
+    final String value = trimToEmpty(envAccessor.getStringValue(CATALOG_REFRESH_INTERVAL, ""));
+    if (isBlank(value)) {
+      return Duration.ZERO;
+    }
+    try {
+      final Duration refreshInterval;
+      if (value.chars().allMatch(Character::isDigit)) {
+        refreshInterval = Duration.ofMinutes(Long.parseLong(value));
+      } else {
+        refreshInterval = Duration.parse(value);
+      }
+      if (refreshInterval.isNegative()) {
+        return Duration.ZERO;
+      }
+      return refreshInterval;
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not parse catalog refresh interval <%s>".formatted(value));
+      return Duration.ZERO;
+    }
+  }
+
+  /**
+   * Reads connection pool sizes and timeouts. Timeouts are either a number of seconds, or an
+   * ISO-8601 duration such as "PT10M", and a zero timeout turns off idle eviction or leak
+   * detection. Settings that cannot be parsed fall back to the defaults.
+   *
+   * @return Connection pool options
+   */
+  PoolOptions readConnectionPoolOptions() {
+    final PoolOptions defaults = PoolOptions.DEFAULT;
+    final int maxSize = readInteger(CONNECTION_POOL_MAX_SIZE, defaults.maxSize());
+    final int minSize = readInteger(CONNECTION_POOL_MIN_SIZE, defaults.minSize());
+    try {
+      return new PoolOptions(
+          minSize,
+          maxSize,
+          defaults.borrowTimeout(),
+          readTimeout(CONNECTION_POOL_IDLE_TIMEOUT, defaults.idleTimeout()),
+          readTimeout(
+              CONNECTION_POOL_LEAK_DETECTION_THRESHOLD, defaults.leakDetectionThreshold()));
+    } catch (final IllegalArgumentException e) {
+      LOGGER.log(Level.WARNING, "Using default connection pool options - " + e.getMessage());
+      return defaults;
+    }
+  }
+
   /**
    * Parses a string and returns a valid SchemaCrawler info level.
    *
@@ -158,4 +311,94 @@ public final class SchemaCrawlerContext {
       return defaultValue;
     }
   }
+
+  /**
+   * Crawls the database again, for a catalog refresh, and saves the new catalog to the snapshot
+   * cache.
+   *
+   * @return Catalog
+   */
+  Catalog reloadCatalog() {
+    // Each reload builds its own connection source, so it is closed once the crawl is done
+    try (final DatabaseConnectionSource connectionSource = buildCatalogDatabaseConnectionSource()) {
+      return crawlCatalog(connectionSource, buildCatalogSnapshotCache(connectionSource));
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Could not close catalog database connection", e);
+    }
+  }
+
+  private DatabaseConnectionSource buildDatabaseConnectionSource() {
+    final DatabaseConnectionSource databaseConnectionSource =
+        EnvironmentalDatabaseConnectionSourceBuilder.builder(envAccessor).build();
+    return databaseConnectionSource;
+  }
+
+  private Catalog crawlCatalog(
+      final DatabaseConnectionSource connectionSource,
+      final CatalogSnapshotCache catalogSnapshotCache) {
+    // Fingerprint before the crawl, so that changes made during the crawl show up as a difference
+    SchemaFingerprint fingerprint = null;
+    if (catalogSnapshotCache != null) {
+      try {
+        fingerprint = SchemaFingerprint.fingerprint(connectionSource);
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, "Could not fingerprint database for catalog snapshot", e);
+      }
+    }
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        DatabaseConnectorUtility.matchSchemaRetrievalOptions(connectionSource);
+    final Config additionalConfig = readAdditionalConfig();
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connectionSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+
+    if (catalogSnapshotCache != null) {
+      if (fingerprint == null) {
+        // An empty fingerprint forces the cached catalog to be reloaded on the next start
+        catalogSnapshotCache.save(catalog, new SchemaFingerprint(Map.of()));
+      } else {
+        catalogSnapshotCache.save(catalog, fingerprint.forCatalog(catalog));
+      }
+    }
+
+    return catalog;
+  }
+
+  private int readInteger(final String key, final int defaultValue) {
+    final String value = trimToEmpty(envAccessor.getStringValue(key, ""));
+    if (isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (final NumberFormatException e) {
+      LOGGER.log(Level.WARNING, "Could not parse <%s> for %s".formatted(value, key));
+      return defaultValue;
+    }
+  }
+
+  private Duration readTimeout(final String key, final Duration defaultValue) {
+    final String value = trimToEmpty(envAccessor.getStringValue(key, ""));
+    if (isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      final Duration timeout;
+      if (value.chars().allMatch(Character::isDigit)) {
+        timeout = Duration.ofSeconds(Long.parseLong(value));
+      } else {
+        timeout = Duration.parse(value);
+      }
+      if (timeout.isNegative()) {
+        return defaultValue;
+      }
+      return timeout;
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not parse <%s> for %s".formatted(value, key));
+      return defaultValue;
+    }
+  }
 }
@@ -0,0 +1,417 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Cheap change markers for the schemas, tables and routines in a catalog. The fingerprint is built
+ * from a fixed number of bulk JDBC metadata calls for each schema, however many tables it has, so
+ * it can be checked far more often than the database can be crawled. It covers:
+ *
+ * <ul>
+ *   <li>schemas and catalogs that were added or dropped, including ones that are not crawled yet
+ *   <li>tables and views that were added or dropped, and their types and remarks
+ *   <li>the columns of each table and view - names, positions, data types, sizes, nullability,
+ *       defaults and remarks
+ *   <li>routines that were added or dropped, their remarks, and their parameters and results
+ * </ul>
+ *
+ * <p>Standard JDBC metadata can only report keys, indexes, triggers, view definitions and routine
+ * bodies one table or routine at a time, so they are only covered where the database records when
+ * each object last changed - on Oracle, from the last DDL time of each object, and on Microsoft
+ * SQL Server, from the modify date of each object. On other databases, a change to only those is
+ * not detected, and needs a forced refresh.
+ *
+ * @param objectHashes Hash for each schema, table, routine and database object, keyed by its full
+ *     name
+ */
+public record SchemaFingerprint(Map<String, Integer> objectHashes) implements Serializable {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(SchemaFingerprint.class.getCanonicalName());
+
+  private static final String ORACLE_CHANGE_TIMES =
+      "SELECT OBJECT_NAME, OBJECT_TYPE, LAST_DDL_TIME FROM ALL_OBJECTS WHERE OWNER = ?";
+  private static final String SQLSERVER_CHANGE_TIMES =
+      """
+      SELECT o.name, o.type_desc, o.modify_date
+      FROM sys.objects o
+      INNER JOIN sys.schemas s ON o.schema_id = s.schema_id
+      WHERE s.name = ? AND o.is_ms_shipped = 0
+      """;
+
+  public SchemaFingerprint {
+    requireNonNull(objectHashes, "No object hashes provided");
+    objectHashes = Collections.unmodifiableMap(new TreeMap<>(objectHashes));
+  }
+
+  /**
+   * Fingerprints every schema in the database, before it is crawled. Use {@link
+   * #forCatalog(Catalog)} to keep only the schemas that the crawl found.
+   *
+   * @param connectionSource Source of database connections
+   * @return Fingerprint of the database
+   */
+  public static SchemaFingerprint fingerprint(final DatabaseConnectionSource connectionSource) {
+    requireNonNull(connectionSource, "No database connection source provided");
+    final List<Schema> schemas = new ArrayList<>();
+    try (final Connection connection = connectionSource.get()) {
+      final DatabaseMetaData metaData = connection.getMetaData();
+      try (final ResultSet results = metaData.getSchemas()) {
+        while (results.next()) {
+          schemas.add(
+              new SchemaReference(
+                  results.getString("TABLE_CATALOG"), results.getString("TABLE_SCHEM")));
+        }
+      }
+      if (schemas.isEmpty()) {
+        try (final ResultSet results = metaData.getCatalogs()) {
+          while (results.next()) {
+            schemas.add(new SchemaReference(results.getString("TABLE_CAT"), null));
+          }
+        }
+      }
+    } catch (final SQLException e) {
+      throw new ExecutionRuntimeException("Could not fingerprint database schema", e);
+    }
+    if (schemas.isEmpty()) {
+      schemas.add(new SchemaReference(null, null));
+    }
+    return fingerprint(connectionSource, schemas);
+  }
+
+  /**
+   * Fingerprints the schemas of a catalog, reading the current metadata from the database.
+   *
+   * @param connectionSource Source of database connections
+   * @param catalog Catalog that provides the schemas to check
+   * @return Fingerprint of the database
+   */
+  public static SchemaFingerprint fingerprint(
+      final DatabaseConnectionSource connectionSource, final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    return fingerprint(connectionSource, catalog.getSchemas());
+  }
+
+  private static SchemaFingerprint fingerprint(
+      final DatabaseConnectionSource connectionSource, final Collection<Schema> schemas) {
+    requireNonNull(connectionSource, "No database connection source provided");
+
+    final Map<String, Integer> objectHashes = new TreeMap<>();
+    try (final Connection connection = connectionSource.get()) {
+      final DatabaseMetaData metaData = connection.getMetaData();
+      hashSchemas(metaData, objectHashes);
+      for (final Schema schema : schemas) {
+        final String catalogName = schema.getCatalogName();
+        final String schemaName = schema.getName();
+        hashTables(metaData, catalogName, schemaName, objectHashes);
+        hashRoutines(metaData, catalogName, schemaName, objectHashes);
+        hashChangeTimes(connection, catalogName, schemaName, objectHashes);
+      }
+    } catch (final SQLException e) {
+      throw new ExecutionRuntimeException("Could not fingerprint database schema", e);
+    }
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat("Fingerprinted <%d> database objects", objectHashes.size()));
+    return new SchemaFingerprint(objectHashes);
+  }
+
+  /**
+   * Reads when each object in a schema last changed, on databases that record it. Other databases
+   * are skipped, as are databases where the system views cannot be read.
+   */
+  private static void hashChangeTimes(
+      final Connection connection,
+      final String catalogName,
+      final String schemaName,
+      final Map<String, Integer> objectHashes)
+      throws SQLException {
+    if (schemaName == null) {
+      return;
+    }
+    final String productName = String.valueOf(connection.getMetaData().getDatabaseProductName());
+    final String query;
+    if (productName.startsWith("Oracle")) {
+      query = ORACLE_CHANGE_TIMES;
+    } else if (productName.startsWith("Microsoft SQL Server")
+        && (catalogName == null || catalogName.equals(connection.getCatalog()))) {
+      // System views only list objects in the current database
+      query = SQLSERVER_CHANGE_TIMES;
+    } else {
+      return;
+    }
+
+    final Map<String, Integer> changeTimes = new HashMap<>();
+    try (final PreparedStatement statement = connection.prepareStatement(query)) {
+      statement.setString(1, schemaName);
+      try (final ResultSet results = statement.executeQuery()) {
+        while (results.next()) {
+          final String key =
+              "OBJECT "
+                  + fullName(catalogName, schemaName, results.getString(1))
+                  + " "
+                  + results.getString(2);
+          changeTimes.put(key, Objects.hashCode(results.getString(3)));
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat(
+              "Could not read object change times for schema <%s>",
+              fullName(catalogName, schemaName, "")),
+          e);
+      return;
+    }
+    objectHashes.putAll(changeTimes);
+  }
+
+  private static void hashRoutines(
+      final DatabaseMetaData metaData,
+      final String catalogName,
+      final String schemaName,
+      final Map<String, Integer> objectHashes)
+      throws SQLException {
+    final Map<String, List<String>> routineMarkers = new HashMap<>();
+    try (final ResultSet results = metaData.getProcedures(catalogName, schemaName, "%")) {
+      while (results.next()) {
+        routineMarkers
+            .computeIfAbsent(
+                routineKey(catalogName, schemaName, results, "PROCEDURE_NAME"),
+                k -> new ArrayList<>())
+            .add(tuple(results, "PROCEDURE_TYPE", "REMARKS"));
+      }
+    }
+    try (final ResultSet results = metaData.getFunctions(catalogName, schemaName, "%")) {
+      while (results.next()) {
+        routineMarkers
+            .computeIfAbsent(
+                routineKey(catalogName, schemaName, results, "FUNCTION_NAME"),
+                k -> new ArrayList<>())
+            .add(tuple(results, "FUNCTION_TYPE", "REMARKS"));
+      }
+    }
+
+    // Parameters and results make up the signature of each routine
+    try (final ResultSet results =
+        metaData.getProcedureColumns(catalogName, schemaName, "%", "%")) {
+      while (results.next()) {
+        routineMarkers
+            .computeIfAbsent(
+                routineKey(catalogName, schemaName, results, "PROCEDURE_NAME"),
+                k -> new ArrayList<>())
+            .add(routineColumn(results));
+      }
+    }
+    try (final ResultSet results =
+        metaData.getFunctionColumns(catalogName, schemaName, "%", "%")) {
+      while (results.next()) {
+        routineMarkers
+            .computeIfAbsent(
+                routineKey(catalogName, schemaName, results, "FUNCTION_NAME"),
+                k -> new ArrayList<>())
+            .add(routineColumn(results));
+      }
+    }
+
+    for (final Map.Entry<String, List<String>> entry : routineMarkers.entrySet()) {
+      objectHashes.put(entry.getKey(), sorted(entry.getValue()).hashCode());
+    }
+  }
+
+  /** Marks the schemas and catalogs in the database, so that new ones are noticed. */
+  private static void hashSchemas(
+      final DatabaseMetaData metaData, final Map<String, Integer> objectHashes)
+      throws SQLException {
+    try (final ResultSet results = metaData.getCatalogs()) {
+      while (results.next()) {
+        objectHashes.put("CATALOG " + results.getString("TABLE_CAT"), 0);
+      }
+    }
+    try (final ResultSet results = metaData.getSchemas()) {
+      while (results.next()) {
+        final String schemaName = results.getString("TABLE_SCHEM");
+        objectHashes.put(
+            "SCHEMA " + fullName(results.getString("TABLE_CATALOG"), null, schemaName), 0);
+      }
+    }
+  }
+
+  private static void hashTables(
+      final DatabaseMetaData metaData,
+      final String catalogName,
+      final String schemaName,
+      final Map<String, Integer> objectHashes)
+      throws SQLException {
+    final Map<String, List<String>> tableMarkers = new HashMap<>();
+    try (final ResultSet results = metaData.getTables(catalogName, schemaName, "%", null)) {
+      while (results.next()) {
+        tableMarkers
+            .computeIfAbsent(
+                tableKey(catalogName, schemaName, results.getString("TABLE_NAME")),
+                k -> new ArrayList<>())
+            .add(tuple(results, "TABLE_TYPE", "REMARKS"));
+      }
+    }
+    try (final ResultSet results = metaData.getColumns(catalogName, schemaName, "%", "%")) {
+      while (results.next()) {
+        tableMarkers
+            .computeIfAbsent(
+                tableKey(catalogName, schemaName, results.getString("TABLE_NAME")),
+                k -> new ArrayList<>())
+            .add(
+                tuple(
+                    results,
+                    "COLUMN_NAME",
+                    "ORDINAL_POSITION",
+                    "TYPE_NAME",
+                    "COLUMN_SIZE",
+                    "DECIMAL_DIGITS",
+                    "IS_NULLABLE",
+                    "COLUMN_DEF",
+                    "REMARKS"));
+      }
+    }
+
+    for (final Map.Entry<String, List<String>> entry : tableMarkers.entrySet()) {
+      objectHashes.put(entry.getKey(), sorted(entry.getValue()).hashCode());
+    }
+  }
+
+  private static String routineColumn(final ResultSet results) throws SQLException {
+    return tuple(
+        results,
+        "COLUMN_NAME",
+        "COLUMN_TYPE",
+        "TYPE_NAME",
+        "PRECISION",
+        "SCALE",
+        "ORDINAL_POSITION");
+  }
+
+  private static String routineKey(
+      final String catalogName,
+      final String schemaName,
+      final ResultSet results,
+      final String routineNameColumn)
+      throws SQLException {
+    return "ROUTINE "
+        + fullName(catalogName, schemaName, results.getString("SPECIFIC_NAME"))
+        + " "
+        + results.getString(routineNameColumn);
+  }
+
+  private static String tableKey(
+      final String catalogName, final String schemaName, final String tableName) {
+    return "TABLE " + fullName(catalogName, schemaName, tableName);
+  }
+
+  private static String fullName(
+      final String catalogName, final String schemaName, final String objectName) {
+    final StringBuilder buffer = new StringBuilder();
+    for (final String part : new String[] {catalogName, schemaName}) {
+      if (part != null && !part.isBlank()) {
+        buffer.append(part).append('.');
+      }
+    }
+    return buffer.append(objectName).toString();
+  }
+
+  /** Sorts markers, so that the hash does not depend on the order the driver returns rows in. */
+  private static List<String> sorted(final List<String> markers) {
+    Collections.sort(markers);
+    return markers;
+  }
+
+  /** Reads columns of the current row into one marker. */
+  private static String tuple(final ResultSet results, final String... columnNames)
+      throws SQLException {
+    final List<String> values = new ArrayList<>(columnNames.length);
+    for (final String columnName : columnNames) {
+      values.add(String.valueOf(results.getString(columnName)));
+    }
+    return String.join("\u0000", values);
+  }
+
+  /**
+   * Keeps only the markers for the schemas of a catalog, and the markers for which schemas and
+   * catalogs exist, so that the fingerprint can be compared with one taken for the catalog.
+   *
+   * @param catalog Catalog that provides the schemas to keep
+   * @return Fingerprint for the schemas of the catalog
+   */
+  public SchemaFingerprint forCatalog(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    final List<String> prefixes = new ArrayList<>();
+    for (final Schema schema : catalog.getSchemas()) {
+      prefixes.add(fullName(schema.getCatalogName(), schema.getName(), ""));
+    }
+    final Map<String, Integer> catalogHashes = new TreeMap<>();
+    for (final Map.Entry<String, Integer> entry : objectHashes.entrySet()) {
+      final String key = entry.getKey();
+      final String objectName = key.substring(key.indexOf(' ') + 1);
+      if (key.startsWith("CATALOG ")
+          || key.startsWith("SCHEMA ")
+          || prefixes.stream().anyMatch(objectName::startsWith)) {
+        catalogHashes.put(key, entry.getValue());
+      }
+    }
+    return new SchemaFingerprint(catalogHashes);
+  }
+
+  /**
+   * Finds the schemas, tables, routines and database objects that were added, dropped or altered
+   * since an earlier fingerprint.
+   *
+   * @param earlier Earlier fingerprint
+   * @return Full names of changed objects, which is empty if nothing changed
+   */
+  public Set<String> changedObjects(final SchemaFingerprint earlier) {
+    requireNonNull(earlier, "No earlier fingerprint provided");
+    final Set<String> changedObjects = new TreeSet<>();
+    for (final Map.Entry<String, Integer> entry : objectHashes.entrySet()) {
+      if (!entry.getValue().equals(earlier.objectHashes.get(entry.getKey()))) {
+        changedObjects.add(entry.getKey());
+      }
+    }
+    for (final String key : earlier.objectHashes.keySet()) {
+      if (!objectHashes.containsKey(key)) {
+        changedObjects.add(key);
+      }
+    }
+    return changedObjects;
+  }
+}
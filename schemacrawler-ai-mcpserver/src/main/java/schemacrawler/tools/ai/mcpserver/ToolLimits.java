@@ -0,0 +1,80 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import schemacrawler.tools.ai.tools.FunctionDefinition;
+
+/**
+ * Concurrency limits and wall-clock timeouts for tool calls, by tool name. Tools that are not
+ * configured use defaults that depend on whether they need a live database connection. A
+ * concurrency limit of zero means that calls are not limited.
+ */
+public record ToolLimits(Map<String, Integer> concurrencyLimits, Map<String, Duration> timeouts) {
+
+  /** Connection-bound tools share the operations connection, so limit them by default. */
+  public static final int DEFAULT_CONNECTION_CONCURRENCY_LIMIT = 4;
+
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(2);
+
+  public ToolLimits {
+    if (concurrencyLimits == null) {
+      concurrencyLimits = Collections.emptyMap();
+    } else {
+      concurrencyLimits = new HashMap<>(concurrencyLimits);
+    }
+    if (timeouts == null) {
+      timeouts = Collections.emptyMap();
+    } else {
+      timeouts = new HashMap<>(timeouts);
+    }
+  }
+
+  public ToolLimits() {
+    this(Collections.emptyMap(), Collections.emptyMap());
+  }
+
+  /**
+   * Maximum number of calls to a tool that can run at the same time.
+   *
+   * @param functionDefinition Tool definition
+   * @return Concurrency limit, or zero if calls are not limited
+   */
+  public int concurrencyLimit(final FunctionDefinition<?> functionDefinition) {
+    requireNonNull(functionDefinition, "No function definition provided");
+    final Integer concurrencyLimit = concurrencyLimits.get(functionDefinition.getName());
+    if (concurrencyLimit != null) {
+      return Math.max(concurrencyLimit, 0);
+    }
+    if (functionDefinition.usesConnection()) {
+      return DEFAULT_CONNECTION_CONCURRENCY_LIMIT;
+    }
+    return 0;
+  }
+
+  /**
+   * Wall-clock time allowed for a tool call, including time spent waiting for a free slot.
+   *
+   * @param functionDefinition Tool definition
+   * @return Timeout, which is always positive
+   */
+  public Duration timeout(final FunctionDefinition<?> functionDefinition) {
+    requireNonNull(functionDefinition, "No function definition provided");
+    final Duration timeout = timeouts.get(functionDefinition.getName());
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      return DEFAULT_TIMEOUT;
+    }
+    return timeout;
+  }
+}
@@ -12,8 +12,8 @@ import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import static schemacrawler.tools.ai.mcpserver.server.CallToolLogger.TurnType.REQUEST;
 import static schemacrawler.tools.ai.mcpserver.server.CallToolLogger.TurnType.RESPONSE;
+import static schemacrawler.tools.ai.utility.JsonUtility.compactMapper;
 import static schemacrawler.tools.ai.utility.JsonUtility.mapper;
-import static tools.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
 import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema.Annotations;
@@ -24,28 +24,38 @@ import io.modelcontextprotocol.spec.McpSchema.Role;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import java.util.List;
 import java.util.function.BiFunction;
+import schemacrawler.tools.ai.mcpserver.server.ToolExecutionService.ToolExecutionLimit;
 import schemacrawler.tools.ai.tools.ExceptionFunctionReturn;
 import schemacrawler.tools.ai.tools.FunctionCallback;
 import schemacrawler.tools.ai.tools.FunctionParameters;
 import schemacrawler.tools.ai.tools.FunctionReturn;
 import schemacrawler.tools.ai.tools.TextFunctionReturn;
-import tools.jackson.databind.ObjectMapper;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 class CallToolHandler
     implements BiFunction<McpSyncServerExchange, CallToolRequest, CallToolResult> {
 
-  private static final ObjectMapper NO_INDENT_MAPPER =
-      mapper.rebuild().disable(INDENT_OUTPUT).build();
-
   private final FunctionCallback<? extends FunctionParameters> functionCallback;
+  private final ToolExecutionService toolExecutionService;
+  private final ToolExecutionLimit toolExecutionLimit;
+  private final ToolMetrics toolMetrics;
 
-  CallToolHandler(final FunctionCallback<? extends FunctionParameters> functionCallback) {
+  CallToolHandler(
+      final FunctionCallback<? extends FunctionParameters> functionCallback,
+      final ToolExecutionService toolExecutionService,
+      final ToolExecutionLimit toolExecutionLimit,
+      final ToolMetrics toolMetrics) {
     this.functionCallback = requireNonNull(functionCallback, "No function callback provided");
+    this.toolExecutionService =
+        requireNonNull(toolExecutionService, "No tool execution service provided");
+    this.toolExecutionLimit =
+        requireNonNull(toolExecutionLimit, "No tool execution limit provided");
+    this.toolMetrics = requireNonNull(toolMetrics, "No tool metrics provided");
   }
 
   @Override
   public CallToolResult apply(final McpSyncServerExchange exchange, final CallToolRequest request) {
+    final long startTime = System.nanoTime();
     final CallToolLogger logger = new CallToolLogger(exchange);
     FunctionReturn functionReturn;
     try {
@@ -54,26 +64,37 @@ class CallToolHandler
       logger.log(REQUEST, "Executing tool");
       final DatabaseConnectionSource connectionSource =
           DatabaseConnectionService.getDatabaseConnectionSource();
-      functionReturn = functionCallback.execute(arguments, connectionSource);
+      functionReturn =
+          toolExecutionService.execute(
+              toolExecutionLimit, () -> timedExecute(arguments, connectionSource));
       logger.log(RESPONSE, functionReturn.getSummary());
     } catch (final Exception e) {
       logger.log(e);
       functionReturn = new ExceptionFunctionReturn(e);
     }
-    final List<Content> content = createContent(functionReturn);
+    final FunctionReturn result = requireNonNullElse(functionReturn, new TextFunctionReturn(""));
+    final String resultText = result.get();
+    final List<Content> content =
+        List.of(toolOutputContent(result, resultText), toolOutputMetadataContent(result));
     final boolean inError = functionReturn instanceof ExceptionFunctionReturn;
+    toolMetrics.recordCall(System.nanoTime() - startTime, resultText, inError);
     return CallToolResult.builder().content(content).isError(inError).build();
   }
 
-  private List<Content> createContent(final FunctionReturn functionReturn) {
-    final FunctionReturn result = requireNonNullElse(functionReturn, new TextFunctionReturn(""));
-    return List.of(toolOutputContent(result), toolOutputMetadataContent(result));
+  private FunctionReturn timedExecute(
+      final String arguments, final DatabaseConnectionSource connectionSource) {
+    final long startTime = System.nanoTime();
+    try {
+      return functionCallback.execute(arguments, connectionSource);
+    } finally {
+      toolMetrics.recordExecution(System.nanoTime() - startTime);
+    }
   }
 
   /** Create content from the tool result. */
-  private Content toolOutputContent(final FunctionReturn result) {
+  private Content toolOutputContent(final FunctionReturn result, final String resultText) {
     final Content toolOutput =
-        TextContent.builder(result.get())
+        TextContent.builder(resultText)
             .meta(result.getMetadata().toMetadataMap("schemacrawler-ai/"))
             .build();
     return toolOutput;
@@ -85,7 +106,7 @@ class CallToolHandler
         Annotations.builder().audience(List.of(Role.ASSISTANT)).priority(0.7).build();
     final Content metadataContent =
         TextContent.builder(
-                NO_INDENT_MAPPER.writeValueAsString(result.getMetadata().toMetadataMap()))
+                compactMapper.writeValueAsString(result.getMetadata().toMetadataMap()))
             .annotations(annotations)
             .build();
     return metadataContent;
@@ -0,0 +1,47 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import schemacrawler.tools.ai.tools.CatalogSnapshot;
+
+/**
+ * Reloads the catalog on demand, without restarting the server. The reload runs in the background,
+ * so the response only says whether it was accepted. The reload is skipped if no database changes
+ * are detected, unless it is forced.
+ */
+@RestController
+public class CatalogRefreshController {
+
+  @Autowired private CatalogSnapshotService catalogSnapshotService;
+
+  @PostMapping(value = "/catalog/refresh", produces = APPLICATION_JSON_VALUE)
+  public ResponseEntity<Map<String, Object>> refreshCatalog(
+      @RequestParam(name = "force", defaultValue = "false") final boolean force) {
+    final boolean accepted = catalogSnapshotService.requestRefresh(force);
+    final CatalogSnapshot snapshot = catalogSnapshotService.current();
+
+    final Map<String, Object> refreshState = new HashMap<>();
+    refreshState.put("refresh-accepted", accepted);
+    refreshState.put("can-refresh", catalogSnapshotService.canRefresh());
+    refreshState.put("catalog-version", snapshot.version());
+    refreshState.put("catalog-loaded-at", String.valueOf(snapshot.loadedAt()));
+    final HttpStatus status = accepted ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+    return ResponseEntity.status(status).body(refreshState);
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import schemacrawler.ermodel.model.ERModel;
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.ai.functions.LintFunctionDefinition;
+import schemacrawler.tools.ai.functions.LintFunctionExecutor;
+import schemacrawler.tools.ai.mcpserver.CatalogReloader;
+import schemacrawler.tools.ai.mcpserver.ExcludeTools;
+import schemacrawler.tools.ai.mcpserver.SchemaFingerprint;
+import schemacrawler.tools.ai.tools.CatalogCopier;
+import schemacrawler.tools.ai.tools.CatalogSnapshot;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Holds the current catalog snapshot. The catalog can be reloaded in the background, either on a
+ * schedule or on demand. A new snapshot is only published once the catalog and ER model are fully
+ * built, so requests see either the old snapshot or the new one, never a partial one.
+ *
+ * <p>When the reloader can detect changes, a refresh first compares cheap change markers for the
+ * database against those taken at the last reload, and skips the crawl if nothing changed. A
+ * catalog that was read from a snapshot file at startup is revalidated this way in the background.
+ */
+@Service
+public class CatalogSnapshotService {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(CatalogSnapshotService.class.getCanonicalName());
+
+  @Autowired private Catalog catalog;
+  @Autowired private ERModel erModel;
+
+  @Autowired(required = false)
+  private CatalogReloader catalogReloader;
+
+  @Autowired(required = false)
+  private FunctionReturnCache functionReturnCache;
+
+  @Autowired(required = false)
+  private DatabaseConnectionSource connectionSource;
+
+  @Autowired(required = false)
+  private ExcludeTools excludeTools;
+
+  @Autowired(required = false)
+  private Boolean isInErrorState;
+
+  @Autowired(required = false)
+  private Boolean isOffline;
+
+  private final AtomicReference<CatalogSnapshot> currentSnapshot = new AtomicReference<>();
+  private final AtomicBoolean isRefreshing = new AtomicBoolean();
+  private volatile SchemaFingerprint lastFingerprint;
+  private ScheduledExecutorService scheduler;
+
+  public boolean canRefresh() {
+    return catalogReloader != null;
+  }
+
+  public CatalogSnapshot current() {
+    return currentSnapshot.get();
+  }
+
+  @PostConstruct
+  public void initialize() {
+    currentSnapshot.set(new CatalogSnapshot(catalog, erModel));
+    lintInBackground(currentSnapshot.get());
+
+    if (catalogReloader == null) {
+      return;
+    }
+    // Refreshes, whether scheduled or requested, run here rather than on request threads
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "catalog-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    if (catalogReloader.isFromCache()) {
+      // The server started from a catalog snapshot file, so check it against the database
+      lastFingerprint = catalogReloader.cachedFingerprint();
+      scheduler.execute(this::refresh);
+      LOGGER.log(Level.INFO, "Revalidating cached catalog in the background");
+    }
+
+    if (!catalogReloader.isScheduled()) {
+      return;
+    }
+    final long refreshSeconds = catalogReloader.refreshInterval().toSeconds();
+    if (!catalogReloader.isFromCache() && catalogReloader.canDetectChanges()) {
+      // Take the baseline off the startup path, so that the first scheduled refresh can be skipped
+      scheduler.execute(() -> lastFingerprint = fingerprint(catalog));
+    }
+    scheduler.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, SECONDS);
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Catalog will be refreshed every <%s>", catalogReloader.refreshInterval()));
+  }
+
+  /**
+   * Requests a refresh of the catalog in the background, and returns without waiting for it.
+   *
+   * @param force Reload even if no changes were detected in the database
+   * @return True if the refresh was accepted, false if the catalog cannot be refreshed
+   */
+  public boolean requestRefresh(final boolean force) {
+    if (scheduler == null) {
+      LOGGER.log(
+          Level.WARNING, "Catalog cannot be refreshed, since it was not loaded by the server");
+      return false;
+    }
+    scheduler.execute(() -> refresh(force));
+    return true;
+  }
+
+  /**
+   * Reloads the catalog if the database has changed, and publishes a new snapshot.
+   *
+   * @return True if a new snapshot was published
+   */
+  public boolean refresh() {
+    return refresh(false);
+  }
+
+  /**
+   * Reloads the catalog and publishes a new snapshot. Only one refresh runs at a time, and a
+   * failed refresh leaves the current snapshot in place.
+   *
+   * @param force Reload even if no changes were detected in the database
+   * @return True if a new snapshot was published
+   */
+  public boolean refresh(final boolean force) {
+    if (catalogReloader == null) {
+      LOGGER.log(
+          Level.WARNING, "Catalog cannot be refreshed, since it was not loaded by the server");
+      return false;
+    }
+    if (!isRefreshing.compareAndSet(false, true)) {
+      LOGGER.log(Level.INFO, "Catalog refresh is already in progress");
+      return false;
+    }
+    try {
+      final SchemaFingerprint fingerprint = fingerprint(currentSnapshot.get().catalog());
+      if (!force && fingerprint != null && lastFingerprint != null) {
+        final Set<String> changedObjects = fingerprint.changedObjects(lastFingerprint);
+        if (changedObjects.isEmpty()) {
+          LOGGER.log(Level.FINE, "No database changes detected, keeping current snapshot");
+          return false;
+        }
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat(
+                "Detected changes to <%d> database objects, %s",
+                changedObjects.size(), changedObjects));
+      }
+
+      LOGGER.log(Level.INFO, "Refreshing catalog");
+      final Catalog newCatalog = catalogReloader.reload();
+      final ERModel newERModel = SchemaCrawlerUtility.buildERModel(newCatalog);
+      final CatalogSnapshot snapshot =
+          currentSnapshot.updateAndGet(previous -> previous.next(newCatalog, newERModel));
+      // Changes made during the crawl show up as a difference on the next refresh
+      lastFingerprint = fingerprint;
+      if (functionReturnCache != null) {
+        functionReturnCache.invalidateAll();
+      }
+      lintInBackground(snapshot);
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat("Published catalog snapshot version <%d>", snapshot.version()));
+      return true;
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not refresh catalog, keeping current snapshot", e);
+      return false;
+    } finally {
+      isRefreshing.set(false);
+    }
+  }
+
+  private SchemaFingerprint fingerprint(final Catalog catalog) {
+    if (!catalogReloader.canDetectChanges()) {
+      return null;
+    }
+    try {
+      return catalogReloader.fingerprint(catalog);
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not detect database changes", e);
+      return null;
+    }
+  }
+
+  /**
+   * Starts linting a newly published snapshot in the background, so that lint calls are served
+   * from its lint store. Nothing is linted if the lint tool is not available. Once the catalog is
+   * linted, the serialized catalog that copies are made from is let go, since diagrams that are
+   * rendered after that are kept in the diagram store.
+   */
+  private void lintInBackground(final CatalogSnapshot snapshot) {
+    final CatalogCopier catalogCopier = snapshot.catalogCopier();
+    if (catalogCopier == null) {
+      return;
+    }
+    final LintFunctionDefinition lintFunctionDefinition = new LintFunctionDefinition();
+    if (connectionSource == null
+        || snapshot.lints() == null
+        || Boolean.TRUE.equals(isInErrorState)
+        || Boolean.TRUE.equals(isOffline)
+        || excludeTools != null
+            && excludeTools.excludeTools().contains(lintFunctionDefinition.getName())) {
+      catalogCopier.release();
+      return;
+    }
+    try {
+      final LintFunctionExecutor executor = lintFunctionDefinition.newExecutor();
+      executor.configure(lintFunctionDefinition.newParameters());
+      executor.initialize();
+      executor.setCatalog(snapshot.catalog());
+      executor.setERModel(snapshot.erModel());
+      executor.setCatalogCopier(catalogCopier);
+      executor.setConnectionSource(connectionSource);
+      executor.setLints(snapshot.lints());
+      executor.lintInBackground().whenComplete((result, e) -> catalogCopier.release());
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not start linting the catalog in the background", e);
+      catalogCopier.release();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, in microseconds. Buckets are spaced logarithmically, with
+ * eight buckets for every doubling, so percentiles are reported within 12.5% of the recorded value
+ * while the histogram stays a fixed, small size no matter how many values are recorded.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 62;
+  private static final int BUCKET_COUNT =
+      (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  static int bucketIndex(final long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) Math.max(value, 0);
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long bucketUpperBound(final int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    final long subBucket = SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+  public long count() {
+    return count.sum();
+  }
+
+  public long max() {
+    return max.get();
+  }
+
+  public double mean() {
+    final long count = count();
+    if (count == 0) {
+      return 0;
+    }
+    return (double) sum.sum() / count;
+  }
+
+  /**
+   * Estimates the value below which the given fraction of recorded values fall.
+   *
+   * @param percentile Fraction of values, between 0 and 1
+   * @return Estimated value, in microseconds, or 0 if no values were recorded
+   */
+  public long percentile(final double percentile) {
+    if (percentile < 0 || percentile > 1) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 1");
+    }
+    long total = 0;
+    final long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total = total + counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(percentile * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen = seen + counts[i];
+      if (seen >= rank) {
+        return Math.min(bucketUpperBound(i), max());
+      }
+    }
+    return max();
+  }
+
+  /**
+   * Records a value.
+   *
+   * @param value Value in microseconds, with negative values counted as 0
+   */
+  public void record(final long value) {
+    final long micros = Math.max(value, 0);
+    buckets.incrementAndGet(bucketIndex(micros));
+    count.increment();
+    sum.add(micros);
+    max.accumulate(micros);
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Reports metrics for tool calls, and the size of the catalog. */
+@RestController
+public class MetricsController {
+
+  @Autowired private ToolMetricsService toolMetricsService;
+
+  @GetMapping(value = "/metrics", produces = APPLICATION_JSON_VALUE)
+  public Map<String, Object> metrics() {
+    return toolMetricsService.currentMetrics();
+  }
+}
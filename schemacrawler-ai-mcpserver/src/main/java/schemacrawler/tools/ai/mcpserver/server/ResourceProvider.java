@@ -8,35 +8,28 @@
 
 package schemacrawler.tools.ai.mcpserver.server;
 
-import static java.util.Objects.requireNonNull;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
-import static us.fatehi.utility.Utility.trimToEmpty;
+import static schemacrawler.tools.ai.utility.JsonUtility.compactMapper;
 
-import java.util.Collection;
 import java.util.EnumSet;
-import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.ai.mcp.annotation.McpArg;
 import org.springframework.ai.mcp.annotation.McpResource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import schemacrawler.ermodel.model.ERModel;
-import schemacrawler.schema.Catalog;
-import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.tools.ai.model.AdditionalRoutineDetails;
 import schemacrawler.tools.ai.model.AdditionalTableDetails;
 import schemacrawler.tools.ai.model.CompactCatalogBuilder;
 import schemacrawler.tools.ai.model.RoutineDocument;
 import schemacrawler.tools.ai.model.TableDocument;
+import schemacrawler.tools.ai.tools.CatalogSnapshot;
 
 @Service
 public class ResourceProvider {
 
-  @Autowired private Catalog catalog;
-  @Autowired private ERModel erModel;
+  // Resources are compact JSON, the same as cached table fragments
+  @Autowired private CatalogSnapshotService catalogSnapshotService;
 
   @McpResource(
       uri = "catalog://routines/{routine-name}",
@@ -47,14 +40,15 @@ public class ResourceProvider {
   public String getRoutineDetails(
       @McpArg(name = "routine-name", description = "Fully-qualified routine name.", required = true)
           final String routineName) {
-    final Routine routine = lookupDatabaseObject(routineName, catalog.getRoutines());
+    final CatalogSnapshot snapshot = catalogSnapshotService.current();
+    final Routine routine = snapshot.index().routines().lookup(routineName);
     final EnumSet<AdditionalRoutineDetails> allRoutineDetails =
         EnumSet.allOf(AdditionalRoutineDetails.class);
     final RoutineDocument document =
-        CompactCatalogBuilder.builder(catalog, erModel)
+        CompactCatalogBuilder.builder(snapshot.catalog(), snapshot.erModel())
             .withAdditionalRoutineDetails(allRoutineDetails)
             .buildRoutineDocument(routine);
-    return document.toObjectNode().toPrettyString();
+    return compactMapper.writeValueAsString(document);
   }
 
   @McpResource(
@@ -66,37 +60,17 @@ public class ResourceProvider {
   public String getTableDetails(
       @McpArg(name = "table-name", description = "Fully-qualified table name.", required = true)
           final String tableName) {
-    final Table table = lookupDatabaseObject(tableName, catalog.getTables());
+    final CatalogSnapshot snapshot = catalogSnapshotService.current();
+    final Table table = snapshot.index().tables().lookup(tableName);
     final EnumSet<AdditionalTableDetails> allTableDetails =
         EnumSet.allOf(AdditionalTableDetails.class);
+    if (snapshot.tableFragments() != null) {
+      return snapshot.tableFragments().fragment(table, allTableDetails);
+    }
     final TableDocument document =
-        CompactCatalogBuilder.builder(catalog, erModel)
+        CompactCatalogBuilder.builder(snapshot.catalog(), snapshot.erModel())
             .withAdditionalTableDetails(allTableDetails)
             .buildTableDocument(table);
-    return document.toObjectNode().toPrettyString();
-  }
-
-  private <DO extends DatabaseObject> DO lookupDatabaseObject(
-      final String databaseObjectName, final Collection<DO> allDatabaseObjects) {
-    requireNonNull(allDatabaseObjects, "No database objects provided");
-    final String searchObjectName = trimToEmpty(databaseObjectName);
-    final List<DO> databaseObjects =
-        allDatabaseObjects.stream()
-            .filter(
-                databaseObject ->
-                    databaseObject.getName().equalsIgnoreCase(searchObjectName)
-                        || databaseObject.getFullName().equalsIgnoreCase(searchObjectName))
-            .collect(Collectors.toList());
-    if (databaseObjects.isEmpty()) {
-      throw new ExecutionRuntimeException("<%s> not found".formatted(databaseObjectName));
-    }
-    if (databaseObjects.size() > 1) {
-      throw new ExecutionRuntimeException(
-          "<%s> has too many matches - provide a fully-qualified name"
-              .formatted(databaseObjectName));
-    }
-
-    final DO databaseObject = databaseObjects.get(0);
-    return databaseObject;
+    return compactMapper.writeValueAsString(document);
   }
 }
@@ -18,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import schemacrawler.tools.ai.mcpserver.ExcludeTools;
 import schemacrawler.tools.ai.mcpserver.McpServerTransportType;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
+import schemacrawler.tools.ai.tools.FunctionReturnCache.Statistics;
 import schemacrawler.tools.ai.utility.SchemaCrawlerAiVersion;
 import us.fatehi.utility.property.ProductVersion;
 
@@ -31,6 +33,12 @@ public class ServerHealth {
   @Autowired private McpServerTransportType mcpTransport;
   @Autowired private ExcludeTools excludeTools;
 
+  @Autowired(required = false)
+  private FunctionReturnCache functionReturnCache;
+
+  @Autowired(required = false)
+  private ToolMetricsService toolMetricsService;
+
   public Map<String, Object> currentState() {
     final Map<String, Object> currentState = new HashMap<>();
     currentState.put("_server", getServerName());
@@ -40,6 +48,12 @@ public class ServerHealth {
     currentState.put("server-uptime", String.valueOf(getServerUptime()));
     currentState.put("transport", mcpTransport.name());
     currentState.put("exclude-tools", excludeTools.excludeTools());
+    if (functionReturnCache != null) {
+      currentState.put("result-cache", resultCacheState());
+    }
+    if (toolMetricsService != null) {
+      currentState.put("tool-metrics", toolMetricsService.currentMetrics());
+    }
     return currentState;
   }
 
@@ -60,4 +74,17 @@ public class ServerHealth {
   public boolean isInErrorState() {
     return isInErrorState;
   }
+
+  private Map<String, Object> resultCacheState() {
+    final Statistics statistics = functionReturnCache.statistics();
+    final Map<String, Object> resultCacheState = new HashMap<>();
+    resultCacheState.put("hits", statistics.hits());
+    resultCacheState.put("misses", statistics.misses());
+    resultCacheState.put("hit-rate", statistics.hitRate());
+    resultCacheState.put("evictions", statistics.evictions());
+    resultCacheState.put("size", statistics.size());
+    resultCacheState.put("max-size", statistics.maxSize());
+    resultCacheState.put("time-to-live", String.valueOf(statistics.timeToLive()));
+    return resultCacheState;
+  }
 }
@@ -0,0 +1,142 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.tools.ai.mcpserver.ToolLimits;
+import schemacrawler.tools.ai.tools.FunctionDefinition;
+import schemacrawler.tools.ai.tools.FunctionReturn;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs tool calls on virtual threads, so that a slow call does not hold on to a request thread.
+ * Each tool has its own concurrency limit, so catalog-only tools never wait behind tools that need
+ * a live database connection, and its own wall-clock timeout, after which the call is interrupted.
+ */
+@Service
+public class ToolExecutionService {
+
+  /** Concurrency limit and timeout for calls to one tool. */
+  public record ToolExecutionLimit(String toolName, Semaphore permits, Duration timeout) {
+
+    public ToolExecutionLimit {
+      requireNonNull(toolName, "No tool name provided");
+      requireNonNull(timeout, "No timeout provided");
+    }
+
+    public boolean isLimited() {
+      return permits != null;
+    }
+  }
+
+  private static final Logger LOGGER =
+      Logger.getLogger(ToolExecutionService.class.getCanonicalName());
+
+  @Autowired(required = false)
+  private ToolLimits toolLimits;
+
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tool-call-", 0).factory());
+
+  /**
+   * Runs a tool call within the limits for the tool, and waits for the result.
+   *
+   * @param limit Limits for the tool
+   * @param toolCall Tool call to run
+   * @return Result of the tool call
+   */
+  public FunctionReturn execute(
+      final ToolExecutionLimit limit, final Callable<FunctionReturn> toolCall) {
+    requireNonNull(limit, "No tool execution limit provided");
+    requireNonNull(toolCall, "No tool call provided");
+
+    final long deadline = System.nanoTime() + limit.timeout().toNanos();
+    final Future<FunctionReturn> future = executor.submit(() -> callWithPermit(limit, toolCall));
+    try {
+      return future.get(deadline - System.nanoTime(), NANOSECONDS);
+    } catch (final TimeoutException e) {
+      future.cancel(true);
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat(
+              "Tool <%s> timed out after <%s>", limit.toolName(), limit.timeout()));
+      throw new ExecutionRuntimeException(
+          "Tool <%s> did not complete within <%s>".formatted(limit.toolName(), limit.timeout()));
+    } catch (final InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException(
+          "Tool <%s> was interrupted".formatted(limit.toolName()), e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final RuntimeException runex) {
+        throw runex;
+      }
+      throw new InternalRuntimeException(
+          "Exception executing <%s>".formatted(limit.toolName()), cause);
+    }
+  }
+
+  /**
+   * Creates the limits for a tool from the configured tool limits, or defaults.
+   *
+   * @param functionDefinition Tool definition
+   * @return Limits for calls to the tool
+   */
+  public ToolExecutionLimit limitFor(final FunctionDefinition<?> functionDefinition) {
+    requireNonNull(functionDefinition, "No function definition provided");
+    final ToolLimits limits = toolLimits == null ? new ToolLimits() : toolLimits;
+
+    final int concurrencyLimit = limits.concurrencyLimit(functionDefinition);
+    final Semaphore permits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit, true) : null;
+    final Duration timeout = limits.timeout(functionDefinition);
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Tool <%s> has concurrency limit <%d> and timeout <%s>",
+            functionDefinition.getName(), concurrencyLimit, timeout));
+    return new ToolExecutionLimit(functionDefinition.getName(), permits, timeout);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private FunctionReturn callWithPermit(
+      final ToolExecutionLimit limit, final Callable<FunctionReturn> toolCall) throws Exception {
+    if (!limit.isLimited()) {
+      return toolCall.call();
+    }
+    // Waiting for a permit counts against the timeout, and is cancelled with the call
+    limit.permits().acquire();
+    try {
+      return toolCall.call();
+    } finally {
+      limit.permits().release();
+    }
+  }
+}
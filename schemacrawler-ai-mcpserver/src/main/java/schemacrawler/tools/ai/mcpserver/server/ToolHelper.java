@@ -19,12 +19,11 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import schemacrawler.ermodel.model.ERModel;
-import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
 import schemacrawler.tools.ai.tools.FunctionCallback;
 import schemacrawler.tools.ai.tools.FunctionDefinition;
 import schemacrawler.tools.ai.tools.FunctionParameters;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
 import tools.jackson.databind.JsonNode;
 
 @Component
@@ -32,8 +31,12 @@ public class ToolHelper {
 
   private static final Logger LOGGER = Logger.getLogger(ToolHelper.class.getCanonicalName());
 
-  @Autowired private Catalog catalog;
-  @Autowired private ERModel erModel;
+  @Autowired private CatalogSnapshotService catalogSnapshotService;
+  @Autowired private ToolExecutionService toolExecutionService;
+  @Autowired private ToolMetricsService toolMetricsService;
+
+  @Autowired(required = false)
+  private FunctionReturnCache functionReturnCache;
 
   public <P extends FunctionParameters>
       McpServerFeatures.SyncToolSpecification toSyncToolSpecification(
@@ -41,8 +44,14 @@ public class ToolHelper {
 
     final Tool tool = toTool(functionDefinition);
     final FunctionCallback<P> functionCallback =
-        new FunctionCallback<>(functionDefinition, catalog, erModel);
-    final CallToolHandler toolCallHandler = new CallToolHandler(functionCallback);
+        new FunctionCallback<>(functionDefinition, catalogSnapshotService::current)
+            .withFunctionReturnCache(functionReturnCache);
+    final CallToolHandler toolCallHandler =
+        new CallToolHandler(
+            functionCallback,
+            toolExecutionService,
+            toolExecutionService.limitFor(functionDefinition),
+            toolMetricsService.metricsFor(functionDefinition.getName()));
 
     return new McpServerFeatures.SyncToolSpecification(tool, toolCallHandler);
   }
@@ -0,0 +1,162 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import schemacrawler.tools.ai.utility.TokenEstimator;
+
+/**
+ * Metrics for calls to one tool. Latency covers the whole call, including waiting for the tool to
+ * be allowed to run, while execution time covers only running the function. Token counts are
+ * estimated with the same estimator that is used for tool token budgets.
+ */
+public final class ToolMetrics {
+
+  static long estimateTokens(final CharSequence text) {
+    return TokenEstimator.estimate(text);
+  }
+
+  static long utf8Length(final CharSequence text) {
+    if (text == null) {
+      return 0;
+    }
+    long length = 0;
+    final int textLength = text.length();
+    for (int i = 0; i < textLength; i++) {
+      final char ch = text.charAt(i);
+      if (ch < 0x80) {
+        length = length + 1;
+      } else if (ch < 0x800) {
+        length = length + 2;
+      } else if (Character.isHighSurrogate(ch)
+          && i + 1 < textLength
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        length = length + 4;
+        i++;
+      } else {
+        length = length + 3;
+      }
+    }
+    return length;
+  }
+
+  private static double toMillis(final double micros) {
+    return Math.round(micros) / 1_000.0;
+  }
+
+  private final String toolName;
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final LatencyHistogram execution = new LatencyHistogram();
+  private final LongAdder responseBytes = new LongAdder();
+  private final LongAccumulator maxResponseBytes = new LongAccumulator(Long::max, 0);
+  private final LongAdder responseTokens = new LongAdder();
+
+  public ToolMetrics(final String toolName) {
+    this.toolName = requireNonNull(toolName, "No tool name provided");
+  }
+
+  public long calls() {
+    return calls.sum();
+  }
+
+  public long errors() {
+    return errors.sum();
+  }
+
+  public LatencyHistogram execution() {
+    return execution;
+  }
+
+  public LatencyHistogram latency() {
+    return latency;
+  }
+
+  /**
+   * Records a completed tool call.
+   *
+   * @param latencyNanos Time taken for the whole call, in nanoseconds
+   * @param response Text returned to the client
+   * @param inError Whether the call returned an error
+   */
+  public void recordCall(
+      final long latencyNanos, final CharSequence response, final boolean inError) {
+    calls.increment();
+    if (inError) {
+      errors.increment();
+    }
+    latency.record(NANOSECONDS.toMicros(latencyNanos));
+
+    final long bytes = utf8Length(response);
+    responseBytes.add(bytes);
+    maxResponseBytes.accumulate(bytes);
+    responseTokens.add(estimateTokens(response));
+  }
+
+  /**
+   * Records the time taken to run the function for a call.
+   *
+   * @param executionNanos Time taken to run the function, in nanoseconds
+   */
+  public void recordExecution(final long executionNanos) {
+    execution.record(NANOSECONDS.toMicros(executionNanos));
+  }
+
+  public long responseBytes() {
+    return responseBytes.sum();
+  }
+
+  public long responseTokens() {
+    return responseTokens.sum();
+  }
+
+  public Map<String, Object> toMap() {
+    final long calls = calls();
+    final long errors = errors();
+
+    final Map<String, Object> metrics = new HashMap<>();
+    metrics.put("calls", calls);
+    metrics.put("errors", errors);
+    metrics.put("error-rate", calls == 0 ? 0.0 : (double) errors / calls);
+    metrics.put("latency-ms", histogramMap(latency));
+    metrics.put("execution-ms", histogramMap(execution));
+
+    final Map<String, Object> responseSize = new HashMap<>();
+    responseSize.put("total-bytes", responseBytes());
+    responseSize.put("mean-bytes", calls == 0 ? 0 : responseBytes() / calls);
+    responseSize.put("max-bytes", maxResponseBytes.get());
+    responseSize.put("total-tokens-estimate", responseTokens());
+    responseSize.put("mean-tokens-estimate", calls == 0 ? 0 : responseTokens() / calls);
+    metrics.put("response-size", responseSize);
+
+    return metrics;
+  }
+
+  public String toolName() {
+    return toolName;
+  }
+
+  private Map<String, Object> histogramMap(final LatencyHistogram histogram) {
+    final Map<String, Object> histogramMap = new HashMap<>();
+    histogramMap.put("count", histogram.count());
+    histogramMap.put("mean", toMillis(histogram.mean()));
+    histogramMap.put("p50", toMillis(histogram.percentile(0.50)));
+    histogramMap.put("p95", toMillis(histogram.percentile(0.95)));
+    histogramMap.put("p99", toMillis(histogram.percentile(0.99)));
+    histogramMap.put("max", toMillis(histogram.max()));
+    return histogramMap;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.tools.ai.tools.CatalogSnapshot;
+
+/**
+ * Collects metrics for tool calls, with one set of metrics for each tool, as well as the size of
+ * the catalog that the tools run against. Recording a call does not lock, so metrics can be
+ * collected on every call.
+ */
+@Service
+public class ToolMetricsService {
+
+  /** Size of a catalog snapshot, which is counted once for each snapshot version. */
+  record CatalogGauges(
+      long version, String loadedAt, int schemas, int tables, long columns, int routines) {
+
+    static CatalogGauges from(final CatalogSnapshot snapshot) {
+      final Catalog catalog = snapshot.catalog();
+      long columns = 0;
+      for (final Table table : catalog.getTables()) {
+        columns = columns + table.getColumns().size();
+      }
+      return new CatalogGauges(
+          snapshot.version(),
+          String.valueOf(snapshot.loadedAt()),
+          catalog.getSchemas().size(),
+          catalog.getTables().size(),
+          columns,
+          catalog.getRoutines().size());
+    }
+
+    Map<String, Object> toMap() {
+      final Map<String, Object> catalogGauges = new HashMap<>();
+      catalogGauges.put("catalog-version", version);
+      catalogGauges.put("catalog-loaded-at", loadedAt);
+      catalogGauges.put("schemas", schemas);
+      catalogGauges.put("tables", tables);
+      catalogGauges.put("columns", columns);
+      catalogGauges.put("routines", routines);
+      return catalogGauges;
+    }
+  }
+
+  @Autowired(required = false)
+  private CatalogSnapshotService catalogSnapshotService;
+
+  private final ConcurrentMap<String, ToolMetrics> toolMetrics = new ConcurrentHashMap<>();
+  private final AtomicReference<CatalogGauges> catalogGauges = new AtomicReference<>();
+
+  /**
+   * Current metrics for all tools that were called, and for the catalog.
+   *
+   * @return Metrics, keyed by tool name
+   */
+  public Map<String, Object> currentMetrics() {
+    final Map<String, Object> tools = new TreeMap<>();
+    for (final ToolMetrics metrics : toolMetrics.values()) {
+      if (metrics.calls() > 0) {
+        tools.put(metrics.toolName(), metrics.toMap());
+      }
+    }
+
+    final Map<String, Object> currentMetrics = new HashMap<>();
+    currentMetrics.put("tools", tools);
+    final CatalogGauges gauges = currentCatalogGauges();
+    if (gauges != null) {
+      currentMetrics.put("catalog", gauges.toMap());
+    }
+    return currentMetrics;
+  }
+
+  /**
+   * Metrics for a tool, which are created the first time they are asked for.
+   *
+   * @param toolName Name of the tool
+   * @return Metrics for the tool
+   */
+  public ToolMetrics metricsFor(final String toolName) {
+    requireNonNull(toolName, "No tool name provided");
+    return toolMetrics.computeIfAbsent(toolName, ToolMetrics::new);
+  }
+
+  private CatalogGauges currentCatalogGauges() {
+    if (catalogSnapshotService == null) {
+      return null;
+    }
+    final CatalogSnapshot snapshot = catalogSnapshotService.current();
+    if (snapshot == null || snapshot.catalog() == null) {
+      return null;
+    }
+    // Counting columns walks every table, so only do it once for each snapshot
+    return catalogGauges.updateAndGet(
+        gauges ->
+            gauges != null && gauges.version() == snapshot.version()
+                ? gauges
+                : CatalogGauges.from(snapshot));
+  }
+}
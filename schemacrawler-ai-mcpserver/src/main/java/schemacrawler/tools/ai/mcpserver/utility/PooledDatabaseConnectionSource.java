@@ -0,0 +1,385 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.utility;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Bounded pool of warm connections, on top of a database connection source. Connections are
+ * validated when they are borrowed, idle connections above the minimum pool size are closed after
+ * the idle timeout, and connections that are held for longer than the leak detection threshold are
+ * logged, with the stack trace of the code that borrowed them. Closing a borrowed connection
+ * returns it to the pool.
+ */
+public final class PooledDatabaseConnectionSource implements DatabaseConnectionSource {
+
+  /** Sizes and timeouts for the connection pool. */
+  public record PoolOptions(
+      int minSize,
+      int maxSize,
+      Duration borrowTimeout,
+      Duration idleTimeout,
+      Duration leakDetectionThreshold) {
+
+    public static final PoolOptions DEFAULT =
+        new PoolOptions(
+            1, 8, Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMinutes(5));
+
+    public PoolOptions {
+      if (maxSize <= 0) {
+        throw new IllegalArgumentException("Maximum pool size must be positive");
+      }
+      if (minSize < 0 || minSize > maxSize) {
+        throw new IllegalArgumentException(
+            "Minimum pool size must be between 0 and <%d>".formatted(maxSize));
+      }
+      requireNonNull(borrowTimeout, "No borrow timeout provided");
+      requireNonNull(idleTimeout, "No idle timeout provided");
+      requireNonNull(leakDetectionThreshold, "No leak detection threshold provided");
+    }
+  }
+
+  private record BorrowedConnection(
+      Connection connection, long borrowedAt, Exception borrowedBy, AtomicBoolean leakReported) {}
+
+  private record IdleConnection(Connection connection, long idleSince) {}
+
+  private static final Logger LOGGER =
+      Logger.getLogger(PooledDatabaseConnectionSource.class.getCanonicalName());
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+  private static final long HOUSEKEEPING_INTERVAL_MILLIS = Duration.ofSeconds(30).toMillis();
+
+  private final DatabaseConnectionSource connectionSource;
+  private final PoolOptions poolOptions;
+  private final Semaphore permits;
+  private final Deque<IdleConnection> idleConnections;
+  private final Map<Connection, BorrowedConnection> borrowedConnections;
+  private final ScheduledExecutorService housekeeper;
+  private volatile boolean isClosed;
+
+  public PooledDatabaseConnectionSource(
+      final DatabaseConnectionSource connectionSource, final PoolOptions poolOptions) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    this.poolOptions = requireNonNull(poolOptions, "No pool options provided");
+
+    permits = new Semaphore(poolOptions.maxSize(), true);
+    idleConnections = new ArrayDeque<>();
+    borrowedConnections = new ConcurrentHashMap<>();
+
+    housekeeper =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+              thread.setDaemon(true);
+              return thread;
+            });
+    housekeeper.execute(this::fillToMinimum);
+    housekeeper.scheduleWithFixedDelay(
+        this::housekeeping,
+        HOUSEKEEPING_INTERVAL_MILLIS,
+        HOUSEKEEPING_INTERVAL_MILLIS,
+        MILLISECONDS);
+  }
+
+  public int activeCount() {
+    return borrowedConnections.size();
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    housekeeper.shutdownNow();
+    final List<IdleConnection> connectionsToClose;
+    synchronized (idleConnections) {
+      connectionsToClose = new ArrayList<>(idleConnections);
+      idleConnections.clear();
+    }
+    for (final IdleConnection idleConnection : connectionsToClose) {
+      closeQuietly(idleConnection.connection());
+    }
+    connectionSource.close();
+  }
+
+  /**
+   * Borrows a validated connection from the pool, opening a new one if no idle connection is
+   * available, and waiting for up to the borrow timeout if the pool is exhausted.
+   *
+   * @return Pooled connection, which is returned to the pool when it is closed
+   */
+  @Override
+  public Connection get() {
+    if (isClosed) {
+      throw new ExecutionRuntimeException("Connection pool is closed");
+    }
+    try {
+      if (!permits.tryAcquire(poolOptions.borrowTimeout().toNanos(), NANOSECONDS)) {
+        throw new ExecutionRuntimeException(
+            "Timed out waiting for a database connection, after <%s> with <%d> in use"
+                .formatted(poolOptions.borrowTimeout(), activeCount()));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted waiting for a database connection", e);
+    }
+
+    try {
+      final Connection connection = borrowValidConnection();
+      final Connection pooledConnection = newPooledConnection(connection);
+      borrowedConnections.put(
+          pooledConnection,
+          new BorrowedConnection(
+              connection,
+              System.nanoTime(),
+              new Exception("Connection borrowed here"),
+              new AtomicBoolean()));
+      return pooledConnection;
+    } catch (final RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public int idleCount() {
+    synchronized (idleConnections) {
+      return idleConnections.size();
+    }
+  }
+
+  /**
+   * Returns a borrowed connection to the pool. Connections that were closed or broken by the
+   * borrower are discarded.
+   *
+   * @param connection Pooled connection
+   * @return True if the connection was borrowed from this pool
+   */
+  @Override
+  public boolean releaseConnection(final Connection connection) {
+    if (connection == null) {
+      return false;
+    }
+    final BorrowedConnection borrowedConnection = borrowedConnections.remove(connection);
+    if (borrowedConnection == null) {
+      return false;
+    }
+    try {
+      final Connection physicalConnection = borrowedConnection.connection();
+      if (isClosed || !resetConnection(physicalConnection)) {
+        closeQuietly(physicalConnection);
+      } else {
+        synchronized (idleConnections) {
+          idleConnections.push(new IdleConnection(physicalConnection, System.nanoTime()));
+        }
+      }
+    } finally {
+      permits.release();
+    }
+    return true;
+  }
+
+  @Override
+  public void setFirstConnectionInitializer(final Consumer<Connection> connectionInitializer) {
+    connectionSource.setFirstConnectionInitializer(connectionInitializer);
+  }
+
+  @Override
+  public String toString() {
+    return "PooledDatabaseConnectionSource[active=%d, idle=%d, max=%d]"
+        .formatted(activeCount(), idleCount(), poolOptions.maxSize());
+  }
+
+  private Connection borrowValidConnection() {
+    while (true) {
+      final IdleConnection idleConnection;
+      synchronized (idleConnections) {
+        // Most recently used connections are the most likely to still be open
+        idleConnection = idleConnections.poll();
+      }
+      if (idleConnection == null) {
+        return requireNonNull(connectionSource.get(), "No connection obtained");
+      }
+      final Connection connection = idleConnection.connection();
+      if (isValid(connection)) {
+        return connection;
+      }
+      LOGGER.log(Level.FINE, "Discarding connection that failed validation");
+      closeQuietly(connection);
+    }
+  }
+
+  private void closeQuietly(final Connection connection) {
+    try {
+      connection.close();
+    } catch (final Exception e) {
+      LOGGER.log(Level.FINE, "Could not close connection", e);
+    }
+  }
+
+  private void detectLeaks() {
+    final long threshold = poolOptions.leakDetectionThreshold().toNanos();
+    if (threshold <= 0) {
+      return;
+    }
+    final long now = System.nanoTime();
+    for (final BorrowedConnection borrowedConnection : borrowedConnections.values()) {
+      if (now - borrowedConnection.borrowedAt() > threshold
+          && borrowedConnection.leakReported().compareAndSet(false, true)) {
+        LOGGER.log(
+            Level.WARNING,
+            borrowedConnection.borrowedBy(),
+            new StringFormat(
+                "Possible connection leak - connection held for longer than <%s>",
+                poolOptions.leakDetectionThreshold()));
+      }
+    }
+  }
+
+  private void evictIdleConnections() {
+    final long idleTimeout = poolOptions.idleTimeout().toNanos();
+    if (idleTimeout <= 0) {
+      return;
+    }
+    final long now = System.nanoTime();
+    final List<Connection> connectionsToClose = new ArrayList<>();
+    synchronized (idleConnections) {
+      // Oldest idle connections are at the tail
+      while (idleConnections.size() + activeCount() > poolOptions.minSize()
+          && !idleConnections.isEmpty()
+          && now - idleConnections.peekLast().idleSince() > idleTimeout) {
+        connectionsToClose.add(idleConnections.pollLast().connection());
+      }
+    }
+    if (!connectionsToClose.isEmpty()) {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat("Closing <%d> idle connections", connectionsToClose.size()));
+    }
+    connectionsToClose.forEach(this::closeQuietly);
+  }
+
+  private void fillToMinimum() {
+    while (!isClosed && idleCount() + activeCount() < poolOptions.minSize()) {
+      if (!permits.tryAcquire()) {
+        return;
+      }
+      try {
+        final Connection connection = connectionSource.get();
+        synchronized (idleConnections) {
+          idleConnections.addLast(new IdleConnection(connection, System.nanoTime()));
+        }
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, "Could not open connection for the pool", e);
+        return;
+      } finally {
+        permits.release();
+      }
+    }
+  }
+
+  private void housekeeping() {
+    try {
+      evictIdleConnections();
+      detectLeaks();
+      fillToMinimum();
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Connection pool housekeeping failed", e);
+    }
+  }
+
+  private boolean isValid(final Connection connection) {
+    try {
+      return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (final SQLException e) {
+      return false;
+    }
+  }
+
+  private Connection newPooledConnection(final Connection connection) {
+    final AtomicBoolean isReleased = new AtomicBoolean();
+    return (Connection)
+        Proxy.newProxyInstance(
+            PooledDatabaseConnectionSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "close":
+                  if (isReleased.compareAndSet(false, true)) {
+                    releaseConnection((Connection) proxy);
+                  }
+                  return null;
+                case "isClosed":
+                  if (isReleased.get()) {
+                    return true;
+                  }
+                  break;
+                case "equals":
+                  return proxy == args[0];
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "toString":
+                  return "Pooled connection " + connection;
+                default:
+                  if (isReleased.get()) {
+                    throw new SQLException("Connection has been returned to the pool");
+                  }
+                  break;
+              }
+              try {
+                return method.invoke(connection, args);
+              } catch (final InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+
+  /** Rolls back uncommitted work so the next borrower starts clean. */
+  private boolean resetConnection(final Connection connection) {
+    try {
+      if (connection.isClosed()) {
+        return false;
+      }
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+      connection.clearWarnings();
+      return true;
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Discarding connection that could not be reset", e);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.tools.ai.mcpserver.CatalogSnapshotCache.CachedCatalog;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.test.utility.extensions.UsingTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+
+@UsingTestDatabase
+public class CatalogSnapshotCacheTest {
+
+  @Test
+  public void ignoreUnreadableSnapshot(@TempDir final Path cacheDirectory) throws Exception {
+    final CatalogSnapshotCache cache = CatalogSnapshotCache.forKey(cacheDirectory, "key");
+    Files.writeString(cache.snapshotFile(), "not a catalog snapshot");
+
+    assertThat(cache.load().isPresent(), is(false));
+  }
+
+  @Test
+  public void saveAndLoad(final Connection connection, @TempDir final Path cacheDirectory)
+      throws Exception {
+    final DatabaseConnectionSource connectionSource =
+        DatabaseConnectionSources.fromConnection(connection);
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connectionSource, SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    final SchemaFingerprint fingerprint = SchemaFingerprint.fingerprint(connectionSource, catalog);
+    assertThat(fingerprint.objectHashes().isEmpty(), is(false));
+    assertThat(fingerprint.changedObjects(fingerprint), is(empty()));
+    // A fingerprint taken before the crawl matches, once it is kept to the crawled schemas
+    final SchemaFingerprint crawlFingerprint =
+        SchemaFingerprint.fingerprint(connectionSource).forCatalog(catalog);
+    assertThat(crawlFingerprint.changedObjects(fingerprint), is(empty()));
+
+    final CatalogSnapshotCache cache =
+        CatalogSnapshotCache.forKey(cacheDirectory, "jdbc:hsqldb:test", "standard");
+    assertThat(cache.load().isPresent(), is(false));
+
+    cache.save(catalog, fingerprint);
+
+    final Optional<CachedCatalog> cachedCatalog = cache.load();
+    assertThat(cachedCatalog.isPresent(), is(true));
+    assertThat(
+        cachedCatalog.get().catalog().getTables().size(), is(catalog.getTables().size()));
+    assertThat(cachedCatalog.get().fingerprint(), is(fingerprint));
+
+    // Snapshot for other options is not used
+    final CatalogSnapshotCache otherCache =
+        CatalogSnapshotCache.forKey(cacheDirectory, "jdbc:hsqldb:test", "maximum");
+    assertThat(otherCache.snapshotFile(), is(not(cache.snapshotFile())));
+    assertThat(otherCache.load().isPresent(), is(false));
+  }
+}
@@ -9,11 +9,15 @@
 package schemacrawler.tools.ai.mcpserver;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import java.time.Duration;
 import java.util.Collection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import schemacrawler.tools.ai.tools.FunctionDefinition;
+import schemacrawler.tools.ai.tools.FunctionDefinitionRegistry;
 import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.ConfigUtility;
 
@@ -86,6 +90,58 @@ public class McpServerContextTest {
     assertThat(excluded.size(), is(0));
   }
 
+  @Test
+  @DisplayName("Should create result cache, unless it is turned off")
+  void shouldCreateResultCache() {
+    context = new McpServerContext(envAccessor);
+    assertThat(context.functionReturnCache().statistics().maxSize(), is(256));
+    assertThat(
+        context.functionReturnCache().statistics().timeToLive(), is(Duration.ofMinutes(30)));
+
+    envAccessor.put("SCHCRWLR_RESULT_CACHE_SIZE", "1000");
+    envAccessor.put("SCHCRWLR_RESULT_CACHE_TTL", "600");
+    context = new McpServerContext(envAccessor);
+    assertThat(context.functionReturnCache().statistics().maxSize(), is(1000));
+    assertThat(
+        context.functionReturnCache().statistics().timeToLive(), is(Duration.ofMinutes(10)));
+
+    envAccessor.put("SCHCRWLR_RESULT_CACHE_SIZE", "0");
+    context = new McpServerContext(envAccessor);
+    assertThat(context.functionReturnCache(), is(nullValue()));
+  }
+
+  @Test
+  @DisplayName("Should parse tool concurrency limits and timeouts")
+  void shouldParseToolLimits() {
+    final FunctionDefinitionRegistry registry =
+        FunctionDefinitionRegistry.getFunctionDefinitionRegistry();
+    final FunctionDefinition<?> lint = registry.lookupFunctionDefinition("lint").get();
+    final FunctionDefinition<?> list = registry.lookupFunctionDefinition("list").get();
+    final FunctionDefinition<?> tableSample =
+        registry.lookupFunctionDefinition("table_sample").get();
+
+    // Defaults
+    context = new McpServerContext(envAccessor);
+    assertThat(context.toolLimits().concurrencyLimit(list), is(0));
+    assertThat(
+        context.toolLimits().concurrencyLimit(tableSample),
+        is(ToolLimits.DEFAULT_CONNECTION_CONCURRENCY_LIMIT));
+    assertThat(context.toolLimits().timeout(list), is(ToolLimits.DEFAULT_TIMEOUT));
+
+    // Configured, ignoring bad entries
+    envAccessor.put("SCHCRWLR_TOOL_CONCURRENCY", "lint=2, list = 8, table_sample=many, =3");
+    envAccessor.put("SCHCRWLR_TOOL_TIMEOUT", "lint=PT5M,list=30,table_sample=-1,bad");
+    context = new McpServerContext(envAccessor);
+    assertThat(context.toolLimits().concurrencyLimit(lint), is(2));
+    assertThat(context.toolLimits().concurrencyLimit(list), is(8));
+    assertThat(
+        context.toolLimits().concurrencyLimit(tableSample),
+        is(ToolLimits.DEFAULT_CONNECTION_CONCURRENCY_LIMIT));
+    assertThat(context.toolLimits().timeout(lint), is(Duration.ofMinutes(5)));
+    assertThat(context.toolLimits().timeout(list), is(Duration.ofSeconds(30)));
+    assertThat(context.toolLimits().timeout(tableSample), is(ToolLimits.DEFAULT_TIMEOUT));
+  }
+
   @Test
   @DisplayName("Should validate transport correctly")
   void shouldValidateTransport() {
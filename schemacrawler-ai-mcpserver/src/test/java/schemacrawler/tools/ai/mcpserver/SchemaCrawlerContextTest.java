@@ -12,11 +12,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
 
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import schemacrawler.schemacrawler.InfoLevel;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.tools.ai.mcpserver.utility.PooledDatabaseConnectionSource.PoolOptions;
 import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.ConfigUtility;
 
@@ -79,6 +81,57 @@ public class SchemaCrawlerContextTest {
     assertThat(config.getStringValue("custom-key", ""), is("custom-value"));
   }
 
+  @Test
+  @DisplayName("Should read catalog refresh interval as minutes or as a duration")
+  void shouldReadCatalogRefreshInterval() {
+    envAccessor.put("SCHCRWLR_CATALOG_REFRESH_INTERVAL", "30");
+    context = new SchemaCrawlerContext(envAccessor);
+    assertThat(context.readCatalogRefreshInterval(), is(Duration.ofMinutes(30)));
+
+    envAccessor.put("SCHCRWLR_CATALOG_REFRESH_INTERVAL", "PT2H");
+    context = new SchemaCrawlerContext(envAccessor);
+    assertThat(context.readCatalogRefreshInterval(), is(Duration.ofHours(2)));
+
+    envAccessor.put("SCHCRWLR_CATALOG_REFRESH_INTERVAL", "not-a-duration");
+    context = new SchemaCrawlerContext(envAccessor);
+    assertThat(context.readCatalogRefreshInterval(), is(Duration.ZERO));
+
+    envAccessor.put("SCHCRWLR_CATALOG_REFRESH_INTERVAL", null);
+    context = new SchemaCrawlerContext(envAccessor);
+    assertThat(context.readCatalogRefreshInterval(), is(Duration.ZERO));
+    assertThat(context.catalogReloader().isScheduled(), is(false));
+  }
+
+  @Test
+  @DisplayName("Should read connection pool options, falling back to defaults")
+  void shouldReadConnectionPoolOptions() {
+    context = new SchemaCrawlerContext(envAccessor);
+    assertThat(context.readConnectionPoolOptions(), is(PoolOptions.DEFAULT));
+
+    envAccessor.put("SCHCRWLR_CONNECTION_POOL_MIN_SIZE", "2");
+    envAccessor.put("SCHCRWLR_CONNECTION_POOL_MAX_SIZE", "16");
+    envAccessor.put("SCHCRWLR_CONNECTION_POOL_IDLE_TIMEOUT", "PT1M");
+    envAccessor.put("SCHCRWLR_CONNECTION_POOL_LEAK_DETECTION_THRESHOLD", "0");
+    context = new SchemaCrawlerContext(envAccessor);
+    PoolOptions poolOptions = context.readConnectionPoolOptions();
+    assertThat(poolOptions.minSize(), is(2));
+    assertThat(poolOptions.maxSize(), is(16));
+    assertThat(poolOptions.idleTimeout(), is(Duration.ofMinutes(1)));
+    assertThat(poolOptions.leakDetectionThreshold(), is(Duration.ZERO));
+
+    envAccessor.put("SCHCRWLR_CONNECTION_POOL_IDLE_TIMEOUT", "not-a-duration");
+    envAccessor.put("SCHCRWLR_CONNECTION_POOL_MAX_SIZE", "many");
+    context = new SchemaCrawlerContext(envAccessor);
+    poolOptions = context.readConnectionPoolOptions();
+    assertThat(poolOptions.maxSize(), is(PoolOptions.DEFAULT.maxSize()));
+    assertThat(poolOptions.idleTimeout(), is(PoolOptions.DEFAULT.idleTimeout()));
+
+    // Minimum size larger than maximum size
+    envAccessor.put("SCHCRWLR_CONNECTION_POOL_MIN_SIZE", "20");
+    context = new SchemaCrawlerContext(envAccessor);
+    assertThat(context.readConnectionPoolOptions(), is(PoolOptions.DEFAULT));
+  }
+
   @Test
   @DisplayName("Should read info level with custom values when environment variables are set")
   void shouldReadInfoLevelWithCustomValues() {
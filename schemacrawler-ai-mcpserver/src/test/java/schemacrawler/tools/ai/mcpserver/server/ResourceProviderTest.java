@@ -33,7 +33,12 @@ import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.datasource.DatabaseConnectionSources;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {ResourceProviderTest.MockConfig.class, ResourceProvider.class})
+@ContextConfiguration(
+    classes = {
+      ResourceProviderTest.MockConfig.class,
+      ResourceProvider.class,
+      CatalogSnapshotService.class
+    })
 public class ResourceProviderTest {
 
   @TestConfiguration
@@ -83,6 +88,8 @@ public class ResourceProviderTest {
   private static SchemaReference schema = new SchemaReference("PUBLIC", "BOOKS");
 
   @Autowired private ResourceProvider resourceProvider;
+  // Re-initialized after stubbing the catalog, to publish a snapshot with a fresh name index
+  @Autowired private CatalogSnapshotService catalogSnapshotService;
 
   @Autowired private Catalog catalog;
 
@@ -92,6 +99,7 @@ public class ResourceProviderTest {
   @Test
   public void testAmbiguousMatch() {
     when(catalog.getTables()).thenReturn(List.of(table1, table2));
+    catalogSnapshotService.initialize();
 
     final ExecutionRuntimeException e =
         assertThrows(
@@ -103,6 +111,7 @@ public class ResourceProviderTest {
   public void testGetRoutineDetails() {
     final Routine routine = new LightProcedure(schema, "NEW_BOOK");
     when(catalog.getRoutines()).thenReturn(List.of(routine));
+    catalogSnapshotService.initialize();
 
     final String details = resourceProvider.getRoutineDetails("PUBLIC.BOOKS.NEW_BOOK");
     assertThat(details, is(containsString("NEW_BOOK")));
@@ -111,6 +120,7 @@ public class ResourceProviderTest {
   @Test
   public void testGetRoutineDetailsNotFound() {
     when(catalog.getRoutines()).thenReturn(Collections.emptyList());
+    catalogSnapshotService.initialize();
     final ExecutionRuntimeException e =
         assertThrows(
             ExecutionRuntimeException.class,
@@ -121,6 +131,7 @@ public class ResourceProviderTest {
   @Test
   public void testGetTableDetails() {
     when(catalog.getTables()).thenReturn(List.of(table1));
+    catalogSnapshotService.initialize();
 
     final String details = resourceProvider.getTableDetails("PUBLIC.BOOKS.BOOKS");
     assertThat(details, is(containsString("BOOKS")));
@@ -129,6 +140,7 @@ public class ResourceProviderTest {
   @Test
   public void testGetTableDetailsNotFound() {
     when(catalog.getTables()).thenReturn(Collections.emptyList());
+    catalogSnapshotService.initialize();
     final ExecutionRuntimeException e =
         assertThrows(
             ExecutionRuntimeException.class,
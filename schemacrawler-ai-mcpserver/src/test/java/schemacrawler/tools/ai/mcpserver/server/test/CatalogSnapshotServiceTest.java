@@ -0,0 +1,97 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import schemacrawler.ermodel.model.ERModel;
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.ai.mcpserver.CatalogReloader;
+import schemacrawler.tools.ai.mcpserver.SchemaFingerprint;
+import schemacrawler.tools.ai.mcpserver.server.CatalogSnapshotService;
+import schemacrawler.tools.ai.tools.CatalogSnapshot;
+import us.fatehi.test.utility.TestObjectUtility;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@SpringJUnitConfig(
+    classes = {CatalogSnapshotService.class, CatalogSnapshotServiceTest.MockConfig.class})
+public class CatalogSnapshotServiceTest {
+
+  private static final AtomicInteger tableHash = new AtomicInteger();
+
+  @TestConfiguration
+  static class MockConfig {
+    @Bean
+    Catalog catalog() {
+      return mock(Catalog.class);
+    }
+
+    @Bean
+    CatalogReloader catalogReloader() {
+      return new CatalogReloader(
+          () -> mock(Catalog.class),
+          Duration.ZERO,
+          catalog -> new SchemaFingerprint(Map.of("TABLE PUBLIC.BOOKS", tableHash.get())),
+          null);
+    }
+
+    @Bean
+    ERModel erModel() {
+      return TestObjectUtility.makeTestObject(ERModel.class);
+    }
+  }
+
+  @Autowired private CatalogSnapshotService catalogSnapshotService;
+
+  @Test
+  public void refresh() {
+    assertThat(catalogSnapshotService.canRefresh(), is(true));
+
+    final CatalogSnapshot initialSnapshot = catalogSnapshotService.current();
+    final Catalog initialCatalog = initialSnapshot.catalog();
+
+    tableHash.incrementAndGet();
+    assertThat(catalogSnapshotService.refresh(), is(true));
+
+    final CatalogSnapshot refreshedSnapshot = catalogSnapshotService.current();
+    assertThat(refreshedSnapshot.version(), is(initialSnapshot.version() + 1));
+    assertThat(refreshedSnapshot.catalog(), is(not(sameInstance(initialCatalog))));
+    // Earlier snapshot is unchanged for calls that are still using it
+    assertThat(initialSnapshot.catalog(), is(sameInstance(initialCatalog)));
+  }
+
+  @Test
+  public void refreshOnlyOnChanges() {
+    // Forced refresh records the baseline
+    assertThat(catalogSnapshotService.refresh(true), is(true));
+    final CatalogSnapshot snapshot = catalogSnapshotService.current();
+
+    // Nothing changed in the database
+    assertThat(catalogSnapshotService.refresh(), is(false));
+    assertThat(catalogSnapshotService.current(), is(sameInstance(snapshot)));
+
+    tableHash.incrementAndGet();
+    assertThat(catalogSnapshotService.refresh(), is(true));
+    assertThat(catalogSnapshotService.current().version(), is(snapshot.version() + 1));
+  }
+}
@@ -30,6 +30,7 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import schemacrawler.tools.ai.mcpserver.ExcludeTools;
 import schemacrawler.tools.ai.mcpserver.McpServerTransportType;
 import schemacrawler.tools.ai.mcpserver.server.ServerHealth;
+import schemacrawler.tools.ai.tools.FunctionReturnCache;
 import schemacrawler.tools.ai.utility.SchemaCrawlerAiVersion;
 
 @TestInstance(Lifecycle.PER_CLASS)
@@ -49,6 +50,11 @@ public class ServerHealthTest {
       return new ExcludeTools();
     }
 
+    @Bean
+    FunctionReturnCache functionReturnCache() {
+      return new FunctionReturnCache(10, Duration.ofMinutes(1));
+    }
+
     @Bean
     boolean isInErrorState() {
       return false;
@@ -69,6 +75,7 @@ public class ServerHealthTest {
 
   @Test
   @DisplayName("ServerHealth.currentState should include expected keys and values")
+  @SuppressWarnings("unchecked")
   public void currentState_hasExpectedEntries() {
     final Map<String, Object> state = serverHealth.currentState();
 
@@ -81,12 +88,16 @@ public class ServerHealthTest {
             "in-error-state",
             "server-uptime",
             "transport",
-            "exclude-tools"));
+            "exclude-tools",
+            "result-cache"));
 
     assertThat(state.get("_server"), is(new SchemaCrawlerAiVersion().toString()));
     assertThat(state.get("in-error-state"), is(false));
     assertThat(state.get("transport"), is("http"));
     assertThat(state.get("exclude-tools"), is(Collections.emptySet()));
+    final Map<String, Object> resultCache = (Map<String, Object>) state.get("result-cache");
+    assertThat(resultCache.get("hits"), is(0L));
+    assertThat(resultCache.get("max-size"), is(10));
 
     // server-uptime should be a valid ISO-8601 duration (e.g., PT123S)
     final String uptimeStr = String.valueOf(state.get("server-uptime"));
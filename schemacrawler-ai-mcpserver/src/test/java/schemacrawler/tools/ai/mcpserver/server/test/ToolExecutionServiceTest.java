@@ -0,0 +1,134 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.ai.mcpserver.server.ToolExecutionService;
+import schemacrawler.tools.ai.mcpserver.server.ToolExecutionService.ToolExecutionLimit;
+import schemacrawler.tools.ai.tools.FunctionReturn;
+import schemacrawler.tools.ai.tools.TextFunctionReturn;
+
+@DisplayName("Tool execution tests")
+public class ToolExecutionServiceTest {
+
+  private ToolExecutionService toolExecutionService;
+
+  @BeforeEach
+  public void createService() {
+    toolExecutionService = new ToolExecutionService();
+  }
+
+  @AfterEach
+  public void shutdownService() {
+    toolExecutionService.shutdown();
+  }
+
+  @Test
+  @DisplayName("Limited tools queue without blocking unlimited tools")
+  public void limitedToolDoesNotBlockOthers() throws Exception {
+    final ToolExecutionLimit slowLimit =
+        new ToolExecutionLimit("slow", new Semaphore(1), Duration.ofSeconds(10));
+    final ToolExecutionLimit fastLimit =
+        new ToolExecutionLimit("fast", null, Duration.ofSeconds(10));
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<FunctionReturn> slowCall =
+        CompletableFuture.supplyAsync(
+            () ->
+                toolExecutionService.execute(
+                    slowLimit,
+                    () -> {
+                      started.countDown();
+                      release.await();
+                      return new TextFunctionReturn("slow");
+                    }));
+    started.await();
+
+    // A second call to the slow tool waits for a permit, and times out
+    final ToolExecutionLimit queuedLimit =
+        new ToolExecutionLimit("slow", slowLimit.permits(), Duration.ofMillis(200));
+    assertThrows(
+        ExecutionRuntimeException.class,
+        () -> toolExecutionService.execute(queuedLimit, () -> new TextFunctionReturn("queued")));
+
+    // Other tools are not held up
+    final FunctionReturn fastReturn =
+        toolExecutionService.execute(fastLimit, () -> new TextFunctionReturn("fast"));
+    assertThat(fastReturn.get(), is("fast"));
+
+    release.countDown();
+    assertThat(slowCall.get().get(), is("slow"));
+    assertThat(slowLimit.permits().availablePermits(), is(1));
+  }
+
+  @Test
+  @DisplayName("Exceptions from tools are rethrown")
+  public void rethrowsExceptions() {
+    final ToolExecutionLimit limit = new ToolExecutionLimit("bad", null, Duration.ofSeconds(10));
+    final IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                toolExecutionService.execute(
+                    limit,
+                    () -> {
+                      throw new IllegalArgumentException("Bad arguments");
+                    }));
+    assertThat(exception.getMessage(), is("Bad arguments"));
+  }
+
+  @Test
+  @DisplayName("Tools run on virtual threads")
+  public void runsOnVirtualThreads() {
+    final ToolExecutionLimit limit = new ToolExecutionLimit("tool", null, Duration.ofSeconds(10));
+    final FunctionReturn functionReturn =
+        toolExecutionService.execute(
+            limit, () -> new TextFunctionReturn(Thread.currentThread().isVirtual() ? "yes" : "no"));
+    assertThat(functionReturn.get(), is("yes"));
+  }
+
+  @Test
+  @DisplayName("Slow tools are interrupted after the timeout")
+  public void timesOut() throws Exception {
+    final ToolExecutionLimit limit =
+        new ToolExecutionLimit("slow", new Semaphore(1), Duration.ofMillis(200));
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final ExecutionRuntimeException exception =
+        assertThrows(
+            ExecutionRuntimeException.class,
+            () ->
+                toolExecutionService.execute(
+                    limit,
+                    () -> {
+                      try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                      } catch (final InterruptedException e) {
+                        interrupted.countDown();
+                      }
+                      return new TextFunctionReturn("slow");
+                    }));
+    assertThat(exception.getMessage(), is("Tool <slow> did not complete within <PT0.2S>"));
+    interrupted.await();
+    // Wait for the interrupted call to give back its permit
+    limit.permits().acquire();
+  }
+}
@@ -29,8 +29,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import schemacrawler.ermodel.model.ERModel;
 import schemacrawler.schema.Catalog;
+import schemacrawler.tools.ai.mcpserver.server.CatalogSnapshotService;
 import schemacrawler.tools.ai.mcpserver.server.DatabaseConnectionService;
+import schemacrawler.tools.ai.mcpserver.server.ToolExecutionService;
 import schemacrawler.tools.ai.mcpserver.server.ToolHelper;
+import schemacrawler.tools.ai.mcpserver.server.ToolMetricsService;
 import schemacrawler.tools.ai.mcpserver.utility.InErrorFactory;
 import schemacrawler.tools.ai.tools.FunctionDefinition;
 import schemacrawler.tools.ai.tools.FunctionExecutor;
@@ -46,7 +49,14 @@ import us.fatehi.utility.property.PropertyName;
 
 @TestInstance(Lifecycle.PER_CLASS)
 @SpringJUnitConfig(
-    classes = {ToolHelperTest.MockConfig.class, ToolHelper.class, DatabaseConnectionService.class})
+    classes = {
+      ToolHelperTest.MockConfig.class,
+      ToolHelper.class,
+      CatalogSnapshotService.class,
+      DatabaseConnectionService.class,
+      ToolExecutionService.class,
+      ToolMetricsService.class
+    })
 public class ToolHelperTest {
 
   /** Trivial function definition whose executor returns a fixed text. */
@@ -0,0 +1,96 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.server.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import schemacrawler.tools.ai.mcpserver.server.LatencyHistogram;
+import schemacrawler.tools.ai.mcpserver.server.ToolMetrics;
+import schemacrawler.tools.ai.mcpserver.server.ToolMetricsService;
+
+@DisplayName("Tool metrics tests")
+public class ToolMetricsServiceTest {
+
+  @Test
+  @DisplayName("Percentiles are within bucket precision")
+  public void histogramPercentiles() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.percentile(0.5), is(0L));
+
+    for (long i = 1; i <= 1_000; i++) {
+      histogram.record(i * 1_000);
+    }
+
+    assertThat(histogram.count(), is(1_000L));
+    assertThat(histogram.max(), is(1_000_000L));
+    assertThat(
+        histogram.percentile(0.50),
+        allOf(greaterThanOrEqualTo(500_000L), lessThanOrEqualTo(562_500L)));
+    assertThat(
+        histogram.percentile(0.99),
+        allOf(greaterThanOrEqualTo(990_000L), lessThanOrEqualTo(1_000_000L)));
+    assertThat(histogram.percentile(1.0), is(1_000_000L));
+  }
+
+  @Test
+  @DisplayName("Small values are recorded exactly")
+  public void histogramSmallValues() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(3);
+    histogram.record(7);
+
+    assertThat(histogram.percentile(0.0), is(0L));
+    assertThat(histogram.percentile(0.5), is(3L));
+    assertThat(histogram.percentile(1.0), is(7L));
+  }
+
+  @Test
+  @DisplayName("Calls, errors and response sizes are counted by tool")
+  @SuppressWarnings("unchecked")
+  public void toolMetrics() {
+    final ToolMetricsService toolMetricsService = new ToolMetricsService();
+    final ToolMetrics metrics = toolMetricsService.metricsFor("list");
+    assertThat(toolMetricsService.metricsFor("list"), is(sameInstance(metrics)));
+    toolMetricsService.metricsFor("never-called");
+
+    metrics.recordExecution(TimeUnit.MILLISECONDS.toNanos(5));
+    metrics.recordCall(TimeUnit.MILLISECONDS.toNanos(8), "12345678", false);
+    metrics.recordCall(TimeUnit.MILLISECONDS.toNanos(2), "é", true);
+
+    assertThat(metrics.calls(), is(2L));
+    assertThat(metrics.errors(), is(1L));
+    assertThat(metrics.responseBytes(), is(10L));
+    assertThat(metrics.responseTokens(), is(3L));
+    assertThat(metrics.execution().count(), is(1L));
+    assertThat(metrics.latency().max(), is(8_000L));
+
+    final Map<String, Object> currentMetrics = toolMetricsService.currentMetrics();
+    assertThat(currentMetrics, not(hasKey("catalog")));
+    final Map<String, Object> tools = (Map<String, Object>) currentMetrics.get("tools");
+    assertThat(tools, hasKey("list"));
+    assertThat(tools, not(hasKey("never-called")));
+
+    final Map<String, Object> listMetrics = (Map<String, Object>) tools.get("list");
+    assertThat(listMetrics.get("error-rate"), is(0.5));
+    final Map<String, Object> latency = (Map<String, Object>) listMetrics.get("latency-ms");
+    assertThat(latency.get("max"), is(8.0));
+  }
+}
@@ -28,15 +28,25 @@ import schemacrawler.ermodel.model.ERModel;
 import schemacrawler.schema.Catalog;
 import schemacrawler.tools.ai.mcpserver.ExcludeTools;
 import schemacrawler.tools.ai.mcpserver.McpServerTransportType;
+import schemacrawler.tools.ai.mcpserver.server.CatalogSnapshotService;
 import schemacrawler.tools.ai.mcpserver.server.ServerHealth;
+import schemacrawler.tools.ai.mcpserver.server.ToolExecutionService;
 import schemacrawler.tools.ai.mcpserver.server.ToolHelper;
+import schemacrawler.tools.ai.mcpserver.server.ToolMetricsService;
 import schemacrawler.tools.ai.mcpserver.server.ToolProvider;
 import schemacrawler.tools.ai.mcpserver.utility.InErrorFactory;
 import schemacrawler.tools.ai.tools.FunctionDefinitionRegistry;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 @TestInstance(Lifecycle.PER_CLASS)
-@SpringJUnitConfig(classes = {ToolProvider.class, ToolProviderTest.MockConfig.class})
+@SpringJUnitConfig(
+    classes = {
+      ToolProvider.class,
+      ToolProviderTest.MockConfig.class,
+      CatalogSnapshotService.class,
+      ToolExecutionService.class,
+      ToolMetricsService.class
+    })
 public class ToolProviderTest {
 
   @TestConfiguration
@@ -93,7 +103,7 @@ public class ToolProviderTest {
     }
   }
 
-  private static final int NUM_TOOLS = 10;
+  private static final int NUM_TOOLS = 13;
 
   @Autowired private ToolProvider toolProvider;
 
@@ -114,9 +124,12 @@ public class ToolProviderTest {
             "describe_routines",
             "describe_tables",
             "diagram",
+            "find_join_path",
+            "impact_analysis",
             "lint",
             "list",
             "list_across_tables",
+            "search_schema",
             "table_sample"));
   }
 }
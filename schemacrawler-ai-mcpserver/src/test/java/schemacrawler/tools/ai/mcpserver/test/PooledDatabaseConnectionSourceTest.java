@@ -0,0 +1,120 @@
+/*
+ * SchemaCrawler AI
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: BUSL-1.1
+ */
+
+package schemacrawler.tools.ai.mcpserver.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.ai.mcpserver.utility.PooledDatabaseConnectionSource;
+import schemacrawler.tools.ai.mcpserver.utility.PooledDatabaseConnectionSource.PoolOptions;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+public class PooledDatabaseConnectionSourceTest {
+
+  private static Connection newConnection() throws SQLException {
+    final Connection connection = mock(Connection.class);
+    when(connection.isValid(anyInt())).thenReturn(true);
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(connection.unwrap(Connection.class)).thenReturn(connection);
+    return connection;
+  }
+
+  private DatabaseConnectionSource connectionSource;
+  private PooledDatabaseConnectionSource pool;
+
+  @BeforeEach
+  public void createPool() throws Exception {
+    connectionSource = mock(DatabaseConnectionSource.class);
+    when(connectionSource.get())
+        .thenReturn(newConnection(), newConnection(), newConnection(), newConnection());
+    // No minimum size, so the pool does not open connections in the background
+    pool =
+        new PooledDatabaseConnectionSource(
+            connectionSource,
+            new PoolOptions(
+                0, 2, Duration.ofMillis(100), Duration.ofMinutes(10), Duration.ofMinutes(5)));
+  }
+
+  @AfterEach
+  public void closePool() throws Exception {
+    pool.close();
+  }
+
+  @Test
+  public void discardsInvalidConnections() throws Exception {
+    final Connection first = pool.get();
+    final Connection physicalConnection = first.unwrap(Connection.class);
+    first.close();
+
+    when(physicalConnection.isValid(anyInt())).thenReturn(false);
+    try (final Connection second = pool.get()) {
+      assertThat(second.unwrap(Connection.class), is(not(sameInstance(physicalConnection))));
+    }
+    verify(physicalConnection).close();
+    verify(connectionSource, times(2)).get();
+  }
+
+  @Test
+  public void limitsPoolSize() throws Exception {
+    final Connection first = pool.get();
+    final Connection second = pool.get();
+    assertThat(pool.activeCount(), is(2));
+
+    assertThrows(ExecutionRuntimeException.class, () -> pool.get());
+
+    second.close();
+    try (final Connection third = pool.get()) {
+      assertThat(pool.activeCount(), is(2));
+    }
+    first.close();
+    assertThat(pool.activeCount(), is(0));
+    assertThat(pool.idleCount(), is(2));
+  }
+
+  @Test
+  public void releasedConnectionsCannotBeUsed() throws Exception {
+    final Connection connection = pool.get();
+    assertThat(connection.isClosed(), is(false));
+    connection.close();
+
+    assertThat(connection.isClosed(), is(true));
+    assertThrows(SQLException.class, () -> connection.createStatement());
+    // Closing again does not return the connection to the pool twice
+    connection.close();
+    assertThat(pool.idleCount(), is(1));
+    assertThat(pool.releaseConnection(connection), is(false));
+  }
+
+  @Test
+  public void reusesConnections() throws Exception {
+    final Connection physicalConnection;
+    try (final Connection connection = pool.get()) {
+      physicalConnection = connection.unwrap(Connection.class);
+    }
+    try (final Connection connection = pool.get()) {
+      assertThat(connection.unwrap(Connection.class), is(sameInstance(physicalConnection)));
+    }
+    verify(connectionSource, times(1)).get();
+  }
+}